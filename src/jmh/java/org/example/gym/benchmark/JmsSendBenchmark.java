@@ -0,0 +1,126 @@
+package org.example.gym.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import javax.jms.Connection;
+import javax.jms.JMSException;
+import javax.jms.Session;
+import org.apache.activemq.ActiveMQConnectionFactory;
+import org.apache.activemq.broker.BrokerService;
+import org.apache.activemq.broker.TransportConnector;
+import org.example.gym.config.JmsConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.jms.connection.CachingConnectionFactory;
+import org.springframework.jms.core.JmsTemplate;
+
+/**
+ * Send throughput of {@link JmsTemplate#convertAndSend(String, Object)} against an embedded ActiveMQ broker
+ * reached over TCP on the loopback interface.
+ *
+ * <p>{@link #perSendConnection()} reproduces the previous configuration, where the template used a bare
+ * {@link ActiveMQConnectionFactory} and opened a connection, session and producer for every message.
+ * {@link #cachedConnection()} uses a {@link CachingConnectionFactory} configured like
+ * {@link JmsConfig#connectionFactory()}. Both run with synchronous and asynchronous sends. A listener
+ * drains the queue, so the broker never throttles the producers.</p>
+ *
+ * <p>Run with {@code ./gradlew jmh}.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class JmsSendBenchmark {
+
+    private static final String QUEUE = "trainer.training.update";
+    private static final String PAYLOAD = "{\"trainerUsername\":\"John.Doe\",\"trainerFirstName\":\"John\","
+            + "\"trainerLastName\":\"Doe\",\"isActive\":true,\"trainingDate\":\"2024-05-01T10:00:00\","
+            + "\"trainingDuration\":60,\"actionType\":\"ADD\"}";
+
+    @Param({"false", "true"})
+    public boolean asyncSend;
+
+    private BrokerService broker;
+    private Connection consumerConnection;
+    private CachingConnectionFactory cachingConnectionFactory;
+    private JmsTemplate perSendTemplate;
+    private JmsTemplate cachedTemplate;
+
+    /**
+     * Starts the broker, a draining consumer and both templates under test.
+     *
+     * @throws Exception if the broker cannot be started
+     */
+    @Setup
+    public void setUp() throws Exception {
+        broker = new BrokerService();
+        broker.setBrokerName("benchmark");
+        broker.setPersistent(false);
+        broker.setUseJmx(false);
+        TransportConnector connector = broker.addConnector("tcp://127.0.0.1:0");
+        broker.start();
+        broker.waitUntilStarted();
+        String brokerUrl = connector.getPublishableConnectString();
+
+        consumerConnection = new ActiveMQConnectionFactory(brokerUrl).createConnection();
+        Session session = consumerConnection.createSession(false, Session.AUTO_ACKNOWLEDGE);
+        session.createConsumer(session.createQueue(QUEUE)).setMessageListener(message -> { });
+        consumerConnection.start();
+
+        perSendTemplate = new JmsTemplate(activeMqConnectionFactory(brokerUrl));
+
+        cachingConnectionFactory = new CachingConnectionFactory(activeMqConnectionFactory(brokerUrl));
+        cachingConnectionFactory.setSessionCacheSize(10);
+        cachingConnectionFactory.setCacheProducers(true);
+        cachedTemplate = new JmsTemplate(cachingConnectionFactory);
+    }
+
+    /**
+     * Stops the templates' connections, the consumer and the broker.
+     *
+     * @throws Exception if the broker cannot be stopped
+     */
+    @TearDown
+    public void tearDown() throws Exception {
+        cachingConnectionFactory.destroy();
+        closeQuietly(consumerConnection);
+        broker.stop();
+        broker.waitUntilStopped();
+    }
+
+    /**
+     * Sends a message through a new connection, session and producer.
+     */
+    @Benchmark
+    public void perSendConnection() {
+        perSendTemplate.convertAndSend(QUEUE, PAYLOAD);
+    }
+
+    /**
+     * Sends a message through the shared connection and a cached session and producer.
+     */
+    @Benchmark
+    public void cachedConnection() {
+        cachedTemplate.convertAndSend(QUEUE, PAYLOAD);
+    }
+
+    private ActiveMQConnectionFactory activeMqConnectionFactory(String brokerUrl) {
+        ActiveMQConnectionFactory connectionFactory = new ActiveMQConnectionFactory(brokerUrl);
+        connectionFactory.setUseAsyncSend(asyncSend);
+        connectionFactory.setProducerWindowSize(1024 * 1024);
+        return connectionFactory;
+    }
+
+    private static void closeQuietly(Connection connection) {
+        try {
+            connection.close();
+        } catch (JMSException e) {
+            // The broker is stopped next anyway.
+        }
+    }
+}
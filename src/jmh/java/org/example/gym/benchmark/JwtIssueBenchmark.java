@@ -0,0 +1,81 @@
+package org.example.gym.benchmark;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.example.gym.config.security.JwtUtils;
+import org.example.gym.config.security.SecurityConstants;
+import org.example.gym.config.security.TokenRevocationCache;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+/**
+ * Token-issue throughput of {@link JwtUtils#generateToken(UserDetails)}.
+ *
+ * <p>{@link #perCallKey()} reproduces the previous implementation, which decoded the secret and
+ * resolved the key, algorithm and serializer for every token. {@link #precomputed()} measures the
+ * current implementation, which resolves them once.</p>
+ *
+ * <p>Run with {@code ./gradlew jmh}.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class JwtIssueBenchmark {
+
+    private static final String SECRET = "fslmkdksmfkdsmkcmlxzmckdsffewtovmcnirefdgsdfwefw";
+
+    private JwtUtils jwtUtils;
+    private UserDetails userDetails;
+
+    /**
+     * Builds the utilities under test and a representative user.
+     */
+    @Setup
+    public void setUp() {
+        jwtUtils = new JwtUtils(null, new TokenRevocationCache(1, 1), SECRET);
+        userDetails = User.withUsername("John.Doe")
+                .password("password")
+                .authorities("ROLE_TRAINEE")
+                .build();
+    }
+
+    /**
+     * Issues a token the way it was done before the key material was precomputed.
+     *
+     * @return the issued token
+     */
+    @Benchmark
+    public String perCallKey() {
+        return Jwts.builder()
+                .setSubject(userDetails.getUsername())
+                .claim(SecurityConstants.ROLES, userDetails.getAuthorities().stream()
+                        .map(GrantedAuthority::getAuthority)
+                        .collect(Collectors.toList()))
+                .setIssuedAt(new Date())
+                .setExpiration(new Date(System.currentTimeMillis() + SecurityConstants.EXPIRATION_TIME))
+                .signWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET)))
+                .compact();
+    }
+
+    /**
+     * Issues a token through {@link JwtUtils}, which reuses the precomputed key material.
+     *
+     * @return the issued token
+     */
+    @Benchmark
+    public String precomputed() {
+        return jwtUtils.generateToken(userDetails);
+    }
+}
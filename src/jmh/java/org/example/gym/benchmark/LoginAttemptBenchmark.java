@@ -0,0 +1,81 @@
+package org.example.gym.benchmark;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.example.gym.service.InMemoryLoginAttemptStore;
+import org.example.gym.service.LoginAttemptService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Contention benchmark for failed-login bookkeeping.
+ *
+ * <p>{@link #legacyMap()} reproduces the previous implementation, an unbounded map updated with a
+ * non-atomic read-then-write. {@link #slidingWindow()} measures {@link LoginAttemptService} backed by
+ * the {@link InMemoryLoginAttemptStore}. With {@code addresses = 1} every thread hammers the same IP
+ * address; with a large value the calls are spread the way a distributed attack would spread them.</p>
+ *
+ * <p>Run with {@code ./gradlew jmh}.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(8)
+public class LoginAttemptBenchmark {
+
+    @Param({"1", "100000"})
+    private int addresses;
+
+    private String[] ipAddresses;
+    private ConcurrentHashMap<String, Integer> attemptsByIp;
+    private LoginAttemptService loginAttemptService;
+
+    /**
+     * Prepares the IP addresses and both implementations.
+     */
+    @Setup
+    public void setUp() {
+        ipAddresses = new String[addresses];
+        for (int i = 0; i < addresses; i++) {
+            ipAddresses[i] = "10." + (i >> 16 & 0xFF) + "." + (i >> 8 & 0xFF) + "." + (i & 0xFF);
+        }
+        attemptsByIp = new ConcurrentHashMap<>();
+        loginAttemptService = new LoginAttemptService(new InMemoryLoginAttemptStore(10_000, 300_000));
+    }
+
+    /**
+     * Registers a failure the way it was done before.
+     *
+     * @return the stored attempt count
+     */
+    @Benchmark
+    public Integer legacyMap() {
+        String ipAddress = nextAddress();
+        int attempts = attemptsByIp.getOrDefault(ipAddress, 0) + 1;
+        return attemptsByIp.put(ipAddress, attempts);
+    }
+
+    /**
+     * Registers a failure and checks the block through {@link LoginAttemptService}.
+     *
+     * @return whether the IP address is blocked
+     */
+    @Benchmark
+    public boolean slidingWindow() {
+        String ipAddress = nextAddress();
+        loginAttemptService.registerFailedAttemptByIp(ipAddress);
+        return loginAttemptService.isBlocked(ipAddress);
+    }
+
+    private String nextAddress() {
+        return ipAddresses[ThreadLocalRandom.current().nextInt(addresses)];
+    }
+}
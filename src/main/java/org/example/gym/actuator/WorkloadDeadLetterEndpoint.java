@@ -0,0 +1,59 @@
+package org.example.gym.actuator;
+
+import org.example.gym.service.WorkloadDeadLetterReplayService;
+import org.example.gym.service.WorkloadDeadLetterReplayService.ReplayResult;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+/**
+ * Actuator endpoint for replaying the trainer workload dead-letter queue on demand.
+ *
+ * <p>{@code GET /actuator/workloaddlq} returns the counts of the last replay run and
+ * {@code POST /actuator/workloaddlq} starts a run, optionally limited to {@code maxMessages} messages. Like
+ * every actuator endpoint it is only reachable once listed in {@code management.endpoints.web.exposure.include},
+ * which should be done on a management port that is not public. Both operations require the HTTP Basic
+ * credentials of the operator configured in
+ * {@link org.example.gym.config.security.WorkloadDeadLetterSecurityConfig}, the only user granted
+ * {@link org.example.gym.config.security.SecurityConstants#DLQ_REPLAY_AUTHORITY}.</p>
+ */
+@Component
+@Endpoint(id = "workloaddlq")
+public class WorkloadDeadLetterEndpoint {
+
+    private static final int DEFAULT_MAX_MESSAGES = Integer.MAX_VALUE;
+
+    private final WorkloadDeadLetterReplayService replayService;
+
+    /**
+     * Constructs a new {@code WorkloadDeadLetterEndpoint}.
+     *
+     * @param replayService the service replaying the dead-letter queue
+     */
+    public WorkloadDeadLetterEndpoint(WorkloadDeadLetterReplayService replayService) {
+        this.replayService = replayService;
+    }
+
+    /**
+     * Returns the counts of the last replay run.
+     *
+     * @return the counts of the last run, or {@code null} if no run has finished yet
+     */
+    @ReadOperation
+    public ReplayResult lastResult() {
+        return replayService.getLastResult();
+    }
+
+    /**
+     * Replays dead-letter messages, at most the configured batch size per call.
+     *
+     * @param maxMessages the maximum number of messages to read, or {@code null} for a full batch
+     * @return the counts of the run
+     */
+    @WriteOperation
+    public ReplayResult replay(@Nullable Integer maxMessages) {
+        return replayService.replay(maxMessages == null ? DEFAULT_MAX_MESSAGES : maxMessages);
+    }
+}
@@ -2,9 +2,12 @@ package org.example.gym.config;
 
 import javax.jms.ConnectionFactory;
 import org.apache.activemq.ActiveMQConnectionFactory;
+import org.apache.activemq.RedeliveryPolicy;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jms.connection.CachingConnectionFactory;
 import org.springframework.jms.core.JmsTemplate;
 
 /**
@@ -14,24 +17,66 @@ import org.springframework.jms.core.JmsTemplate;
 @Configuration
 public class JmsConfig {
 
+    /**
+     * Name of the connection factory used by the dead-letter replay.
+     */
+    public static final String DEAD_LETTER_REPLAY_CONNECTION_FACTORY = "deadLetterReplayConnectionFactory";
+
     @Value("${spring.activemq.broker-url}")
     String brokerUrl;
     @Value("${spring.activemq.user}")
     String brokerUsername;
     @Value("${spring.activemq.password}")
     String brokerPassword;
+    @Value("${spring.activemq.async-send:false}")
+    boolean useAsyncSend;
+    @Value("${spring.activemq.producer-window-size:1048576}")
+    int producerWindowSize;
+    @Value("${spring.jms.cache.session-cache-size:10}")
+    int sessionCacheSize;
+    @Value("${spring.jms.cache.producers:true}")
+    boolean cacheProducers;
 
     /**
      * Creates and configures a {@link ConnectionFactory} using ActiveMQ settings.
      *
-     * @return a configured instance of {@link ActiveMQConnectionFactory}
+     * <p>The ActiveMQ factory is wrapped in a {@link CachingConnectionFactory}, so that all senders share
+     * one broker connection and reuse up to {@code spring.jms.cache.session-cache-size} sessions and their
+     * producers, instead of opening and closing a connection, session and producer per message. The shared
+     * connection is re-created after a broker failure.</p>
+     *
+     * <p>With {@code spring.activemq.async-send} non-transacted persistent messages are sent without
+     * waiting for the broker's acknowledgement, at most {@code spring.activemq.producer-window-size} bytes
+     * ahead of it. A failed asynchronous send is not reported to the sender, so this is disabled by default;
+     * transacted sessions are confirmed by their commit either way.</p>
+     *
+     * @return a caching connection factory over a configured {@link ActiveMQConnectionFactory}
      */
     @Bean
+    @Primary
     public ConnectionFactory connectionFactory() {
-        ActiveMQConnectionFactory connectionFactory = new ActiveMQConnectionFactory();
-        connectionFactory.setBrokerURL(brokerUrl);
-        connectionFactory.setPassword(brokerUsername);
-        connectionFactory.setUserName(brokerPassword);
+        CachingConnectionFactory cachingConnectionFactory = new CachingConnectionFactory(activeMqConnectionFactory());
+        cachingConnectionFactory.setSessionCacheSize(sessionCacheSize);
+        cachingConnectionFactory.setCacheProducers(cacheProducers);
+        return cachingConnectionFactory;
+    }
+
+    /**
+     * Creates the {@link ConnectionFactory} of the dead-letter replay.
+     *
+     * <p>Every rolled back replay raises the redelivery count of the message it received, and with the default
+     * policy ActiveMQ moves a message to {@code ActiveMQ.DLQ} after six redeliveries, out of reach of the
+     * replay. This factory redelivers without limit, and it is not cached, so the policy only applies to the
+     * replay's own connections.</p>
+     *
+     * @return an {@link ActiveMQConnectionFactory} whose consumers redeliver messages without limit
+     */
+    @Bean(DEAD_LETTER_REPLAY_CONNECTION_FACTORY)
+    public ConnectionFactory deadLetterReplayConnectionFactory() {
+        ActiveMQConnectionFactory connectionFactory = activeMqConnectionFactory();
+        RedeliveryPolicy redeliveryPolicy = new RedeliveryPolicy();
+        redeliveryPolicy.setMaximumRedeliveries(RedeliveryPolicy.NO_MAXIMUM_REDELIVERIES);
+        connectionFactory.setRedeliveryPolicy(redeliveryPolicy);
         return connectionFactory;
     }
 
@@ -47,5 +92,13 @@ public class JmsConfig {
         return new JmsTemplate(connectionFactory);
     }
 
-
+    private ActiveMQConnectionFactory activeMqConnectionFactory() {
+        ActiveMQConnectionFactory connectionFactory = new ActiveMQConnectionFactory();
+        connectionFactory.setBrokerURL(brokerUrl);
+        connectionFactory.setPassword(brokerUsername);
+        connectionFactory.setUserName(brokerPassword);
+        connectionFactory.setUseAsyncSend(useAsyncSend);
+        connectionFactory.setProducerWindowSize(producerWindowSize);
+        return connectionFactory;
+    }
 }
@@ -1,6 +1,10 @@
 package org.example.gym.config.security;
 
-import lombok.RequiredArgsConstructor;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import java.time.Duration;
+import java.time.Instant;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.security.oauth2.jwt.JwtDecoder;
@@ -11,14 +15,34 @@ import org.springframework.security.oauth2.jwt.JwtException;
  * before delegating the actual decoding process.
  * If the token is revoked, a {@link JwtException} is thrown. Otherwise,
  * the decoding is handled by the provided {@link JwtDecoder}.
+ *
+ * <p>Tokens that were already decoded and verified are kept in a size-bounded cache keyed by
+ * the {@link TokenDigest#sha256(String) token digest}. Each entry expires no later than the
+ * {@code exp} claim of its token, so repeated requests with the same bearer token skip parsing
+ * and signature verification.</p>
  */
-@RequiredArgsConstructor
 @Slf4j
 public class CustomJwtDecoder implements JwtDecoder {
 
     private final JwtDecoder delegateDecoder;
     private final JwtUtils jwtUtils;
+    private final Cache<String, Jwt> verifiedTokens;
 
+    /**
+     * Constructs a CustomJwtDecoder.
+     *
+     * @param delegateDecoder the decoder performing parsing and signature verification
+     * @param jwtUtils        the utility class used for revocation checks
+     * @param maxCacheSize    the maximum number of verified tokens kept in memory
+     */
+    public CustomJwtDecoder(JwtDecoder delegateDecoder, JwtUtils jwtUtils, long maxCacheSize) {
+        this.delegateDecoder = delegateDecoder;
+        this.jwtUtils = jwtUtils;
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(maxCacheSize)
+                .expireAfter(new TokenExpiry())
+                .build();
+    }
 
     /**
      * Decodes the provided JWT token after checking if it is revoked.
@@ -33,6 +57,37 @@ public class CustomJwtDecoder implements JwtDecoder {
             log.warn("Token is revoked: {}", token);
             throw new JwtException("Authentication failed: Token is revoked.");
         }
-        return delegateDecoder.decode(token);
+        String key = TokenDigest.sha256(token);
+        Jwt cached = verifiedTokens.getIfPresent(key);
+        if (cached != null && cached.getTokenValue().equals(token)) {
+            return cached;
+        }
+        Jwt jwt = delegateDecoder.decode(token);
+        if (jwt.getExpiresAt() != null) {
+            verifiedTokens.put(key, jwt);
+        }
+        return jwt;
+    }
+
+    /**
+     * Expires every cached token at the instant given by its {@code exp} claim.
+     */
+    private static final class TokenExpiry implements Expiry<String, Jwt> {
+
+        @Override
+        public long expireAfterCreate(String key, Jwt jwt, long currentTime) {
+            long remaining = Duration.between(Instant.now(), jwt.getExpiresAt()).toNanos();
+            return Math.max(0, remaining);
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Jwt jwt, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, jwt, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Jwt jwt, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
     }
 }
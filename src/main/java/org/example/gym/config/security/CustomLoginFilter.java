@@ -5,6 +5,8 @@ import jakarta.servlet.FilterChain;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 import org.example.gym.dto.request.LoginRequestDto;
@@ -13,16 +15,17 @@ import org.example.gym.entity.TokenEntity;
 import org.example.gym.entity.UserEntity;
 import org.example.gym.entity.enums.TokenType;
 import org.example.gym.exeption.ErrorResponse;
+import org.example.gym.exeption.PasswordHashingRejectedException;
 import org.example.gym.service.LoginAttemptService;
 import org.example.gym.service.TokenService;
 import org.example.gym.service.UserService;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.AuthenticationException;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
 import org.springframework.security.web.util.matcher.RequestMatcher;
@@ -135,7 +138,8 @@ public class CustomLoginFilter extends UsernamePasswordAuthenticationFilter {
      *
      * <p>Upon successful authentication, this method generates a JWT token for the authenticated user,
      * revokes any previously issued tokens, and saves the new token to the database. It also resets the failed
-     * login attempt count.</p>
+     * login attempt count. The token is attached to the user through the id carried by {@link GymUserDetails},
+     * so the user is not loaded again.</p>
      *
      * @param request    the HTTP request
      * @param response   the HTTP response
@@ -146,15 +150,16 @@ public class CustomLoginFilter extends UsernamePasswordAuthenticationFilter {
     @Override
     protected void successfulAuthentication(HttpServletRequest request, HttpServletResponse response,
                                             FilterChain chain, Authentication authResult) throws IOException {
-        UserDetails userDetails = (UserDetails) authResult.getPrincipal();
+        GymUserDetails userDetails = (GymUserDetails) authResult.getPrincipal();
         String jwt = jwtUtils.generateToken(userDetails);
 
-        UserEntity user = userService.findByUsername(userDetails.getUsername());
+        UserEntity user = userService.getReferenceById(userDetails.getUserId());
 
         TokenEntity tokenEntity = TokenEntity.builder()
-                .token(jwt)
+                .tokenHash(TokenDigest.sha256(jwt))
                 .tokenType(TokenType.BEARER)
                 .revoked(false)
+                .expiresAt(LocalDateTime.now().plus(SecurityConstants.EXPIRATION_TIME, ChronoUnit.MILLIS))
                 .user(user)
                 .build();
         tokenService.save(tokenEntity);
@@ -162,14 +167,16 @@ public class CustomLoginFilter extends UsernamePasswordAuthenticationFilter {
         response.setContentType(SecurityConstants.CONTENT_TYPE);
         response.getWriter().write(objectMapper.writeValueAsString(new JwtResponseDto(jwt)));
 
-        loginAttemptService.resetAttemptsByIp(userDetails.getUsername());
+        loginAttemptService.resetAttemptsByIp(request.getRemoteAddr());
     }
 
     /**
      * Handles unsuccessful authentication by tracking failed login attempts.
      *
      * <p>If authentication fails, this method responds with an unauthorized status and message.
-     * It also increments the failed login attempts for the user.</p>
+     * It also increments the failed login attempts for the user. A login rejected because the password
+     * hashing pool is saturated is answered with {@code 503 Service Unavailable} and is not counted as a
+     * failed attempt.</p>
      *
      * @param request  the HTTP request
      * @param response the HTTP response
@@ -181,6 +188,15 @@ public class CustomLoginFilter extends UsernamePasswordAuthenticationFilter {
                                               AuthenticationException failed) throws IOException {
         String ipAddress = request.getRemoteAddr();
         ErrorResponse responseDto;
+        if (failed instanceof PasswordHashingRejectedException) {
+            response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+            response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+            response.setContentType(SecurityConstants.CONTENT_TYPE);
+            responseDto = new ErrorResponse("Login is temporarily unavailable, please retry",
+                    HttpStatus.SERVICE_UNAVAILABLE);
+            objectMapper.writeValue(response.getWriter(), responseDto);
+            return;
+        }
         response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
         response.setContentType(SecurityConstants.CONTENT_TYPE);
         responseDto = new ErrorResponse("Invalid username or password",
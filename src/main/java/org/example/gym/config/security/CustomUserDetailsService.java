@@ -8,6 +8,7 @@ import org.springframework.context.annotation.Lazy;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
@@ -16,9 +17,12 @@ import org.springframework.stereotype.Service;
  * Custom implementation of the {@link UserDetailsService} interface.
  * This service is responsible for loading user-specific data during the authentication process.
  * required by Spring Security.</p>
+ *
+ * <p>It also implements {@link UserDetailsPasswordService}, which Spring Security calls after a successful
+ * login when the stored hash was created with a weaker work factor than the configured one.</p>
  */
 @Service
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
     private final UserService userService;
 
@@ -38,14 +42,32 @@ public class CustomUserDetailsService implements UserDetailsService {
      * information. It queries the {@link UserRepository} for the given username, and if the user is
      *
      * @param username the username of the user to be loaded
-     * @return a {@link UserDetails} object containing the user's information
+     * @return a {@link GymUserDetails} object containing the user's information and id
      * @throws UsernameNotFoundException if no user is found with the given username
      */
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
         UserEntity userEntity = userService.findByUsername(username);
 
-        return new User(userEntity.getUsername(), userEntity.getPassword(),
+        return new GymUserDetails(userEntity.getId(), userEntity.getUsername(), userEntity.getPassword(),
                 Collections.singleton(new SimpleGrantedAuthority(userEntity.getRole().toString())));
     }
+
+    /**
+     * Replaces the stored password hash of the user with a re-encoded one.
+     *
+     * @param user        the authenticated user
+     * @param newPassword the password encoded with the current work factor
+     * @return the user details carrying the new password hash
+     */
+    @Override
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        userService.updatePasswordHash(user.getUsername(), newPassword);
+        if (user instanceof GymUserDetails gymUser) {
+            return gymUser.withPassword(newPassword);
+        }
+        return User.withUserDetails(user)
+                .password(newPassword)
+                .build();
+    }
 }
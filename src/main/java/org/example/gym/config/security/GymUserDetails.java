@@ -0,0 +1,42 @@
+package org.example.gym.config.security;
+
+import java.util.Collection;
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+/**
+ * {@link User} that also carries the database id of the user.
+ *
+ * <p>The id lets the login filter attach the issued token to the user without loading the user
+ * a second time.</p>
+ */
+@Getter
+public class GymUserDetails extends User {
+
+    private final Long userId;
+
+    /**
+     * Constructs the user details.
+     *
+     * @param userId      the database id of the user
+     * @param username    the username
+     * @param password    the encoded password
+     * @param authorities the granted authorities
+     */
+    public GymUserDetails(Long userId, String username, String password,
+                          Collection<? extends GrantedAuthority> authorities) {
+        super(username, password, authorities);
+        this.userId = userId;
+    }
+
+    /**
+     * Returns a copy of these user details with another password.
+     *
+     * @param password the encoded password of the copy
+     * @return the copy
+     */
+    public GymUserDetails withPassword(String password) {
+        return new GymUserDetails(userId, getUsername(), password, getAuthorities());
+    }
+}
@@ -1,9 +1,15 @@
 package org.example.gym.config.security;
 
+import io.jsonwebtoken.JwtBuilder;
 import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.io.Serializer;
+import io.jsonwebtoken.jackson.io.JacksonSerializer;
 import io.jsonwebtoken.security.Keys;
 import java.util.Date;
+import java.util.Map;
+import java.util.UUID;
 import java.util.stream.Collectors;
 import javax.crypto.KeyGenerator;
 import javax.crypto.SecretKey;
@@ -26,14 +32,19 @@ import org.springframework.stereotype.Component;
  * <p>The class uses a securely generated secret key for signing and verifying tokens,
  * and it supports automatic expiration and invalidation of tokens. The secret key is generated
  * using a secure algorithm and is encoded in Base64 format.</p>
+ *
+ * <p>The key material, the signature algorithm and the JSON serializer are resolved once at
+ * construction time and shared by every token issued afterwards.</p>
  */
 @Component
 @Slf4j
 public class JwtUtils {
 
-    @Value("${spring.jwt.secret}")
-    private String secretKey;
     private final TokenService tokenService;
+    private final TokenRevocationCache revocationCache;
+    private final SecretKey signingKey;
+    private final SignatureAlgorithm signatureAlgorithm;
+    private final Serializer<Map<String, ?>> serializer;
 
     /**
      * Constructs a JwtUtils object, generating a secret key for signing JWT tokens.
@@ -41,71 +52,92 @@ public class JwtUtils {
      * <p>The secret key is generated using the specified algorithm in the {@link SecurityConstants#KEY_GEN}
      * constant and encoded in Base64 format. The key is securely generated using {@link KeyGenerator}.</p>
      *
-     * @param tokenService The TokenService used to manage tokens.
+     * @param tokenService    The TokenService used to manage tokens.
+     * @param revocationCache The cache of token revocation states kept in front of the TokenService.
+     * @param secretKey       The Base64 encoded secret used for signing and verifying tokens.
      */
-    public JwtUtils(TokenService tokenService) {
+    public JwtUtils(TokenService tokenService, TokenRevocationCache revocationCache,
+                    @Value("${spring.jwt.secret}") String secretKey) {
         this.tokenService = tokenService;
+        this.revocationCache = revocationCache;
+        this.signingKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secretKey));
+        this.signatureAlgorithm = SignatureAlgorithm.forSigningKey(signingKey);
+        this.serializer = new JacksonSerializer<>();
     }
 
-
-
     /**
      * Generates a JWT token for the given user details.
      *
-     * <p>The generated token includes the username (subject), the issued date, and an expiration
-     * date set according to {@link SecurityConstants#EXPIRATION_TIME}. The token is signed using
-     * the securely generated secret key.</p>
+     * <p>The generated token includes a unique token id ({@code jti}), the username (subject), the issued
+     * date, and an expiration date set according to {@link SecurityConstants#EXPIRATION_TIME}. The token
+     * is signed using the securely generated secret key.</p>
      *
      * @param userDetails the user details for whom the token is to be generated.
      * @return the generated JWT token as a string.
      */
     public String generateToken(UserDetails userDetails) {
-        return Jwts.builder()
+        long now = System.currentTimeMillis();
+        return newBuilder()
+                .setId(UUID.randomUUID().toString())
                 .setSubject(userDetails.getUsername())
                 .claim(SecurityConstants.ROLES, userDetails.getAuthorities().stream()
                         .map(GrantedAuthority::getAuthority)
                         .collect(Collectors.toList()))
-                .setIssuedAt(new Date())
-                .setExpiration(new Date(System.currentTimeMillis() + SecurityConstants.EXPIRATION_TIME))
-                .signWith(getKey())
+                .setIssuedAt(new Date(now))
+                .setExpiration(new Date(now + SecurityConstants.EXPIRATION_TIME))
                 .compact();
     }
 
+    /**
+     * Creates a {@link JwtBuilder} preconfigured with the shared signing key, algorithm and serializer.
+     *
+     * <p>Builders are mutable and not thread-safe, so a fresh one is created per token; everything
+     * that is expensive to resolve is reused instead of being looked up on every call.</p>
+     *
+     * @return a new builder ready to receive claims
+     */
+    private JwtBuilder newBuilder() {
+        return Jwts.builder()
+                .serializeToJsonWith(serializer)
+                .signWith(signingKey, signatureAlgorithm);
+    }
+
     /**
      * Checks if a given JWT token has been revoked.
      *
-     * <p>This method queries the TokenService to check if the token is revoked by looking it up in
-     * the repository. If the token is found and marked as revoked, it returns true. If not found,
-     * it assumes the token is revoked.</p>
+     * <p>The state is served from the {@link TokenRevocationCache}. On a cache miss the TokenService is
+     * queried by the {@link TokenDigest digest} of the token: if the token is found and marked as revoked,
+     * it returns true. If not found, it assumes the token is revoked.</p>
      *
      * @param token the JWT token to check.
      * @return true if the token is revoked, false otherwise.
      */
     public boolean isTokenRevoked(String token) {
-        return tokenService.getByToken(token)
-                .map(TokenEntity::isRevoked)
-                .orElse(true);
+        return revocationCache.isRevoked(TokenDigest.sha256(token),
+                tokenHash -> tokenService.getByTokenHash(tokenHash)
+                        .map(TokenEntity::isRevoked)
+                        .orElse(true));
     }
 
 
     /**
      * Retrieves the secret key used for signing and verifying JWT tokens.
      *
-     * <p>This method decodes the Base64 encoded secret key into a {@link SecretKey} that is used
-     * for signing JWT tokens.</p>
+     * <p>The Base64 encoded secret key is decoded into a {@link SecretKey} once, when this
+     * component is constructed.</p>
      *
      * @return the {@link SecretKey} used for JWT signing and verification.
      */
     public SecretKey getKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(secretKey);
-        return Keys.hmacShaKeyFor(keyBytes);
+        return signingKey;
     }
 
     /**
      * Revokes all tokens associated with the given user.
      *
      * <p>This method retrieves all tokens belonging to the specified user and marks them as revoked.
-     * It updates the revoked status of each token and saves the changes to the database.</p>
+     * It updates the revoked status of each token, saves the changes to the database and marks the token
+     * as revoked in the {@link TokenRevocationCache}.</p>
      *
      * @param user the {@link UserEntity} whose tokens are to be revoked.
      */
@@ -113,6 +145,7 @@ public class JwtUtils {
         TokenEntity tokenByUser = tokenService.getTokenByUser(user);
         tokenByUser.setRevoked(true);
         tokenService.save(tokenByUser);
+        revocationCache.markRevoked(tokenByUser.getTokenHash());
         log.debug("token for user {} have been revoked.", user.getUsername());
     }
 
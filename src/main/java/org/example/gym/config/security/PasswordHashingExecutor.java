@@ -0,0 +1,107 @@
+package org.example.gym.config.security;
+
+import jakarta.annotation.PreDestroy;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.example.gym.exeption.PasswordHashingRejectedException;
+import org.example.gym.service.MetricsService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Dedicated, size-limited executor for password hashing.
+ *
+ * <p>BCrypt is deliberately expensive, so a burst of logins would otherwise keep every request thread
+ * busy hashing. Hashing runs on at most {@code user.password.hashing.pool-size} threads with at most
+ * {@code user.password.hashing.queue-capacity} waiting tasks. When the queue is full, or a task does not
+ * complete within {@code user.password.hashing.max-wait-ms}, a {@link PasswordHashingRejectedException}
+ * is thrown immediately and answered with {@code 503 Service Unavailable}.</p>
+ */
+@Component
+@Slf4j
+public class PasswordHashingExecutor {
+
+    private final ThreadPoolExecutor executor;
+    private final MetricsService metricsService;
+    private final long maxWaitMillis;
+
+    /**
+     * Constructs the executor with the configured limits.
+     *
+     * @param metricsService the service providing the hashing metrics
+     * @param poolSize       the number of hashing threads
+     * @param queueCapacity  the maximum number of tasks waiting for a hashing thread
+     * @param maxWaitMillis  how long a caller waits for the result before the task is rejected
+     */
+    public PasswordHashingExecutor(MetricsService metricsService,
+                                   @Value("${user.password.hashing.pool-size:4}") int poolSize,
+                                   @Value("${user.password.hashing.queue-capacity:64}") int queueCapacity,
+                                   @Value("${user.password.hashing.max-wait-ms:2000}") long maxWaitMillis) {
+        this.metricsService = metricsService;
+        this.maxWaitMillis = maxWaitMillis;
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("password-hashing-"),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * Runs the hashing task on a hashing thread and waits for its result.
+     *
+     * @param task the hashing task
+     * @param <T>  the type of the result
+     * @return the result of the task
+     * @throws PasswordHashingRejectedException if the pool is saturated or the result is not available in time
+     */
+    public <T> T execute(Supplier<T> task) {
+        long submittedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                metricsService.getPasswordHashQueueWaitTimer()
+                        .record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+                return task.get();
+            });
+        } catch (RejectedExecutionException e) {
+            throw reject("Password hashing queue is full.");
+        }
+
+        try {
+            return future.get(maxWaitMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(false);
+            throw reject("Password hashing did not complete in time.");
+        } catch (InterruptedException e) {
+            future.cancel(false);
+            Thread.currentThread().interrupt();
+            throw reject("Interrupted while waiting for password hashing.");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Password hashing failed.", e.getCause());
+        }
+    }
+
+    /**
+     * Shuts the hashing threads down when the application context is closed.
+     */
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private PasswordHashingRejectedException reject(String message) {
+        metricsService.getPasswordHashRejectedCounter().increment();
+        log.warn("{} Active: {}, queued: {}.", message, executor.getActiveCount(), executor.getQueue().size());
+        return new PasswordHashingRejectedException(message);
+    }
+}
@@ -0,0 +1,38 @@
+package org.example.gym.config.security;
+
+import org.example.gym.service.MetricsService;
+
+/**
+ * {@link TimedBCryptPasswordEncoder} that hashes on the {@link PasswordHashingExecutor} instead of the calling
+ * thread.
+ *
+ * <p>The hash duration is recorded on the hashing thread, so it does not include the time a task spends
+ * waiting for that thread, which is recorded separately in {@code user_password_hash_queue_wait}.</p>
+ */
+public class PooledBCryptPasswordEncoder extends TimedBCryptPasswordEncoder {
+
+    private final PasswordHashingExecutor hashingExecutor;
+
+    /**
+     * Constructs the encoder with the given work factor.
+     *
+     * @param strength        the BCrypt work factor
+     * @param metricsService  the service providing the hashing timers
+     * @param hashingExecutor the executor running the hash computations
+     */
+    public PooledBCryptPasswordEncoder(int strength, MetricsService metricsService,
+                                       PasswordHashingExecutor hashingExecutor) {
+        super(strength, metricsService);
+        this.hashingExecutor = hashingExecutor;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return hashingExecutor.execute(() -> super.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return hashingExecutor.execute(() -> super.matches(rawPassword, encodedPassword));
+    }
+}
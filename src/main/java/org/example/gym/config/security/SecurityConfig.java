@@ -4,6 +4,8 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import lombok.extern.slf4j.Slf4j;
+import org.example.gym.service.MetricsService;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Lazy;
@@ -94,6 +96,8 @@ public class SecurityConfig {
                 .sessionManagement(session ->
                         session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
+                        .requestMatchers(HttpMethod.POST, "/actuator/**")
+                        .authenticated()
                         .requestMatchers("/trainer/registration",
                                 "/user/login",
                                 "/trainee/registration",
@@ -156,12 +160,13 @@ public class SecurityConfig {
     /**
      * Configures a JwtDecoder for decoding JWT tokens using a secret key.
      *
+     * @param maxCacheSize the maximum number of verified tokens cached by the decoder
      * @return the configured JwtDecoder
      */
     @Bean
-    public JwtDecoder jwtDecoder() {
+    public JwtDecoder jwtDecoder(@Value("${spring.jwt.decoded-cache.max-size:10000}") long maxCacheSize) {
         NimbusJwtDecoder build = NimbusJwtDecoder.withSecretKey(jwtUtils.getKey()).build();
-        return new CustomJwtDecoder(build, jwtUtils);
+        return new CustomJwtDecoder(build, jwtUtils, maxCacheSize);
     }
 
     /**
@@ -197,16 +202,24 @@ public class SecurityConfig {
     /**
      * Defines the authentication provider that Spring Security uses for authenticating users.
      *
-     * <p>This provider uses {@link BCryptPasswordEncoder} for password encoding and a custom
-     * {@link CustomUserDetailsService} to load user details from a data source.</p>
+     * <p>This provider uses the shared {@link BCryptPasswordEncoder} for password encoding and a custom
+     * {@link CustomUserDetailsService} to load user details from a data source. The same service is
+     * registered as the {@code UserDetailsPasswordService}, so a hash minted with a lower work factor than
+     * the configured one is transparently re-encoded after the next successful login. Loaded users are
+     * kept in the {@link UserDetailsCache} for a short time.</p>
      *
+     * @param passwordEncoder  the password encoder shared with the user services
+     * @param userDetailsCache the cache of loaded user details
      * @return the configured AuthenticationProvider bean
      */
     @Bean
-    public AuthenticationProvider authenticationProvider() {
+    public AuthenticationProvider authenticationProvider(BCryptPasswordEncoder passwordEncoder,
+                                                         UserDetailsCache userDetailsCache) {
         DaoAuthenticationProvider provider = new DaoAuthenticationProvider();
-        provider.setPasswordEncoder(new BCryptPasswordEncoder(12));
+        provider.setPasswordEncoder(passwordEncoder);
         provider.setUserDetailsService(userDetailsService);
+        provider.setUserDetailsPasswordService(userDetailsService);
+        provider.setUserCache(userDetailsCache);
 
         return provider;
     }
@@ -228,13 +241,20 @@ public class SecurityConfig {
     /**
      * Provides the password encoder used for encoding and verifying passwords.
      *
-     * <p>This method returns a {@link BCryptPasswordEncoder} that uses a strength of 12 for hashing passwords.</p>
+     * <p>This method returns a {@link PooledBCryptPasswordEncoder} whose work factor is configured by
+     * {@code user.password.bcrypt-strength}. It is the single encoder used both to mint hashes and to
+     * verify them at login, and it runs every hash on the bounded {@link PasswordHashingExecutor}.</p>
      *
+     * @param strength        the BCrypt work factor
+     * @param metricsService  the service recording hashing durations
+     * @param hashingExecutor the executor running the hash computations
      * @return the configured BCryptPasswordEncoder bean
      */
     @Bean
-    public BCryptPasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public BCryptPasswordEncoder passwordEncoder(@Value("${user.password.bcrypt-strength:12}") int strength,
+                                                 MetricsService metricsService,
+                                                 PasswordHashingExecutor hashingExecutor) {
+        return new PooledBCryptPasswordEncoder(strength, metricsService, hashingExecutor);
     }
 
 }
@@ -12,5 +12,6 @@ public class SecurityConstants {
     public static final long EXPIRATION_TIME = 600_000_000;
     public static final int MAX_ATTEMPTS = 3;
     public static final long BLOCK_DURATION = 5 * 60 * 1000;
+    public static final String DLQ_REPLAY_AUTHORITY = "WORKLOAD_DLQ_REPLAY";
 
 }
@@ -0,0 +1,36 @@
+package org.example.gym.config.security;
+
+import org.example.gym.service.MetricsService;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+/**
+ * {@link BCryptPasswordEncoder} that records the duration of every hash computation.
+ *
+ * <p>Encoding and verification are recorded in the {@code user_password_hash_duration} timer, tagged
+ * with the operation, so the work factor can be tuned against login latency and CPU budget.</p>
+ */
+public class TimedBCryptPasswordEncoder extends BCryptPasswordEncoder {
+
+    private final MetricsService metricsService;
+
+    /**
+     * Constructs the encoder with the given work factor.
+     *
+     * @param strength       the BCrypt work factor
+     * @param metricsService the service providing the hashing timers
+     */
+    public TimedBCryptPasswordEncoder(int strength, MetricsService metricsService) {
+        super(strength);
+        this.metricsService = metricsService;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return metricsService.getPasswordEncodeTimer().record(() -> super.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return metricsService.getPasswordMatchTimer().record(() -> super.matches(rawPassword, encodedPassword));
+    }
+}
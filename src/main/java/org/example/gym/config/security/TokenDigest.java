@@ -0,0 +1,36 @@
+package org.example.gym.config.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+/**
+ * Computes fixed-width digests of raw JWT strings.
+ *
+ * <p>Digests are used as keys wherever a token has to be looked up, so that caches never
+ * hold the bearer credential itself and keys have a constant, short length.</p>
+ */
+public final class TokenDigest {
+
+    private static final String ALGORITHM = "SHA-256";
+
+    private TokenDigest() {
+    }
+
+    /**
+     * Returns the URL-safe, unpadded Base64 encoding of the SHA-256 digest of the token.
+     *
+     * @param token the raw JWT string
+     * @return a 43 character digest of the token
+     */
+    public static String sha256(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance(ALGORITHM)
+                    .digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(ALGORITHM + " is not available", e);
+        }
+    }
+}
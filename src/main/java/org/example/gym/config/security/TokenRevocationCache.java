@@ -0,0 +1,68 @@
+package org.example.gym.config.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import java.time.Duration;
+import java.util.function.Predicate;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bounded, TTL-evicting cache of token revocation states.
+ *
+ * <p>Entries are keyed by the {@link TokenDigest#sha256(String) SHA-256 digest} of the token, the same
+ * value that is persisted in {@code tokens.token_hash}, so the cache never holds raw bearer credentials.
+ * A cached state is served until it expires or until the token is explicitly marked as revoked through
+ * {@link #markRevoked(String)}; in steady state the revocation check therefore does not reach the
+ * database at all.</p>
+ */
+@Component
+@Slf4j
+public class TokenRevocationCache {
+
+    private final Cache<String, Boolean> revocations;
+
+    /**
+     * Constructs the cache with the configured capacity and time to live.
+     *
+     * @param maxSize    the maximum number of token states kept in memory
+     * @param ttlSeconds how long a token state is served before it is loaded again
+     */
+    @Autowired
+    public TokenRevocationCache(@Value("${spring.jwt.revocation-cache.max-size:10000}") long maxSize,
+                                @Value("${spring.jwt.revocation-cache.ttl-seconds:300}") long ttlSeconds) {
+        this(maxSize, ttlSeconds, Ticker.systemTicker());
+    }
+
+    TokenRevocationCache(long maxSize, long ttlSeconds, Ticker ticker) {
+        this.revocations = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .ticker(ticker)
+                .build();
+    }
+
+    /**
+     * Returns the revocation state of the token, loading it on a cache miss.
+     *
+     * @param tokenHash the digest of the token
+     * @param loader    resolves the revocation state of a token digest when it is not cached
+     * @return {@code true} if the token is revoked, {@code false} otherwise
+     */
+    public boolean isRevoked(String tokenHash, Predicate<String> loader) {
+        return revocations.get(tokenHash, loader::test);
+    }
+
+    /**
+     * Marks the token as revoked, replacing any cached state.
+     *
+     * @param tokenHash the digest of the token
+     */
+    public void markRevoked(String tokenHash) {
+        revocations.put(tokenHash, Boolean.TRUE);
+        log.debug("Revocation cache updated for revoked token.");
+    }
+}
@@ -0,0 +1,66 @@
+package org.example.gym.config.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import java.time.Duration;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserCache;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bounded, short-lived cache of {@link GymUserDetails} used by the authentication provider.
+ *
+ * <p>A cached entry spares the user lookup of a login; Spring Security reloads the user when the cached
+ * password does not match. Entries expire after {@code user.details-cache.ttl-seconds} and are removed
+ * as soon as the password, status or profile of the user changes. Copies are stored and handed out,
+ * because Spring Security erases the credentials of the authenticated principal after the login.</p>
+ */
+@Component
+@Slf4j
+public class UserDetailsCache implements UserCache {
+
+    private final Cache<String, GymUserDetails> usersByUsername;
+
+    /**
+     * Constructs the cache with the configured capacity and time to live.
+     *
+     * @param maxSize    the maximum number of users kept in memory
+     * @param ttlSeconds how long user details are served before they are loaded again
+     */
+    @Autowired
+    public UserDetailsCache(@Value("${user.details-cache.max-size:10000}") long maxSize,
+                            @Value("${user.details-cache.ttl-seconds:60}") long ttlSeconds) {
+        this(maxSize, ttlSeconds, Ticker.systemTicker());
+    }
+
+    UserDetailsCache(long maxSize, long ttlSeconds, Ticker ticker) {
+        this.usersByUsername = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .ticker(ticker)
+                .build();
+    }
+
+    @Override
+    public UserDetails getUserFromCache(String username) {
+        GymUserDetails cached = usersByUsername.getIfPresent(username);
+        return cached == null ? null : cached.withPassword(cached.getPassword());
+    }
+
+    @Override
+    public void putUserInCache(UserDetails user) {
+        if (user instanceof GymUserDetails gymUser) {
+            usersByUsername.put(gymUser.getUsername(), gymUser.withPassword(gymUser.getPassword()));
+        }
+    }
+
+    @Override
+    public void removeUserFromCache(String username) {
+        usersByUsername.invalidate(username);
+        log.debug("User details evicted from cache for username: {}", username);
+    }
+}
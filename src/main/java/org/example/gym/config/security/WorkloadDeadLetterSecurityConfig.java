@@ -0,0 +1,77 @@
+package org.example.gym.config.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.authentication.ProviderManager;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.config.Customizer;
+import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.provisioning.InMemoryUserDetailsManager;
+import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.util.StringUtils;
+
+/**
+ * Security configuration of the trainer workload dead-letter actuator endpoint.
+ *
+ * <p>Trainees and trainers log in with tokens that only carry their role, so the endpoint has its own filter
+ * chain, ordered before the application one, that authenticates an operator with HTTP Basic. The operator is
+ * configured by {@code trainer.workload.dlq.replay.operator.username} and
+ * {@code trainer.workload.dlq.replay.operator.password-hash}, a BCrypt hash, and is the only user granted
+ * {@link SecurityConstants#DLQ_REPLAY_AUTHORITY}. Without an operator every request to the endpoint is
+ * rejected.</p>
+ */
+@Configuration
+@Slf4j
+public class WorkloadDeadLetterSecurityConfig {
+
+    /**
+     * Configures the security filter chain of {@code /actuator/workloaddlq}.
+     *
+     * @param http            the HTTP security object used to configure the security filter chain
+     * @param passwordEncoder the password encoder verifying the operator password
+     * @param username        the username of the operator, empty if there is none
+     * @param passwordHash    the BCrypt hash of the operator password, empty if there is none
+     * @return the configured security filter chain
+     * @throws Exception if an error occurs while configuring security
+     */
+    @Bean
+    @Order(1)
+    public SecurityFilterChain workloadDeadLetterFilterChain(
+            HttpSecurity http, BCryptPasswordEncoder passwordEncoder,
+            @Value("${trainer.workload.dlq.replay.operator.username:}") String username,
+            @Value("${trainer.workload.dlq.replay.operator.password-hash:}") String passwordHash) throws Exception {
+        DaoAuthenticationProvider provider = new DaoAuthenticationProvider();
+        provider.setPasswordEncoder(passwordEncoder);
+        provider.setUserDetailsService(operators(username, passwordHash));
+
+        return http
+                .securityMatcher("/actuator/workloaddlq", "/actuator/workloaddlq/**")
+                .csrf(customizer -> customizer.disable())
+                .sessionManagement(session ->
+                        session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .authenticationManager(new ProviderManager(provider))
+                .httpBasic(Customizer.withDefaults())
+                .authorizeHttpRequests(auth -> auth
+                        .anyRequest().hasAuthority(SecurityConstants.DLQ_REPLAY_AUTHORITY))
+                .build();
+    }
+
+    private static InMemoryUserDetailsManager operators(String username, String passwordHash) {
+        InMemoryUserDetailsManager operators = new InMemoryUserDetailsManager();
+        if (StringUtils.hasText(username) && StringUtils.hasText(passwordHash)) {
+            operators.createUser(User.withUsername(username)
+                    .password(passwordHash)
+                    .authorities(SecurityConstants.DLQ_REPLAY_AUTHORITY)
+                    .build());
+        } else {
+            log.info("No workload DLQ operator is configured, the dead-letter endpoint rejects every request.");
+        }
+        return operators;
+    }
+}
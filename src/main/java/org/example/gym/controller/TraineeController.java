@@ -2,6 +2,7 @@ package org.example.gym.controller;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -13,6 +14,7 @@ import org.example.gym.dto.request.TraineeRegistrationRequestDto;
 import org.example.gym.dto.request.UpdateTraineeRequestDto;
 import org.example.gym.dto.request.UpdateTraineeTrainerListRequestDto;
 import org.example.gym.dto.response.GetTraineeProfileResponseDto;
+import org.example.gym.dto.response.PageResponseDto;
 import org.example.gym.dto.response.RegistrationResponseDto;
 import org.example.gym.dto.response.TrainerResponseDto;
 import org.example.gym.dto.response.UpdateTraineeResponseDto;
@@ -20,6 +22,8 @@ import org.example.gym.entity.TraineeEntity;
 import org.example.gym.entity.TrainerEntity;
 import org.example.gym.mapper.TraineeMapper;
 import org.example.gym.service.TraineeService;
+import org.example.gym.utils.Pagination;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -32,6 +36,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 /**
@@ -89,7 +94,7 @@ public class TraineeController {
     public ResponseEntity<GetTraineeProfileResponseDto> getTraineeProfile(@PathVariable String username) {
         log.info("Controller: Get trainee profile request for username: {}", username);
 
-        TraineeEntity trainee = traineeService.getTrainee(username);
+        TraineeEntity trainee = traineeService.getTraineeProfile(username);
         GetTraineeProfileResponseDto responseDto = mapper.traineeEntityMapToGetResponseTraineeDto(trainee);
 
         log.info("Controller: Get trainee profile request for username: {}", username);
@@ -143,28 +148,34 @@ public class TraineeController {
     }
 
     /**
-     * Retrieves a list of unassigned active trainers for a trainee.
+     * Retrieves a page of unassigned active trainers for a trainee.
      *
      * @param traineeName the username of the trainee
-     * @return a response entity containing the list of unassigned trainers
+     * @param cursor      optional cursor returned with the previous page
+     * @param size        optional page size, capped at {@link Pagination#MAX_PAGE_SIZE}
+     * @return a response entity containing a page of unassigned trainers with the cursor of the next page
      */
     @GetMapping("/unassigned-trainers/{traineeName}")
-    @Operation(summary = "Get unassigned trainers", description = "Retrieves a list of active trainers who"
-            + " are not assigned to a trainee.")
+    @Operation(summary = "Get unassigned trainers", description = "Retrieves a page of active trainers who"
+            + " are not assigned to a trainee, ordered by username.")
     @ApiResponses(value = {
-        @ApiResponse(responseCode = "200", description = "List retrieved successfully", content = @Content),
+        @ApiResponse(responseCode = "200", description = "List retrieved successfully",
+                content = @Content(schema = @Schema(implementation = PageResponseDto.class))),
+        @ApiResponse(responseCode = "400", description = "Invalid request parameters"),
         @ApiResponse(responseCode = "404", description = "No trainers found"),
         @ApiResponse(responseCode = "500", description = "Internal server error")
     })
-    public ResponseEntity<List<TrainerResponseDto>> getNotAssignedOnTraineeActiveTrainers(
-            @PathVariable String traineeName) {
+    public ResponseEntity<PageResponseDto<TrainerResponseDto>> getNotAssignedOnTraineeActiveTrainers(
+            @PathVariable String traineeName,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
         log.info("Controller: Get not assigned on trainee active trainers request for username: {}", traineeName);
 
-        List<TrainerEntity> unassignedTrainers = traineeService.getUnassignedTrainers(traineeName);
-        List<TrainerResponseDto> responseDtos = mapper.mapToTrainerResponse(unassignedTrainers);
+        Slice<TrainerEntity> unassignedTrainers = traineeService.getUnassignedTrainers(traineeName, cursor, size);
+        List<TrainerResponseDto> responseDtos = mapper.mapToTrainerResponse(unassignedTrainers.getContent());
 
         log.info("Controller: Unassigned trainers retrieved successfully, Response size: {}", responseDtos.size());
-        return ResponseEntity.ok(responseDtos);
+        return ResponseEntity.ok(new PageResponseDto<>(responseDtos, mapper.nextCursor(unassignedTrainers)));
     }
 
     /**
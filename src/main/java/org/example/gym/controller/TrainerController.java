@@ -5,6 +5,7 @@ import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import java.time.YearMonth;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.gym.dto.request.ActivateRequestDto;
@@ -12,10 +13,13 @@ import org.example.gym.dto.request.TrainerRegistrationRequestDto;
 import org.example.gym.dto.request.UpdateTrainerRequestDto;
 import org.example.gym.dto.response.GetTrainerProfileResponseDto;
 import org.example.gym.dto.response.RegistrationResponseDto;
+import org.example.gym.dto.response.TrainerMonthlyWorkloadResponseDto;
 import org.example.gym.dto.response.UpdateTrainerProfileResponseDto;
 import org.example.gym.entity.TrainerEntity;
 import org.example.gym.mapper.TrainerMapper;
 import org.example.gym.service.TrainerService;
+import org.example.gym.service.TrainerWorkloadSummary;
+import org.example.gym.service.TrainerWorkloadSummary.MonthlyWorkload;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -25,6 +29,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 /**
@@ -39,6 +44,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class TrainerController {
     private final TrainerService trainerService;
     private final TrainerMapper mapper;
+    private final TrainerWorkloadSummary trainerWorkloadSummary;
 
 
     /**
@@ -84,12 +90,38 @@ public class TrainerController {
     public ResponseEntity<GetTrainerProfileResponseDto> getTrainerProfile(@PathVariable String username) {
         log.info("Fetching profile for trainer: {}", username);
 
-        TrainerEntity trainer = trainerService.getTrainer(username);
+        TrainerEntity trainer = trainerService.getTrainerProfile(username);
         GetTrainerProfileResponseDto responseDto = mapper.trainerEntityMapToGetResponse(trainer);
         log.info("Controller: Trainer profile retrieved successfully, Response: {}", responseDto);
         return ResponseEntity.ok(responseDto);
     }
 
+    /**
+     * Retrieves the workload of a trainer in one month.
+     *
+     * @param username The username of the trainer.
+     * @param month    The month, formatted as {@code yyyy-MM}.
+     * @return ResponseEntity with the total training minutes and number of trainings of the month.
+     */
+    @GetMapping("/{username}/workload")
+    @Operation(summary = "Get a trainer's workload in one month")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Trainer workload retrieved successfully", content = @Content),
+        @ApiResponse(responseCode = "400", description = "Invalid month"),
+        @ApiResponse(responseCode = "404", description = "Trainer not found"),
+        @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    public ResponseEntity<TrainerMonthlyWorkloadResponseDto> getTrainerMonthlyWorkload(
+            @PathVariable String username, @RequestParam YearMonth month) {
+        log.info("Fetching workload of trainer {} for {}", username, month);
+
+        TrainerEntity trainer = trainerService.getTrainer(username);
+        MonthlyWorkload workload = trainerWorkloadSummary.getMonthlyWorkload(trainer.getId(), month);
+
+        return ResponseEntity.ok(new TrainerMonthlyWorkloadResponseDto(trainer.getUser().getUsername(),
+                month.getYear(), month.getMonthValue(), workload.totalDuration(), workload.trainingCount()));
+    }
+
     /**
      * Updates the trainer's profile.
      *
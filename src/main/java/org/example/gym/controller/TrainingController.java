@@ -6,19 +6,26 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import java.io.InputStream;
 import java.time.LocalDateTime;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.gym.dto.projection.TrainingView;
 import org.example.gym.dto.request.AddTrainingRequestDto;
 import org.example.gym.dto.request.TraineeTrainingsRequestDto;
 import org.example.gym.dto.request.TrainerTrainingRequestDto;
 import org.example.gym.dto.response.GetTrainerTrainingListResponseDto;
+import org.example.gym.dto.response.PageResponseDto;
+import org.example.gym.dto.response.TrainingImportResponseDto;
 import org.example.gym.dto.response.TrainingResponseDto;
-import org.example.gym.entity.TrainingEntity;
 import org.example.gym.mapper.TrainingMapper;
+import org.example.gym.service.TrainingImportService;
 import org.example.gym.service.TrainingService;
+import org.example.gym.utils.Pagination;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -40,6 +47,7 @@ import org.springframework.web.bind.annotation.RestController;
 @Slf4j
 public class TrainingController {
     private final TrainingService trainingService;
+    private final TrainingImportService trainingImportService;
     private final TrainingMapper mapper;
 
     /**
@@ -50,36 +58,40 @@ public class TrainingController {
      * @param periodTo    optional end period for filtering trainings
      * @param trainerName optional trainer's name for filtering
      * @param trainingType optional training type for filtering
-     * @return a list of training response DTOs for the trainee
+     * @param cursor      optional cursor returned with the previous page
+     * @param size        optional page size, capped at {@link Pagination#MAX_PAGE_SIZE}
+     * @return a page of training response DTOs for the trainee with the cursor of the next page
      */
     @GetMapping("/trainee")
     @Operation(summary = "Get trainings for a trainee", description = "Fetches the list of trainings"
             + " for a specific trainee with optional filters.")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Trainings retrieved successfully",
-                content = @Content(schema = @Schema(implementation = TrainingResponseDto.class))),
+                content = @Content(schema = @Schema(implementation = PageResponseDto.class))),
         @ApiResponse(responseCode = "400", description = "Invalid request parameters"),
         @ApiResponse(responseCode = "404", description = "Trainee not found"),
         @ApiResponse(responseCode = "500", description = "Internal server error")
     })
-    public ResponseEntity<List<TrainingResponseDto>> getTraineeTrainingsList(
+    public ResponseEntity<PageResponseDto<TrainingResponseDto>> getTraineeTrainingsList(
             @RequestParam String traineeName,
             @RequestParam(required = false) LocalDateTime periodFrom,
             @RequestParam(required = false) LocalDateTime periodTo,
             @RequestParam(required = false) String trainerName,
-            @RequestParam(required = false) String trainingType) {
+            @RequestParam(required = false) String trainingType,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
 
         log.info("Fetching training list for trainee: {}", traineeName);
         TraineeTrainingsRequestDto requestDto = new TraineeTrainingsRequestDto(traineeName, periodFrom,
-                periodTo, trainerName, trainingType);
+                periodTo, trainerName, trainingType, cursor, size);
 
 
-        List<TrainingEntity> trainingsForTrainee = trainingService.getTrainingsForTrainee(
+        Slice<TrainingView> trainingsForTrainee = trainingService.getTrainingsForTrainee(
                 requestDto);
 
-        List<TrainingResponseDto> responseDtos = mapper.mapToDtoTrainingTrainee(trainingsForTrainee);
+        List<TrainingResponseDto> responseDtos = mapper.mapToDtoTrainingTrainee(trainingsForTrainee.getContent());
         log.info("Response: {} trainings retrieved", responseDtos.size());
-        return ResponseEntity.ok(responseDtos);
+        return ResponseEntity.ok(new PageResponseDto<>(responseDtos, mapper.nextCursor(trainingsForTrainee)));
     }
 
     /**
@@ -89,33 +101,38 @@ public class TrainingController {
      * @param periodFrom  optional start period for filtering trainings
      * @param periodTo    optional end period for filtering trainings
      * @param traineeName optional trainee's name for filtering
-     * @return a list of training response DTOs for the trainer
+     * @param cursor      optional cursor returned with the previous page
+     * @param size        optional page size, capped at {@link Pagination#MAX_PAGE_SIZE}
+     * @return a page of training response DTOs for the trainer with the cursor of the next page
      */
     @GetMapping("/trainer")
     @Operation(summary = "Get trainings for a trainer", description = "Fetches the list of trainings for "
             + "a specific trainer with optional filters.")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Trainings retrieved successfully",
-                content = @Content(schema = @Schema(implementation = GetTrainerTrainingListResponseDto.class))),
+                content = @Content(schema = @Schema(implementation = PageResponseDto.class))),
         @ApiResponse(responseCode = "400", description = "Invalid request parameters"),
         @ApiResponse(responseCode = "404", description = "Trainer not found"),
         @ApiResponse(responseCode = "500", description = "Internal server error")
     })
-    public ResponseEntity<List<GetTrainerTrainingListResponseDto>> getTrainerTrainingList(
+    public ResponseEntity<PageResponseDto<GetTrainerTrainingListResponseDto>> getTrainerTrainingList(
             @RequestParam String trainerName,
             @RequestParam(required = false) LocalDateTime periodFrom,
             @RequestParam(required = false) LocalDateTime periodTo,
-            @RequestParam(required = false) String traineeName) {
+            @RequestParam(required = false) String traineeName,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
 
         log.info("Fetching training list for trainer: {}", trainerName);
 
         TrainerTrainingRequestDto requestDto = new TrainerTrainingRequestDto(trainerName,
-                periodFrom, periodTo, traineeName);
-        List<TrainingEntity> trainingsForTrainer = trainingService.getTrainingsForTrainer(requestDto);
+                periodFrom, periodTo, traineeName, cursor, size);
+        Slice<TrainingView> trainingsForTrainer = trainingService.getTrainingsForTrainer(requestDto);
 
-        List<GetTrainerTrainingListResponseDto> responseDto = mapper.mapToDtoTrainingTrainer(trainingsForTrainer);
+        List<GetTrainerTrainingListResponseDto> responseDto =
+                mapper.mapToDtoTrainingTrainer(trainingsForTrainer.getContent());
         log.info("Response: {} trainings retrieved", responseDto.size());
-        return ResponseEntity.ok(responseDto);
+        return ResponseEntity.ok(new PageResponseDto<>(responseDto, mapper.nextCursor(trainingsForTrainer)));
     }
 
     /**
@@ -139,6 +156,50 @@ public class TrainingController {
         return ResponseEntity.status(HttpStatus.CREATED).build();
     }
 
+    /**
+     * Imports many training sessions from a JSON array of training requests.
+     * The body is read as a stream, so it may hold thousands of rows.
+     *
+     * @param body the JSON array of training requests
+     * @return a response entity with the number of imported trainings
+     */
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Import trainings from JSON", description = "Adds all training sessions of a JSON array "
+            + "in one transaction.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "201", description = "Trainings imported successfully"),
+        @ApiResponse(responseCode = "400", description = "Malformed or incomplete row"),
+        @ApiResponse(responseCode = "404", description = "Trainee or Trainer not found"),
+        @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    public ResponseEntity<TrainingImportResponseDto> importTrainingsFromJson(InputStream body) {
+        int imported = trainingImportService.importJson(body);
+        log.info("Imported {} trainings from JSON", imported);
+        return ResponseEntity.status(HttpStatus.CREATED).body(new TrainingImportResponseDto(imported));
+    }
+
+    /**
+     * Imports many training sessions from a CSV document with a header row naming the training request fields.
+     * The body is read as a stream, so it may hold thousands of rows.
+     *
+     * @param body the CSV document
+     * @return a response entity with the number of imported trainings
+     */
+    @PostMapping(value = "/import", consumes = "text/csv")
+    @Operation(summary = "Import trainings from CSV", description = "Adds all training sessions of a CSV document "
+            + "in one transaction.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "201", description = "Trainings imported successfully"),
+        @ApiResponse(responseCode = "400", description = "Malformed or incomplete row"),
+        @ApiResponse(responseCode = "404", description = "Trainee or Trainer not found"),
+        @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    public ResponseEntity<TrainingImportResponseDto> importTrainingsFromCsv(InputStream body) {
+        int imported = trainingImportService.importCsv(body);
+        log.info("Imported {} trainings from CSV", imported);
+        return ResponseEntity.status(HttpStatus.CREATED).body(new TrainingImportResponseDto(imported));
+    }
+
     /**
      * Deletes a training session specified by the ID.
      * It logs the action of deleting the training with the given ID and then calls the
@@ -0,0 +1,24 @@
+package org.example.gym.dto.projection;
+
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Read-only row of a training list, selected by a JPQL constructor expression.
+ *
+ * <p>It carries the response columns plus the {@code id}, which together with {@code trainingDate} forms
+ * the keyset of the list. {@code partnerUsername} is the trainer for trainee lists and the trainee for
+ * trainer lists.</p>
+ */
+@Getter
+@AllArgsConstructor
+public class TrainingView {
+    private Long id;
+    private String trainingName;
+    private LocalDateTime trainingDate;
+    private Long trainingTypeId;
+    private String trainingTypeName;
+    private Integer trainingDuration;
+    private String partnerUsername;
+}
@@ -15,4 +15,6 @@ public class TraineeTrainingsRequestDto {
     private LocalDateTime periodTo;
     private String trainerName;
     private String trainingType;
+    private String cursor;
+    private Integer size;
 }
@@ -13,4 +13,6 @@ public class TrainerTrainingRequestDto {
     private LocalDateTime periodFrom;
     private LocalDateTime periodTo;
     private String traineeName;
+    private String cursor;
+    private Integer size;
 }
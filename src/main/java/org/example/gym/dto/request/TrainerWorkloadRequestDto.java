@@ -17,4 +17,22 @@ public class TrainerWorkloadRequestDto {
     private LocalDateTime trainingDate;
     private Integer trainingDuration;
     private String actionType;
+    /**
+     * Id of the event, kept across redeliveries so that consumers can recognise duplicates.
+     */
+    private String eventId;
+    /**
+     * Position of the event among the events of its trainer, starting at 1. It orders the events and reveals
+     * gaps; events can arrive late, so a lower sequence than one already applied does not make a duplicate.
+     */
+    private Long sequence;
+
+    /**
+     * Creates a workload update whose event id and sequence are assigned when it is written to the outbox.
+     */
+    public TrainerWorkloadRequestDto(String trainerUsername, String firstName, String lastName, boolean isActive,
+                                     LocalDateTime trainingDate, Integer trainingDuration, String actionType) {
+        this(trainerUsername, firstName, lastName, isActive, trainingDate, trainingDuration, actionType, null,
+                null);
+    }
 }
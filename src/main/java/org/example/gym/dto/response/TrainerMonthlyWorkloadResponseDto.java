@@ -0,0 +1,17 @@
+package org.example.gym.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class TrainerMonthlyWorkloadResponseDto {
+
+    private String username;
+    private int year;
+    private int month;
+    private long totalDuration;
+    private int trainingCount;
+}
@@ -0,0 +1,13 @@
+package org.example.gym.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class TrainingImportResponseDto {
+
+    private int importedTrainings;
+}
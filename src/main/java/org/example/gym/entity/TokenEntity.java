@@ -10,6 +10,7 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import java.time.LocalDateTime;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -28,8 +29,8 @@ public class TokenEntity {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @Column(name = "token")
-    private String token;
+    @Column(name = "token_hash", length = 43, nullable = false, unique = true)
+    private String tokenHash;
 
     @Enumerated(EnumType.STRING)
     @Column(name = "token_type")
@@ -38,6 +39,9 @@ public class TokenEntity {
     @Column(name = "revoked")
     private boolean revoked;
 
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
     @ManyToOne
     @JoinColumn(name = "user_id")
     private UserEntity user;
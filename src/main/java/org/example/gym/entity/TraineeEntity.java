@@ -11,6 +11,9 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.JoinTable;
 import jakarta.persistence.ManyToMany;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
+import jakarta.persistence.NamedSubgraph;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.OneToOne;
 import jakarta.persistence.Table;
@@ -25,12 +28,28 @@ import org.hibernate.annotations.CreationTimestamp;
 
 @Entity
 @Table(name = "trainee")
+@NamedEntityGraph(
+        name = TraineeEntity.WITH_TRAINERS,
+        attributeNodes = {
+                @NamedAttributeNode("user"),
+                @NamedAttributeNode(value = "trainers", subgraph = "trainer")
+        },
+        subgraphs = @NamedSubgraph(
+                name = "trainer",
+                attributeNodes = {@NamedAttributeNode("user"), @NamedAttributeNode("specialization")}
+        )
+)
 @Getter
 @Setter
 @AllArgsConstructor
 @NoArgsConstructor
 public class TraineeEntity {
 
+    /**
+     * Fetch plan for the trainee profile: the user and every assigned trainer with its user and specialization.
+     */
+    public static final String WITH_TRAINERS = "TraineeEntity.withTrainers";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -47,7 +66,7 @@ public class TraineeEntity {
     @Column(name = "address")
     private String address;
 
-    @ManyToMany(fetch = FetchType.EAGER, cascade = CascadeType.ALL)
+    @ManyToMany(fetch = FetchType.LAZY, cascade = CascadeType.ALL)
     @JoinTable(
             name = "trainee_trainer",
             joinColumns = @JoinColumn(name = "trainee_id"),
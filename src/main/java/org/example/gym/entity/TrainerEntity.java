@@ -8,6 +8,9 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToMany;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
+import jakarta.persistence.NamedSubgraph;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.OneToOne;
 import jakarta.persistence.Table;
@@ -20,12 +23,26 @@ import lombok.Setter;
 
 @Entity
 @Table(name = "trainer")
+@NamedEntityGraph(
+        name = TrainerEntity.WITH_TRAINEES,
+        attributeNodes = {
+                @NamedAttributeNode("user"),
+                @NamedAttributeNode("specialization"),
+                @NamedAttributeNode(value = "trainees", subgraph = "trainee")
+        },
+        subgraphs = @NamedSubgraph(name = "trainee", attributeNodes = @NamedAttributeNode("user"))
+)
 @Getter
 @Setter
 @AllArgsConstructor
 @NoArgsConstructor
 public class TrainerEntity {
 
+    /**
+     * Fetch plan for the trainer profile: the user, the specialization and every trainee with its user.
+     */
+    public static final String WITH_TRAINEES = "TrainerEntity.withTrainees";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -38,7 +55,7 @@ public class TrainerEntity {
     @JoinColumn(name = "specialization_id", referencedColumnName = "id")
     private TrainingTypeEntity specialization;
 
-    @ManyToMany(mappedBy = "trainers", fetch = FetchType.EAGER)
+    @ManyToMany(mappedBy = "trainers", fetch = FetchType.LAZY)
     private Set<TraineeEntity> trainees = new HashSet<>();
 
     @OneToMany(mappedBy = "trainer", orphanRemoval = true)
@@ -8,13 +8,14 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import java.time.LocalDateTime;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
-import org.hibernate.annotations.CreationTimestamp;
 
 @Entity
 @Table(name = "training")
@@ -25,7 +26,8 @@ import org.hibernate.annotations.CreationTimestamp;
 public class TrainingEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "training_id_seq")
+    @SequenceGenerator(name = "training_id_seq", sequenceName = "training_id_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne
@@ -45,9 +47,19 @@ public class TrainingEntity {
 
     @JsonFormat(pattern = "yyyy-MM-dd ")
     @Column(name = "training_date", updatable = false)
-    @CreationTimestamp
     private LocalDateTime trainingDate;
 
     @Column(name = "training_duration", nullable = false)
     private Integer trainingDuration;
+
+    /**
+     * Dates a training stored without a date at the time it is stored. A given date, such as the date of an
+     * imported past training, is kept.
+     */
+    @PrePersist
+    void defaultTrainingDate() {
+        if (trainingDate == null) {
+            trainingDate = LocalDateTime.now();
+        }
+    }
 }
@@ -0,0 +1,22 @@
+package org.example.gym.exeption;
+
+import org.springframework.security.authentication.AuthenticationServiceException;
+
+/**
+ * Exception thrown when a password cannot be hashed because the hashing pool is saturated.
+ *
+ * <p>It extends {@link AuthenticationServiceException} so that a rejected login is reported through
+ * the regular authentication failure path instead of escaping the security filter chain. It is
+ * answered with {@code 503 Service Unavailable} and is not counted as a failed login attempt.</p>
+ */
+public class PasswordHashingRejectedException extends AuthenticationServiceException {
+
+    /**
+     * Constructs a new PasswordHashingRejectedException with the specified detail message.
+     *
+     * @param message The detail message.
+     */
+    public PasswordHashingRejectedException(String message) {
+        super(message);
+    }
+}
@@ -17,6 +17,7 @@ import org.example.gym.entity.TraineeEntity;
 import org.example.gym.entity.TrainerEntity;
 import org.example.gym.entity.UserEntity;
 import org.example.gym.utils.UserUtils;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -136,6 +137,19 @@ public class TraineeMapper {
 
     }
 
+    /**
+     * Builds the cursor of the page following the given slice of trainers.
+     *
+     * @param trainers the current page of trainers, ordered by username
+     * @return the cursor of the next page, or {@code null} if this is the last page
+     */
+    public String nextCursor(Slice<TrainerEntity> trainers) {
+        if (!trainers.hasNext() || trainers.isEmpty()) {
+            return null;
+        }
+        return trainers.getContent().get(trainers.getNumberOfElements() - 1).getUser().getUsername();
+    }
+
     /**
      * Maps a TraineeEntity's trainers to a list of TrainerResponseDto.
      *
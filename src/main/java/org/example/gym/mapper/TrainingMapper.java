@@ -4,12 +4,16 @@ import java.util.ArrayList;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.gym.dto.projection.TrainingView;
 import org.example.gym.dto.request.AddTrainingRequestDto;
 import org.example.gym.dto.response.GetTrainerTrainingListResponseDto;
 import org.example.gym.dto.response.TrainingResponseDto;
 import org.example.gym.entity.TraineeEntity;
 import org.example.gym.entity.TrainerEntity;
 import org.example.gym.entity.TrainingEntity;
+import org.example.gym.entity.TrainingTypeEntity;
+import org.example.gym.utils.TrainingPagination;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Component;
 
 
@@ -23,21 +27,21 @@ import org.springframework.stereotype.Component;
 public class TrainingMapper {
 
     /**
-     * Maps a list of TrainingEntity objects to a list of TrainingResponseDto.
+     * Maps a list of training rows to a list of TrainingResponseDto.
      *
-     * @param trainingsForTrainee the list of TrainingEntity objects to map
+     * @param trainingsForTrainee the list of training rows of a trainee to map
      * @return a list of TrainingResponseDto objects
      */
-    public List<TrainingResponseDto> mapToDtoTrainingTrainee(List<TrainingEntity> trainingsForTrainee) {
-        List<TrainingResponseDto> responseDtos = new ArrayList<>();
-        for (TrainingEntity entity : trainingsForTrainee) {
+    public List<TrainingResponseDto> mapToDtoTrainingTrainee(List<TrainingView> trainingsForTrainee) {
+        List<TrainingResponseDto> responseDtos = new ArrayList<>(trainingsForTrainee.size());
+        for (TrainingView view : trainingsForTrainee) {
 
             TrainingResponseDto responseDto = new TrainingResponseDto(
-                    entity.getTrainingName(),
-                    entity.getTrainingDate().toString(),
-                    entity.getTrainingType().getTrainingTypeName(),
-                    entity.getTrainingDuration(),
-                    entity.getTrainer().getUser().getUsername());
+                    view.getTrainingName(),
+                    view.getTrainingDate().toString(),
+                    view.getTrainingTypeName(),
+                    view.getTrainingDuration(),
+                    view.getPartnerUsername());
             responseDtos.add(responseDto);
         }
         log.info("Mapped {} trainings for trainee to DTOs.", responseDtos.size());
@@ -45,27 +49,41 @@ public class TrainingMapper {
     }
 
     /**
-     * Maps a list of TrainingEntity objects to a list of GetTrainerTrainingListResponseDto.
+     * Maps a list of training rows to a list of GetTrainerTrainingListResponseDto.
      *
-     * @param trainingsForTrainer the list of TrainingEntity objects to map
+     * @param trainingsForTrainer the list of training rows of a trainer to map
      * @return a list of GetTrainerTrainingListResponseDto objects
      */
-    public List<GetTrainerTrainingListResponseDto> mapToDtoTrainingTrainer(List<TrainingEntity> trainingsForTrainer) {
-        List<GetTrainerTrainingListResponseDto> responseDtos = new ArrayList<>();
-        for (TrainingEntity entity : trainingsForTrainer) {
+    public List<GetTrainerTrainingListResponseDto> mapToDtoTrainingTrainer(List<TrainingView> trainingsForTrainer) {
+        List<GetTrainerTrainingListResponseDto> responseDtos = new ArrayList<>(trainingsForTrainer.size());
+        for (TrainingView view : trainingsForTrainer) {
             GetTrainerTrainingListResponseDto responseDto =
                     new GetTrainerTrainingListResponseDto(
-                            entity.getTrainingName(),
-                            entity.getTrainingDate().toString(),
-                            entity.getTrainingType(),
-                            entity.getTrainingDuration(),
-                            entity.getTrainee().getUser().getUsername());
+                            view.getTrainingName(),
+                            view.getTrainingDate().toString(),
+                            new TrainingTypeEntity(view.getTrainingTypeId(), view.getTrainingTypeName()),
+                            view.getTrainingDuration(),
+                            view.getPartnerUsername());
             responseDtos.add(responseDto);
         }
         log.info("Mapped {} trainings for trainer to DTOs.", responseDtos.size());
         return responseDtos;
     }
 
+    /**
+     * Builds the cursor of the page following the given slice.
+     *
+     * @param trainings the current page of training rows, newest first
+     * @return the cursor of the next page, or {@code null} if this is the last page
+     */
+    public String nextCursor(Slice<TrainingView> trainings) {
+        if (!trainings.hasNext() || trainings.isEmpty()) {
+            return null;
+        }
+        TrainingView last = trainings.getContent().get(trainings.getNumberOfElements() - 1);
+        return TrainingPagination.encodeCursor(last.getTrainingDate(), last.getId());
+    }
+
     /**
      * Maps an AddTrainingRequestDto to a TrainingEntity.
      *
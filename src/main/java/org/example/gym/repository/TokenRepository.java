@@ -1,12 +1,15 @@
 package org.example.gym.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import org.example.gym.entity.TokenEntity;
 import org.example.gym.entity.UserEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Repository interface for performing CRUD operations on {@link TokenEntity} objects.
@@ -33,14 +36,16 @@ public interface TokenRepository extends JpaRepository<TokenEntity, Long> {
     List<TokenEntity> findAllValidTokensByUser(Long userId);
 
     /**
-     * Finds a token by its value.
+     * Finds a token by the digest of its value.
      *
-     * <p>This method returns an {@link Optional} containing the {@link TokenEntity} with the given token value,
-     * or an empty {@link Optional} if no such token exists.</p>
+     * <p>This method returns an {@link Optional} containing the {@link TokenEntity} with the given token digest,
+     * or an empty {@link Optional} if no such token exists. The lookup is served by the unique index on
+     * {@code token_hash}.</p>
      *
+     * @param tokenHash the fixed-width digest of the token
      * @return an {@link Optional} containing the {@link TokenEntity} if found, or empty if not
      */
-    Optional<TokenEntity> findByToken(String tokenEntity);
+    Optional<TokenEntity> findByTokenHash(String tokenHash);
 
     /**
      * Finds all tokens associated with a specific user.
@@ -52,4 +57,27 @@ public interface TokenRepository extends JpaRepository<TokenEntity, Long> {
      */
     @Query("SELECT t FROM TokenEntity t WHERE t.user = :user AND t.revoked = false")
     TokenEntity findByUser(@Param("user") UserEntity user);
+
+    /**
+     * Deletes one batch of revoked or expired tokens.
+     *
+     * <p>The batch is selected with {@code FOR UPDATE SKIP LOCKED} and deleted in its own transaction,
+     * so each call holds row locks only for at most {@code batchSize} rows and concurrent purges on other
+     * nodes never wait for each other.</p>
+     *
+     * @param now       the instant before which tokens are considered expired
+     * @param batchSize the maximum number of rows to delete
+     * @return the number of deleted rows
+     */
+    @Modifying
+    @Transactional
+    @Query(value = """
+                DELETE FROM tokens
+                WHERE id IN (
+                    SELECT id FROM tokens
+                    WHERE revoked = true OR expires_at < :now
+                    LIMIT :batchSize
+                    FOR UPDATE SKIP LOCKED)
+            """, nativeQuery = true)
+    int deleteRevokedOrExpiredBatch(@Param("now") LocalDateTime now, @Param("batchSize") int batchSize);
 }
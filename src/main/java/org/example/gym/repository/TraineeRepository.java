@@ -1,7 +1,10 @@
 package org.example.gym.repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import org.example.gym.entity.TraineeEntity;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -19,5 +22,25 @@ public interface TraineeRepository extends JpaRepository<TraineeEntity, Long> {
      * @return an {@link Optional} containing the found {@link TraineeEntity},
      *         or empty if not found
      */
+    @EntityGraph(attributePaths = "user")
     Optional<TraineeEntity> findByUser_Username(String username);
+
+    /**
+     * Finds a {@link TraineeEntity} by username together with its assigned trainers in a single query.
+     *
+     * @param username the username of the trainee's user
+     * @return an {@link Optional} containing the found {@link TraineeEntity} with its trainers loaded,
+     *         or empty if not found
+     */
+    @EntityGraph(TraineeEntity.WITH_TRAINERS)
+    Optional<TraineeEntity> findWithTrainersByUser_Username(String username);
+
+    /**
+     * Finds all trainees whose usernames are in the given collection.
+     *
+     * @param usernames the usernames of the trainees' users
+     * @return a {@link List} of the found {@link TraineeEntity}, with user loaded
+     */
+    @EntityGraph(attributePaths = "user")
+    List<TraineeEntity> findByUser_UsernameIn(Collection<String> usernames);
 }
@@ -1,8 +1,12 @@
 package org.example.gym.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.example.gym.entity.TrainerEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -22,18 +26,49 @@ public interface TrainerRepository extends JpaRepository<TrainerEntity, Long> {
      * @param username the username of the trainer's user
      * @return an {@link Optional} containing the found {@link TrainerEntity}, or empty if not found
      */
+    @EntityGraph(attributePaths = {"user", "specialization"})
     Optional<TrainerEntity> findByUser_Username(String username);
 
+    /**
+     * Finds a {@link TrainerEntity} by username together with its trainees in a single query.
+     *
+     * @param username the username of the trainer's user
+     * @return an {@link Optional} containing the found {@link TrainerEntity} with its trainees loaded,
+     *         or empty if not found
+     */
+    @EntityGraph(TrainerEntity.WITH_TRAINEES)
+    Optional<TrainerEntity> findWithTraineesByUser_Username(String username);
+
+    /**
+     * Finds all trainers whose usernames are in the given collection.
+     *
+     * @param usernames the usernames of the trainers' users
+     * @return a {@link List} of the found {@link TrainerEntity}, with user and specialization loaded
+     */
+    @EntityGraph(attributePaths = {"user", "specialization"})
+    List<TrainerEntity> findByUser_UsernameIn(Collection<String> usernames);
+
 
 
     /**
-     * Finds all assigned trainers for a specific trainee.
+     * Finds a page of active trainers that are not assigned to the given trainee, ordered by username.
+     *
+     * <p>Assignments are excluded with a {@code NOT EXISTS} anti-join on {@code trainee_trainer}, and the
+     * page continues after {@code cursorUsername}, so each call reads only one page of trainers.</p>
      *
-     * @param traineeId the ID of the trainee
-     * @return a {@link List} of assigned {@link TrainerEntity}, or an empty list if none found
+     * @param traineeId      the ID of the trainee
+     * @param cursorUsername the username of the last trainer of the previous page, or {@code null}
+     * @param pageable       the page size
+     * @return a {@link Slice} of unassigned active {@link TrainerEntity} with user and specialization loaded
      */
-    @Query("SELECT t FROM TrainerEntity t JOIN t.trainees tr WHERE tr.id = :traineeId")
-    List<TrainerEntity> findByTrainees_Id(@Param("traineeId") Long traineeId);
+    @Query("SELECT t FROM TrainerEntity t JOIN FETCH t.user u JOIN FETCH t.specialization "
+            + "WHERE u.isActive = true "
+            + "AND (:cursorUsername IS NULL OR u.username > :cursorUsername) "
+            + "AND NOT EXISTS (SELECT 1 FROM t.trainees assigned WHERE assigned.id = :traineeId) "
+            + "ORDER BY u.username")
+    Slice<TrainerEntity> findUnassignedActiveTrainers(@Param("traineeId") Long traineeId,
+                                                      @Param("cursorUsername") String cursorUsername,
+                                                      Pageable pageable);
 
 
 }
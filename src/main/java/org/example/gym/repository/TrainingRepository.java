@@ -1,8 +1,10 @@
 package org.example.gym.repository;
 
 import java.time.LocalDateTime;
-import java.util.List;
+import org.example.gym.dto.projection.TrainingView;
 import org.example.gym.entity.TrainingEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -17,39 +19,75 @@ public interface TrainingRepository extends JpaRepository<TrainingEntity, Long>
     /**
      * Finds trainings for a specific trainee based on optional criteria such as date range, trainer name, and training type.
      *
+     * <p>Trainings are returned newest first, ordered by {@code (trainingDate, id)}, starting after the given
+     * cursor key. Only the requested page size plus one row is read, which tells whether another page exists.
+     * Rows are read as {@link TrainingView} projections in a single joined statement, so no entity is
+     * loaded or managed.</p>
+     *
+     * <p>The date range is always closed, see {@link org.example.gym.utils.TrainingPagination#lowerBound}, so
+     * it is a range condition on {@code ix_training_trainee_date} and prunes the monthly partitions of
+     * {@code training} outside the range.</p>
+     *
      * @param traineeName the ID of the trainee
-     * @param fromDate  the starting date of the training period
-     * @param toDate    the ending date of the training period
+     * @param fromDate  the inclusive starting date of the training period
+     * @param toDate    the inclusive ending date of the training period
      * @param trainerName the name of the trainer (optional)
      * @param trainingType the type of training (optional)
-     * @return a list of matching {@link TrainingEntity}, or empty if none found
+     * @param cursorDate the training date of the last training of the previous page (optional)
+     * @param cursorId   the id of the last training of the previous page (optional)
+     * @param pageable   the page size
+     * @return a slice of matching {@link TrainingView}, or empty if none found
      */
-    @Query("SELECT t FROM TrainingEntity t WHERE t.trainee.user.username = :traineeName "
-            + "AND t.trainingDate >= COALESCE(:fromDate, t.trainingDate) "
-            + "AND t.trainingDate <= COALESCE(:toDate, t.trainingDate) "
-            + "AND (:trainerName IS NULL OR t.trainer.user.username = :trainerName) "
-            + "AND (:trainingType IS NULL OR t.trainingType.trainingTypeName = :trainingType)")
-    List<TrainingEntity> findTrainingsForTrainee(@Param("traineeName") String traineeName,
-                                                 @Param("fromDate") LocalDateTime fromDate,
-                                                 @Param("toDate") LocalDateTime toDate,
-                                                 @Param("trainerName") String trainerName,
-                                                 @Param("trainingType") String trainingType);
+    @Query("SELECT new org.example.gym.dto.projection.TrainingView(t.id, t.trainingName, t.trainingDate, "
+            + "tt.id, tt.trainingTypeName, t.trainingDuration, tru.username) "
+            + "FROM TrainingEntity t JOIN t.trainee te JOIN te.user teu "
+            + "JOIN t.trainer tr JOIN tr.user tru LEFT JOIN t.trainingType tt "
+            + "WHERE teu.username = :traineeName "
+            + "AND t.trainingDate >= :fromDate AND t.trainingDate <= :toDate "
+            + "AND (:trainerName IS NULL OR tru.username = :trainerName) "
+            + "AND (:trainingType IS NULL OR tt.trainingTypeName = :trainingType) "
+            + "AND (:cursorDate IS NULL OR t.trainingDate < :cursorDate "
+            + "OR (t.trainingDate = :cursorDate AND t.id < :cursorId)) "
+            + "ORDER BY t.trainingDate DESC, t.id DESC")
+    Slice<TrainingView> findTrainingsForTrainee(@Param("traineeName") String traineeName,
+                                                  @Param("fromDate") LocalDateTime fromDate,
+                                                  @Param("toDate") LocalDateTime toDate,
+                                                  @Param("trainerName") String trainerName,
+                                                  @Param("trainingType") String trainingType,
+                                                  @Param("cursorDate") LocalDateTime cursorDate,
+                                                  @Param("cursorId") Long cursorId,
+                                                  Pageable pageable);
 
     /**
      * Finds trainings for a specific trainer based on optional criteria such as date range and trainee name.
      *
+     * <p>Paged and filtered like {@link #findTrainingsForTrainee}; the date range is served by
+     * {@code ix_training_trainer_date}.</p>
+     *
      * @param trainerName   the ID of the trainer
-     * @param fromDate    the starting date of the training period
-     * @param toDate      the ending date of the training period
+     * @param fromDate    the inclusive starting date of the training period
+     * @param toDate      the inclusive ending date of the training period
      * @param traineeName the name of the trainee (optional)
-     * @return a list of matching {@link TrainingEntity}, or empty if none found
+     * @param cursorDate  the training date of the last training of the previous page (optional)
+     * @param cursorId    the id of the last training of the previous page (optional)
+     * @param pageable    the page size
+     * @return a slice of matching {@link TrainingView}, newest first, or empty if none found
      */
-    @Query("SELECT t FROM TrainingEntity t WHERE t.trainer.user.username = :trainerName "
-            + "AND t.trainingDate >= COALESCE(:fromDate, t.trainingDate) "
-            + "AND t.trainingDate <= COALESCE(:toDate, t.trainingDate) "
-            + "AND (:traineeName IS NULL OR t.trainee.user.username = :traineeName)")
-    List<TrainingEntity> findTrainingsForTrainer(@Param("trainerName") String trainerName,
-                                                 @Param("fromDate") LocalDateTime fromDate,
-                                                 @Param("toDate") LocalDateTime toDate,
-                                                 @Param("traineeName") String traineeName);
+    @Query("SELECT new org.example.gym.dto.projection.TrainingView(t.id, t.trainingName, t.trainingDate, "
+            + "tt.id, tt.trainingTypeName, t.trainingDuration, teu.username) "
+            + "FROM TrainingEntity t JOIN t.trainer tr JOIN tr.user tru "
+            + "JOIN t.trainee te JOIN te.user teu LEFT JOIN t.trainingType tt "
+            + "WHERE tru.username = :trainerName "
+            + "AND t.trainingDate >= :fromDate AND t.trainingDate <= :toDate "
+            + "AND (:traineeName IS NULL OR teu.username = :traineeName) "
+            + "AND (:cursorDate IS NULL OR t.trainingDate < :cursorDate "
+            + "OR (t.trainingDate = :cursorDate AND t.id < :cursorId)) "
+            + "ORDER BY t.trainingDate DESC, t.id DESC")
+    Slice<TrainingView> findTrainingsForTrainer(@Param("trainerName") String trainerName,
+                                                  @Param("fromDate") LocalDateTime fromDate,
+                                                  @Param("toDate") LocalDateTime toDate,
+                                                  @Param("traineeName") String traineeName,
+                                                  @Param("cursorDate") LocalDateTime cursorDate,
+                                                  @Param("cursorId") Long cursorId,
+                                                  Pageable pageable);
 }
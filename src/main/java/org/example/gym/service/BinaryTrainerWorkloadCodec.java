@@ -0,0 +1,207 @@
+package org.example.gym.service;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import javax.jms.BytesMessage;
+import javax.jms.JMSException;
+import javax.jms.Message;
+import javax.jms.MessageFormatException;
+import javax.jms.Session;
+import org.example.gym.dto.request.TrainerWorkloadRequestDto;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@link TrainerWorkloadCodec} that sends events as compact bytes messages.
+ *
+ * <p>Version 1 of the body is a fixed-layout section followed by a string table, all big-endian:</p>
+ * <pre>
+ * byte    flags: 1 active, 2 DELETE (else ADD), 4 has date, 8 has duration, 16 has sequence, 32 has event id
+ * int     training date as epoch day
+ * int     training time as second of day
+ * int     training duration
+ * long    sequence
+ * long[2] event id as UUID, most significant bits first
+ * byte[3] string table index of the trainer username, first name and last name, -1 for none
+ * byte    number of strings, followed by the strings in modified UTF-8 as written by DataOutput#writeUTF
+ * </pre>
+ *
+ * <p>Absent values are written as zero, so every field keeps its offset. A typical event takes about a
+ * quarter of the bytes of its JSON form. Training times are kept to the second and event ids must be
+ * UUIDs, as assigned by {@link TrainerWorkloadOutbox}.</p>
+ */
+@Component
+@ConditionalOnProperty(name = "trainer.workload.codec", havingValue = "binary")
+public class BinaryTrainerWorkloadCodec implements TrainerWorkloadCodec {
+
+    static final String CONTENT_TYPE = "application/vnd.gym.trainer-workload";
+    static final int FORMAT_VERSION = 1;
+
+    private static final String ADD = "ADD";
+    private static final String DELETE = "DELETE";
+
+    private static final int ACTIVE = 1;
+    private static final int DELETE_ACTION = 2;
+    private static final int HAS_DATE = 4;
+    private static final int HAS_DURATION = 8;
+    private static final int HAS_SEQUENCE = 16;
+    private static final int HAS_EVENT_ID = 32;
+
+    @Override
+    public Message encode(Session session, TrainerWorkloadRequestDto event) throws JMSException {
+        BytesMessage message = session.createBytesMessage();
+        message.writeBytes(toBytes(event));
+        message.setStringProperty(CONTENT_TYPE_PROPERTY, CONTENT_TYPE);
+        message.setIntProperty(FORMAT_VERSION_PROPERTY, FORMAT_VERSION);
+        return message;
+    }
+
+    @Override
+    public TrainerWorkloadRequestDto decode(Message message) throws JMSException {
+        if (!(message instanceof BytesMessage bytesMessage)
+                || !CONTENT_TYPE.equals(message.getStringProperty(CONTENT_TYPE_PROPERTY))) {
+            throw new MessageFormatException("Not a binary trainer workload message");
+        }
+        if (!message.propertyExists(FORMAT_VERSION_PROPERTY)
+                || message.getIntProperty(FORMAT_VERSION_PROPERTY) != FORMAT_VERSION) {
+            throw new MessageFormatException("Unsupported binary trainer workload format version: "
+                    + message.getObjectProperty(FORMAT_VERSION_PROPERTY));
+        }
+        byte[] body = new byte[(int) bytesMessage.getBodyLength()];
+        bytesMessage.readBytes(body);
+        try {
+            return fromBytes(body);
+        } catch (IOException e) {
+            throw new MessageFormatException("Failed to read trainer workload event: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Writes the body of an event.
+     *
+     * @param event the workload event
+     * @return the body in format version 1
+     * @throws IllegalArgumentException if the action type is neither ADD nor DELETE or the event id is not a UUID
+     */
+    byte[] toBytes(TrainerWorkloadRequestDto event) {
+        List<String> strings = new ArrayList<>(3);
+        int username = indexOf(strings, event.getTrainerUsername());
+        int firstName = indexOf(strings, event.getFirstName());
+        int lastName = indexOf(strings, event.getLastName());
+        LocalDateTime trainingDate = event.getTrainingDate();
+        UUID eventId = event.getEventId() == null ? null : UUID.fromString(event.getEventId());
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(flags(event));
+            out.writeInt(trainingDate == null ? 0 : (int) trainingDate.toLocalDate().toEpochDay());
+            out.writeInt(trainingDate == null ? 0 : trainingDate.toLocalTime().toSecondOfDay());
+            out.writeInt(event.getTrainingDuration() == null ? 0 : event.getTrainingDuration());
+            out.writeLong(event.getSequence() == null ? 0 : event.getSequence());
+            out.writeLong(eventId == null ? 0 : eventId.getMostSignificantBits());
+            out.writeLong(eventId == null ? 0 : eventId.getLeastSignificantBits());
+            out.writeByte(username);
+            out.writeByte(firstName);
+            out.writeByte(lastName);
+            out.writeByte(strings.size());
+            for (String string : strings) {
+                out.writeUTF(string);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Reads the body of an event.
+     *
+     * @param body the body in format version 1
+     * @return the workload event
+     * @throws IOException if the body is truncated or malformed
+     */
+    TrainerWorkloadRequestDto fromBytes(byte[] body) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(body));
+        int flags = in.readByte();
+        int epochDay = in.readInt();
+        int secondOfDay = in.readInt();
+        int duration = in.readInt();
+        long sequence = in.readLong();
+        long mostSignificantBits = in.readLong();
+        long leastSignificantBits = in.readLong();
+        int username = in.readByte();
+        int firstName = in.readByte();
+        int lastName = in.readByte();
+        String[] strings = new String[in.readByte()];
+        for (int i = 0; i < strings.length; i++) {
+            strings[i] = in.readUTF();
+        }
+
+        TrainerWorkloadRequestDto event = new TrainerWorkloadRequestDto();
+        event.setTrainerUsername(stringAt(strings, username));
+        event.setFirstName(stringAt(strings, firstName));
+        event.setLastName(stringAt(strings, lastName));
+        event.setActive((flags & ACTIVE) != 0);
+        event.setActionType((flags & DELETE_ACTION) != 0 ? DELETE : ADD);
+        if ((flags & HAS_DATE) != 0) {
+            event.setTrainingDate(LocalDateTime.of(LocalDate.ofEpochDay(epochDay),
+                    LocalTime.ofSecondOfDay(secondOfDay)));
+        }
+        if ((flags & HAS_DURATION) != 0) {
+            event.setTrainingDuration(duration);
+        }
+        if ((flags & HAS_SEQUENCE) != 0) {
+            event.setSequence(sequence);
+        }
+        if ((flags & HAS_EVENT_ID) != 0) {
+            event.setEventId(new UUID(mostSignificantBits, leastSignificantBits).toString());
+        }
+        return event;
+    }
+
+    private static int flags(TrainerWorkloadRequestDto event) {
+        int flags = event.isActive() ? ACTIVE : 0;
+        if (DELETE.equals(event.getActionType())) {
+            flags |= DELETE_ACTION;
+        } else if (!ADD.equals(event.getActionType())) {
+            throw new IllegalArgumentException("Unsupported trainer workload action type: " + event.getActionType());
+        }
+        flags |= event.getTrainingDate() == null ? 0 : HAS_DATE;
+        flags |= event.getTrainingDuration() == null ? 0 : HAS_DURATION;
+        flags |= event.getSequence() == null ? 0 : HAS_SEQUENCE;
+        flags |= event.getEventId() == null ? 0 : HAS_EVENT_ID;
+        return flags;
+    }
+
+    private static int indexOf(List<String> strings, String string) {
+        if (string == null) {
+            return -1;
+        }
+        int index = strings.indexOf(string);
+        if (index < 0) {
+            strings.add(string);
+            index = strings.size() - 1;
+        }
+        return index;
+    }
+
+    private static String stringAt(String[] strings, int index) throws IOException {
+        if (index == -1) {
+            return null;
+        }
+        if (index < 0 || index >= strings.length) {
+            throw new IOException("String table index out of range: " + index);
+        }
+        return strings[index];
+    }
+}
@@ -0,0 +1,112 @@
+package org.example.gym.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+import org.example.gym.config.security.SecurityConstants;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@link LoginAttemptStore} that keeps failed attempts in the local JVM.
+ *
+ * <p>Failed attempts are counted per IP address in a sliding window of {@code user.login-attempts.window-ms},
+ * approximated from the counts of the current and the previous fixed window. Each IP address owns an
+ * {@link AttemptWindow} updated with compare-and-set, so concurrent failures are never lost and no lock is
+ * taken. Windows are held in a cache bounded to {@code user.login-attempts.max-size} entries that evicts
+ * the least valuable entries first and drops entries that have been idle for longer than both the window
+ * and the block duration, so a distributed attack cannot grow memory without limit.</p>
+ */
+@Component
+@ConditionalOnProperty(name = "user.login-attempts.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryLoginAttemptStore implements LoginAttemptStore {
+
+    private final Cache<String, AttemptWindow> windowsByIp;
+    private final long windowMillis;
+
+    /**
+     * Constructs a new {@code InMemoryLoginAttemptStore}.
+     *
+     * @param maxSize      the maximum number of IP addresses tracked at the same time
+     * @param windowMillis the length of the sliding window in which failed attempts are counted
+     */
+    public InMemoryLoginAttemptStore(@Value("${user.login-attempts.max-size:100000}") long maxSize,
+                                     @Value("${user.login-attempts.window-ms:300000}") long windowMillis) {
+        this.windowMillis = windowMillis;
+        this.windowsByIp = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterAccess(Duration.ofMillis(Math.max(2 * windowMillis, SecurityConstants.BLOCK_DURATION)))
+                .build();
+    }
+
+    @Override
+    public boolean isBlocked(String ipAddress) {
+        AttemptWindow window = windowsByIp.getIfPresent(ipAddress);
+        return window != null && window.isBlocked(System.currentTimeMillis());
+    }
+
+    @Override
+    public void registerFailedAttempt(String ipAddress) {
+        windowsByIp.get(ipAddress, ip -> new AttemptWindow())
+                .registerFailure(System.currentTimeMillis(), windowMillis);
+    }
+
+    @Override
+    public void resetAttempts(String ipAddress) {
+        AttemptWindow window = windowsByIp.getIfPresent(ipAddress);
+        if (window != null) {
+            window.reset();
+        }
+    }
+
+    /**
+     * Lock-free failed-attempt counter of a single IP address.
+     */
+    private static final class AttemptWindow {
+
+        private final AtomicReference<State> state = new AtomicReference<>(new State(0, 0, 0, 0));
+
+        boolean isBlocked(long now) {
+            return state.get().blockedUntil() > now;
+        }
+
+        void registerFailure(long now, long windowMillis) {
+            state.updateAndGet(current -> current.withFailure(now, windowMillis));
+        }
+
+        void reset() {
+            state.updateAndGet(current -> new State(current.windowStart(), 0, 0, current.blockedUntil()));
+        }
+    }
+
+    /**
+     * Immutable snapshot of an {@link AttemptWindow}.
+     *
+     * @param windowStart  the start of the current fixed window
+     * @param current      the failures counted in the current fixed window
+     * @param previous     the failures counted in the previous fixed window
+     * @param blockedUntil the instant until which the IP address is blocked
+     */
+    private record State(long windowStart, int current, int previous, long blockedUntil) {
+
+        State withFailure(long now, long windowMillis) {
+            long start = now - now % windowMillis;
+            int currentCount = current;
+            int previousCount = previous;
+            if (start != windowStart) {
+                previousCount = start - windowStart == windowMillis ? current : 0;
+                currentCount = 0;
+            }
+            currentCount++;
+
+            double previousWeight = 1.0 - (double) (now - start) / windowMillis;
+            double estimated = previousCount * previousWeight + currentCount;
+            if (estimated >= SecurityConstants.MAX_ATTEMPTS) {
+                return new State(start, 0, 0, now + SecurityConstants.BLOCK_DURATION);
+            }
+            return new State(start, currentCount, previousCount, blockedUntil);
+        }
+    }
+}
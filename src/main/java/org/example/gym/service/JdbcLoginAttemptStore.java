@@ -0,0 +1,180 @@
+package org.example.gym.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.example.gym.config.security.SecurityConstants;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * {@link LoginAttemptStore} that shares failed attempts and blocks between all replicas through the
+ * {@code login_attempts} table of the application database.
+ *
+ * <p>Failed attempts are first counted locally and written every {@code user.login-attempts.flush-interval-ms}
+ * as one batch of upserts, so a burst of failures costs one round trip per flush instead of one per attempt.
+ * Attempts are counted in fixed windows of {@code user.login-attempts.window-ms}; an IP address that reaches
+ * {@link SecurityConstants#MAX_ATTEMPTS} on any combination of nodes is blocked for every node. Until the next
+ * flush an IP address is also treated as blocked when its pending local count alone reaches the maximum.</p>
+ *
+ * <p>Rows are written in IP address order, so concurrent flushes of several replicas lock them in the same
+ * order and cannot deadlock. A flush that fails puts its counts back for the next flush. At most
+ * {@code user.login-attempts.max-size} IP addresses are pending; attempts of further addresses are written
+ * immediately. The shared block state of an IP address is cached for {@code user.login-attempts.blocked-cache-ms},
+ * so a login does not query the table every time.</p>
+ */
+@Component
+@ConditionalOnProperty(name = "user.login-attempts.store", havingValue = "jdbc")
+@Slf4j
+public class JdbcLoginAttemptStore implements LoginAttemptStore {
+
+    private static final String UPSERT_ATTEMPTS = """
+            INSERT INTO login_attempts (ip_address, attempts, window_start)
+            VALUES (?, ?, ?)
+            ON CONFLICT (ip_address) DO UPDATE SET
+                attempts = CASE WHEN login_attempts.window_start < ? THEN EXCLUDED.attempts
+                                ELSE login_attempts.attempts + EXCLUDED.attempts END,
+                window_start = CASE WHEN login_attempts.window_start < ? THEN EXCLUDED.window_start
+                                    ELSE login_attempts.window_start END
+            """;
+    private static final String BLOCK_EXCEEDED = """
+            UPDATE login_attempts SET attempts = 0, window_start = ?, blocked_until = ?
+            WHERE ip_address = ? AND attempts >= ?
+            """;
+    private static final String IS_BLOCKED =
+            "SELECT EXISTS (SELECT 1 FROM login_attempts WHERE ip_address = ? AND blocked_until > ?)";
+    private static final String RESET_ATTEMPTS = "UPDATE login_attempts SET attempts = 0 WHERE ip_address = ?";
+    private static final String DELETE_STALE = """
+            DELETE FROM login_attempts
+            WHERE window_start < ? AND (blocked_until IS NULL OR blocked_until < ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final long windowMillis;
+    private final long maxPending;
+    private final ConcurrentHashMap<String, Integer> pendingAttempts = new ConcurrentHashMap<>();
+    private final Cache<String, Boolean> blockedByIp;
+
+    /**
+     * Constructs a new {@code JdbcLoginAttemptStore}.
+     *
+     * @param jdbcTemplate       the template used to access the {@code login_attempts} table
+     * @param windowMillis       the length of the window in which failed attempts are counted
+     * @param maxSize            the maximum number of IP addresses with pending attempts or a cached block state
+     * @param blockedCacheMillis how long the block state of an IP address is served before it is read again
+     */
+    public JdbcLoginAttemptStore(JdbcTemplate jdbcTemplate,
+                                 @Value("${user.login-attempts.window-ms:300000}") long windowMillis,
+                                 @Value("${user.login-attempts.max-size:100000}") long maxSize,
+                                 @Value("${user.login-attempts.blocked-cache-ms:1000}") long blockedCacheMillis) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.windowMillis = windowMillis;
+        this.maxPending = maxSize;
+        this.blockedByIp = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMillis(blockedCacheMillis))
+                .build();
+    }
+
+    @Override
+    public boolean isBlocked(String ipAddress) {
+        if (pendingAttempts.getOrDefault(ipAddress, 0) >= SecurityConstants.MAX_ATTEMPTS) {
+            return true;
+        }
+        return blockedByIp.get(ipAddress, ip -> Boolean.TRUE.equals(
+                jdbcTemplate.queryForObject(IS_BLOCKED, Boolean.class, ip, LocalDateTime.now())));
+    }
+
+    @Override
+    public void registerFailedAttempt(String ipAddress) {
+        if (pendingAttempts.size() >= maxPending && !pendingAttempts.containsKey(ipAddress)) {
+            write(new TreeMap<>(Map.of(ipAddress, 1)));
+            return;
+        }
+        pendingAttempts.merge(ipAddress, 1, Integer::sum);
+    }
+
+    @Override
+    public void resetAttempts(String ipAddress) {
+        pendingAttempts.remove(ipAddress);
+        jdbcTemplate.update(RESET_ATTEMPTS, ipAddress);
+    }
+
+    /**
+     * Writes the locally counted failed attempts as one batch and blocks the IP addresses that reached the
+     * maximum.
+     *
+     * @return the number of IP addresses written
+     */
+    @Scheduled(fixedDelayString = "${user.login-attempts.flush-interval-ms:200}")
+    @Transactional
+    public int flush() {
+        if (pendingAttempts.isEmpty()) {
+            return 0;
+        }
+        SortedMap<String, Integer> attemptsByIp = new TreeMap<>();
+        for (String ipAddress : pendingAttempts.keySet()) {
+            Integer attempts = pendingAttempts.remove(ipAddress);
+            if (attempts != null) {
+                attemptsByIp.put(ipAddress, attempts);
+            }
+        }
+        try {
+            write(attemptsByIp);
+        } catch (RuntimeException e) {
+            attemptsByIp.forEach((ipAddress, attempts) -> pendingAttempts.merge(ipAddress, attempts, Integer::sum));
+            log.warn("Flushing failed login attempts of {} IP addresses failed, keeping them for the next flush.",
+                    attemptsByIp.size(), e);
+            throw e;
+        }
+        log.debug("Flushed failed login attempts of {} IP addresses.", attemptsByIp.size());
+        return attemptsByIp.size();
+    }
+
+    /**
+     * Adds the failed attempts to the shared counts, in IP address order, and blocks the IP addresses that
+     * reached the maximum.
+     */
+    private void write(SortedMap<String, Integer> attemptsByIp) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime windowThreshold = now.minus(windowMillis, ChronoUnit.MILLIS);
+        LocalDateTime blockedUntil = now.plus(SecurityConstants.BLOCK_DURATION, ChronoUnit.MILLIS);
+
+        List<Object[]> upserts = new ArrayList<>(attemptsByIp.size());
+        List<Object[]> blocks = new ArrayList<>(attemptsByIp.size());
+        attemptsByIp.forEach((ipAddress, attempts) -> {
+            upserts.add(new Object[]{ipAddress, attempts, now, windowThreshold, windowThreshold});
+            blocks.add(new Object[]{now, blockedUntil, ipAddress, SecurityConstants.MAX_ATTEMPTS});
+        });
+        jdbcTemplate.batchUpdate(UPSERT_ATTEMPTS, upserts);
+        int[] blocked = jdbcTemplate.batchUpdate(BLOCK_EXCEEDED, blocks);
+        for (int i = 0; i < blocked.length; i++) {
+            if (blocked[i] > 0) {
+                blockedByIp.put((String) blocks.get(i)[2], Boolean.TRUE);
+            }
+        }
+    }
+
+    /**
+     * Deletes rows whose window and block are both over.
+     */
+    @Scheduled(fixedDelayString = "${user.login-attempts.window-ms:300000}")
+    public void deleteStale() {
+        LocalDateTime now = LocalDateTime.now();
+        int deleted = jdbcTemplate.update(DELETE_STALE, now.minus(windowMillis, ChronoUnit.MILLIS), now);
+        log.debug("Deleted {} stale login attempt rows.", deleted);
+    }
+}
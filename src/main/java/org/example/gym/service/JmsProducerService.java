@@ -1,90 +1,151 @@
 package org.example.gym.service;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
 import java.util.Map;
+import javax.jms.Connection;
+import javax.jms.ConnectionFactory;
+import javax.jms.JMSException;
+import javax.jms.Message;
+import javax.jms.MessageProducer;
+import javax.jms.Session;
 import lombok.extern.slf4j.Slf4j;
 import org.example.gym.dto.request.TrainerWorkloadRequestDto;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.jms.JmsException;
 import org.springframework.jms.core.JmsTemplate;
-import org.springframework.messaging.Message;
-import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.jms.support.JmsUtils;
 import org.springframework.stereotype.Service;
 
 /**
  * Service class responsible for producing JMS messages to update training workload details.
+ *
+ * <p>The body of workload messages is written by the configured {@link TrainerWorkloadCodec}. Every workload
+ * message belongs to the message group of its trainer ({@code JMSXGroupID} set to the
+ * trainer username), so the broker hands all updates of a trainer to the same consumer, in order, however
+ * many consumers there are. The {@code eventId} and {@code sequence} properties repeat the event id and
+ * per-trainer sequence number of the payload, so consumers can read them without parsing the body.</p>
+ *
+ * <p>Duplicates are recognised by {@code eventId} only. The {@code sequence} orders the updates of a trainer
+ * and reveals gaps, but a lower sequence than the last one applied is not a duplicate: updates are deltas,
+ * and both the outbox relay after a retry and the DLQ replay deliver earlier updates late. Consumers must
+ * never drop an update because of its sequence.</p>
  */
 @Service
 @Slf4j
 public class JmsProducerService {
 
+    static final String TRAINING_UPDATE_QUEUE = "trainer.training.update";
+    static final String DEAD_LETTER_QUEUE = "trainer.training.dlq";
+    private static final String GROUP_ID_PROPERTY = "JMSXGroupID";
+    private static final String EVENT_ID_PROPERTY = "eventId";
+    private static final String SEQUENCE_PROPERTY = "sequence";
+
     private final JmsTemplate jmsTemplate;
+    private final ConnectionFactory connectionFactory;
+    private final TrainerWorkloadCodec codec;
     private final ObjectMapper objectMapper;
 
     /**
-     * Constructs a new JmsProducerService with the specified JmsTemplate and ObjectMapper.
+     * Constructs a new JmsProducerService with the specified JmsTemplate, ConnectionFactory, codec and
+     * ObjectMapper.
      *
-     * @param jmsTemplate  the JMS template for sending messages
-     * @param objectMapper the object mapper for JSON processing
+     * @param jmsTemplate       the JMS template for sending messages
+     * @param connectionFactory the connection factory for sending batches in a transacted session
+     * @param codec             the codec writing the body of workload messages
+     * @param objectMapper      the object mapper for the JSON of dead-letter messages
      */
 
     @Autowired
-    public JmsProducerService(@Lazy JmsTemplate jmsTemplate, ObjectMapper objectMapper) {
+    public JmsProducerService(@Lazy JmsTemplate jmsTemplate, @Lazy ConnectionFactory connectionFactory,
+                              TrainerWorkloadCodec codec, ObjectMapper objectMapper) {
         this.jmsTemplate = jmsTemplate;
+        this.connectionFactory = connectionFactory;
+        this.codec = codec;
         this.objectMapper = objectMapper;
     }
 
     /**
      * Sends a JMS message containing the update of a trainer workload.
      *
+     * <p>The message is sent once; a failure is thrown to the caller, which retries it later, see
+     * {@link TrainerWorkloadOutboxRelay}.</p>
+     *
      * @param request the data transfer object containing the workload details
+     * @throws JmsException if the message could not be sent
      */
     public void sendTrainingUpdate(TrainerWorkloadRequestDto request) {
-        try {
-            String jsonMessage = objectMapper.writeValueAsString(request);
-
-            Message<String> message = MessageBuilder
-                    .withPayload(jsonMessage)
-                    .setHeader("contentType", "application/json")
-                    .build();
-
-            jmsTemplate.convertAndSend("trainer.training.update", jsonMessage);
-            log.info("Message sent successfully to trainer.training.update: {}", message);
-        } catch (JmsException e) {
-            log.error("Failed to send message to trainer.training.update. Sending to DLQ", e);
+        jmsTemplate.send(TRAINING_UPDATE_QUEUE, session -> createMessage(session, request));
+        log.info("Message {} sent successfully to trainer.training.update.", request.getEventId());
+    }
 
-            boolean retrySuccess = retrySend("trainer.training.update", request, 3);
-            if (!retrySuccess) {
-                String errorMessage = prepareErrorMessage(request, e);
-                jmsTemplate.convertAndSend("trainer.training.dlq", errorMessage);
+    /**
+     * Sends several workload updates in order, as one transaction of a single JMS session.
+     *
+     * <p>Either all messages are delivered or none is. The session is opened on the connection factory
+     * rather than through {@link JmsTemplate}, which would bind it to the surrounding database transaction
+     * and commit it only after that transaction.</p>
+     *
+     * @param requests the workload updates, in delivery order
+     * @throws JmsException if the batch could not be sent
+     */
+    public void sendTrainingUpdates(List<TrainerWorkloadRequestDto> requests) {
+        if (requests.isEmpty()) {
+            return;
+        }
+        Connection connection = null;
+        Session session = null;
+        try {
+            connection = connectionFactory.createConnection();
+            session = connection.createSession(true, Session.SESSION_TRANSACTED);
+            MessageProducer producer = session.createProducer(session.createQueue(TRAINING_UPDATE_QUEUE));
+            for (TrainerWorkloadRequestDto request : requests) {
+                producer.send(createMessage(session, request));
             }
-        } catch (JsonProcessingException e) {
-            throw new RuntimeException("Failed to send message to" + e.getMessage());
+            session.commit();
+        } catch (JMSException e) {
+            throw JmsUtils.convertJmsAccessException(e);
+        } finally {
+            // Closing the session rolls back an uncommitted batch.
+            JmsUtils.closeSession(session);
+            JmsUtils.closeConnection(connection);
         }
+        log.info("Batch of {} messages sent successfully to trainer.training.update.", requests.size());
     }
 
     /**
-     * Attempts to resend a message to a specified queue up to a maximum number of retries.
+     * Sends a workload update that could not be delivered to the dead-letter queue (DLQ).
      *
-     * @param queue       the queue name to send the message to
-     * @param request     the message content
-     * @param maxRetries  the number of times to retry sending the message
-     * @return true if the message was successfully sent within the retry limit; false otherwise
+     * @param request  the workload update that failed
+     * @param e        the exception of the last failed attempt
+     * @param attempts the number of failed attempts
+     * @throws JmsException if the message could not be sent to the DLQ either
      */
-    private boolean retrySend(String queue, TrainerWorkloadRequestDto request, Integer maxRetries) {
-        for (Integer i = 0; i < maxRetries; i++) {
-            try {
-                Thread.sleep(1000);
-                jmsTemplate.convertAndSend(queue, request);
-                log.info("Retry {} successful for queue {}", i + 1, queue);
-                return true;
-            } catch (Exception ex) {
-                log.warn("Retry {} failed for queue {}", i + 1, queue, ex);
-            }
+    public void sendToDeadLetterQueue(TrainerWorkloadRequestDto request, Exception e, int attempts) {
+        jmsTemplate.convertAndSend(DEAD_LETTER_QUEUE, prepareErrorMessage(request, e, attempts));
+        log.warn("Message routed to trainer.training.dlq after {} failed attempts.", attempts);
+    }
+
+    /**
+     * Creates the message of a workload update, with its body written by the codec and its group, event id
+     * and sequence properties set.
+     *
+     * @param session the session to create the message with
+     * @param request the workload update
+     * @return the message to send to {@code trainer.training.update}
+     * @throws JMSException if the message cannot be created
+     */
+    Message createMessage(Session session, TrainerWorkloadRequestDto request) throws JMSException {
+        Message message = codec.encode(session, request);
+        message.setStringProperty(GROUP_ID_PROPERTY, request.getTrainerUsername());
+        if (request.getEventId() != null) {
+            message.setStringProperty(EVENT_ID_PROPERTY, request.getEventId());
+        }
+        if (request.getSequence() != null) {
+            message.setLongProperty(SEQUENCE_PROPERTY, request.getSequence());
         }
-        return false;
+        return message;
     }
 
     /**
@@ -92,15 +153,16 @@ public class JmsProducerService {
      *
      * @param originalMessage the original message that failed to be sent
      * @param e the exception that caused the send failure
+     * @param attempts the number of failed attempts
      * @return the structured error message as a JSON string
      */
-    private String prepareErrorMessage(TrainerWorkloadRequestDto originalMessage, Exception e) {
+    private String prepareErrorMessage(TrainerWorkloadRequestDto originalMessage, Exception e, int attempts) {
         try {
             return objectMapper.writeValueAsString(Map.of(
                     "originalMessage", originalMessage,
                     "error", e.getClass().getSimpleName() + ": " + e.getMessage(),
                     "timestamp", System.currentTimeMillis(),
-                    "retryCount", 3
+                    "retryCount", attempts
             ));
         } catch (Exception jsonException) {
             return "Error converting message to JSON: " + originalMessage;
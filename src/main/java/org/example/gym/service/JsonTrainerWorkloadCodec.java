@@ -0,0 +1,60 @@
+package org.example.gym.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import javax.jms.JMSException;
+import javax.jms.Message;
+import javax.jms.MessageFormatException;
+import javax.jms.Session;
+import javax.jms.TextMessage;
+import org.example.gym.dto.request.TrainerWorkloadRequestDto;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@link TrainerWorkloadCodec} that sends events as JSON text messages, the format consumers have always
+ * read.
+ */
+@Component
+@ConditionalOnProperty(name = "trainer.workload.codec", havingValue = "json", matchIfMissing = true)
+public class JsonTrainerWorkloadCodec implements TrainerWorkloadCodec {
+
+    static final String CONTENT_TYPE = "application/json";
+    static final int FORMAT_VERSION = 1;
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Constructs a new {@code JsonTrainerWorkloadCodec}.
+     *
+     * @param objectMapper the object mapper used to write and read the events
+     */
+    public JsonTrainerWorkloadCodec(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public Message encode(Session session, TrainerWorkloadRequestDto event) throws JMSException {
+        TextMessage message;
+        try {
+            message = session.createTextMessage(objectMapper.writeValueAsString(event));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize trainer workload event", e);
+        }
+        message.setStringProperty(CONTENT_TYPE_PROPERTY, CONTENT_TYPE);
+        message.setIntProperty(FORMAT_VERSION_PROPERTY, FORMAT_VERSION);
+        return message;
+    }
+
+    @Override
+    public TrainerWorkloadRequestDto decode(Message message) throws JMSException {
+        if (!(message instanceof TextMessage textMessage)) {
+            throw new MessageFormatException("Trainer workload JSON must be sent as a text message");
+        }
+        try {
+            return objectMapper.readValue(textMessage.getText(), TrainerWorkloadRequestDto.class);
+        } catch (JsonProcessingException e) {
+            throw new MessageFormatException("Failed to read trainer workload event: " + e.getMessage());
+        }
+    }
+}
@@ -1,8 +1,6 @@
 package org.example.gym.service;
 
 
-import java.util.concurrent.ConcurrentHashMap;
-import org.example.gym.config.security.SecurityConstants;
 import org.springframework.stereotype.Service;
 
 /**
@@ -13,11 +11,23 @@ import org.springframework.stereotype.Service;
  * the number of login attempts a user can make within a defined time period.
  * After reaching the maximum failed attempts, the user's account is temporarily
  * blocked for a specified duration.</p>
+ *
+ * <p>The attempts are kept in the configured {@link LoginAttemptStore}, either per JVM or shared
+ * between all replicas.</p>
  */
 @Service
 public class LoginAttemptService {
-    private final ConcurrentHashMap<String, Integer> attemptsByIp = new ConcurrentHashMap<>();
-    private final ConcurrentHashMap<String, Long> blockUntilByIp = new ConcurrentHashMap<>();
+
+    private final LoginAttemptStore loginAttemptStore;
+
+    /**
+     * Constructs a new {@code LoginAttemptService}.
+     *
+     * @param loginAttemptStore the store holding failed attempts and blocks
+     */
+    public LoginAttemptService(LoginAttemptStore loginAttemptStore) {
+        this.loginAttemptStore = loginAttemptStore;
+    }
 
     /**
      * Checks if the given IP address is currently blocked due to excessive failed attempts.
@@ -26,13 +36,7 @@ public class LoginAttemptService {
      * @return {@code true} if the IP is blocked, {@code false} otherwise
      */
     public boolean isBlocked(String ipAddress) {
-        if (blockUntilByIp.containsKey(ipAddress)) {
-            if (blockUntilByIp.get(ipAddress) > System.currentTimeMillis()) {
-                return true;
-            }
-            blockUntilByIp.remove(ipAddress);
-        }
-        return false;
+        return loginAttemptStore.isBlocked(ipAddress);
     }
 
     /**
@@ -42,12 +46,7 @@ public class LoginAttemptService {
      * @param ipAddress the IP address from which the failed attempt occurred
      */
     public void registerFailedAttemptByIp(String ipAddress) {
-        int attempts = attemptsByIp.getOrDefault(ipAddress, 0) + 1;
-        attemptsByIp.put(ipAddress, attempts);
-        if (attempts >= SecurityConstants.MAX_ATTEMPTS) {
-            blockUntilByIp.put(ipAddress, System.currentTimeMillis() + SecurityConstants.BLOCK_DURATION);
-            attemptsByIp.remove(ipAddress);
-        }
+        loginAttemptStore.registerFailedAttempt(ipAddress);
     }
 
     /**
@@ -56,6 +55,6 @@ public class LoginAttemptService {
      * @param ipAddress the IP address whose attempts should be reset
      */
     public void resetAttemptsByIp(String ipAddress) {
-        attemptsByIp.remove(ipAddress);
+        loginAttemptStore.resetAttempts(ipAddress);
     }
 }
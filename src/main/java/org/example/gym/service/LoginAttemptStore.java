@@ -0,0 +1,32 @@
+package org.example.gym.service;
+
+/**
+ * Storage of failed login attempts and IP address blocks used by {@link LoginAttemptService}.
+ *
+ * <p>The implementation is selected with {@code user.login-attempts.store}: {@code memory} keeps the
+ * state in the local JVM, {@code jdbc} shares it between all replicas through the application database.</p>
+ */
+public interface LoginAttemptStore {
+
+    /**
+     * Checks if the given IP address is currently blocked.
+     *
+     * @param ipAddress the IP address to check
+     * @return {@code true} if the IP is blocked, {@code false} otherwise
+     */
+    boolean isBlocked(String ipAddress);
+
+    /**
+     * Records a failed login attempt and blocks the IP address once the maximum is reached.
+     *
+     * @param ipAddress the IP address from which the failed attempt occurred
+     */
+    void registerFailedAttempt(String ipAddress);
+
+    /**
+     * Clears the failed login attempts of the IP address without lifting an active block.
+     *
+     * @param ipAddress the IP address whose attempts should be reset
+     */
+    void resetAttempts(String ipAddress);
+}
@@ -1,8 +1,12 @@
 package org.example.gym.service;
 
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
 import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
 import lombok.Getter;
 import lombok.Setter;
 import org.springframework.stereotype.Service;
@@ -19,6 +23,20 @@ public class MetricsService {
     private final Counter loginSuccessCounter;
     private final Counter loginFailureCounter;
     private final Counter passwordChangeCounter;
+    private final Counter tokensPurgedCounter;
+    private final Timer tokenPurgeTimer;
+    private final Timer passwordEncodeTimer;
+    private final Timer passwordMatchTimer;
+    private final Timer passwordHashQueueWaitTimer;
+    private final Counter passwordHashRejectedCounter;
+    private final Counter workloadRetryCounter;
+    private final Timer workloadRetryLatencyTimer;
+    private final Counter workloadDeadLetterCounter;
+    private final Counter workloadParkedCounter;
+    private final DistributionSummary workloadBatchSizeSummary;
+    private final Timer workloadBatchFlushTimer;
+    private final Counter deadLetterReplayedCounter;
+    private final Counter deadLetterReplayFailedCounter;
 
     private int activeUsers = 0;
     private int inactiveUsers = 0;
@@ -41,6 +59,64 @@ public class MetricsService {
                 .description("Total number of password changes")
                 .register(meterRegistry);
 
+        this.tokensPurgedCounter = Counter.builder("tokens_purged_total")
+                .description("Total number of expired or revoked tokens removed from the tokens table")
+                .register(meterRegistry);
+
+        this.tokenPurgeTimer = Timer.builder("tokens_purge_duration")
+                .description("Time spent purging expired or revoked tokens per run")
+                .register(meterRegistry);
+
+        this.passwordEncodeTimer = Timer.builder("user_password_hash_duration")
+                .description("Time spent hashing passwords")
+                .tag("operation", "encode")
+                .register(meterRegistry);
+
+        this.passwordMatchTimer = Timer.builder("user_password_hash_duration")
+                .description("Time spent hashing passwords")
+                .tag("operation", "matches")
+                .register(meterRegistry);
+
+        this.passwordHashQueueWaitTimer = Timer.builder("user_password_hash_queue_wait")
+                .description("Time password hashing tasks spend waiting for a hashing thread")
+                .register(meterRegistry);
+
+        this.passwordHashRejectedCounter = Counter.builder("user_password_hash_rejected_total")
+                .description("Total number of password hashing tasks rejected because the pool was saturated")
+                .register(meterRegistry);
+
+        this.workloadRetryCounter = Counter.builder("trainer_workload_retry_attempts_total")
+                .description("Total number of failed trainer workload sends scheduled for a retry")
+                .register(meterRegistry);
+
+        this.workloadRetryLatencyTimer = Timer.builder("trainer_workload_retry_latency")
+                .description("Time from enqueue to delivery of trainer workload events that needed retries")
+                .register(meterRegistry);
+
+        this.workloadDeadLetterCounter = Counter.builder("trainer_workload_dlq_total")
+                .description("Total number of trainer workload events routed to the dead-letter queue")
+                .register(meterRegistry);
+
+        this.workloadParkedCounter = Counter.builder("trainer_workload_parked_total")
+                .description("Total number of unreadable trainer workload events moved out of the outbox")
+                .register(meterRegistry);
+
+        this.workloadBatchSizeSummary = DistributionSummary.builder("trainer_workload_batch_size")
+                .description("Number of trainer workload messages sent per batch")
+                .register(meterRegistry);
+
+        this.workloadBatchFlushTimer = Timer.builder("trainer_workload_batch_flush_duration")
+                .description("Time spent sending and committing a batch of trainer workload messages")
+                .register(meterRegistry);
+
+        this.deadLetterReplayedCounter = Counter.builder("trainer_workload_dlq_replayed_total")
+                .description("Total number of dead-letter messages republished to trainer.training.update")
+                .register(meterRegistry);
+
+        this.deadLetterReplayFailedCounter = Counter.builder("trainer_workload_dlq_replay_failed_total")
+                .description("Total number of dead-letter messages that could not be replayed")
+                .register(meterRegistry);
+
         Gauge.builder("active_users", this, MetricsService::getActiveUsers)
                 .description("Number of active users")
                 .register(meterRegistry);
@@ -73,4 +149,69 @@ public class MetricsService {
         passwordChangeCounter.increment();
     }
 
+    /**
+     * Records a token purge run by adding the removed rows to the {@code tokensPurgedCounter} and
+     * the elapsed time to the {@code tokenPurgeTimer}.
+     *
+     * @param removed      the number of rows removed during the run
+     * @param elapsedNanos the duration of the run in nanoseconds
+     */
+    public void recordTokenPurge(int removed, long elapsedNanos) {
+        tokensPurgedCounter.increment(removed);
+        tokenPurgeTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Records a failed trainer workload send that will be retried.
+     */
+    public void recordWorkloadRetry() {
+        workloadRetryCounter.increment();
+    }
+
+    /**
+     * Records the delivery of a trainer workload event that needed at least one retry.
+     *
+     * @param latency the time from enqueue to delivery
+     */
+    public void recordWorkloadRetryDelivered(Duration latency) {
+        workloadRetryLatencyTimer.record(latency);
+    }
+
+    /**
+     * Records a trainer workload event routed to the dead-letter queue.
+     */
+    public void recordWorkloadDeadLettered() {
+        workloadDeadLetterCounter.increment();
+    }
+
+    /**
+     * Records unreadable trainer workload events moved out of the outbox.
+     *
+     * @param events the number of parked events
+     */
+    public void recordWorkloadParked(int events) {
+        workloadParkedCounter.increment(events);
+    }
+
+    /**
+     * Records a batch of trainer workload messages sent in one transaction.
+     *
+     * @param messages     the number of messages in the batch
+     * @param elapsedNanos the time spent sending and committing the batch in nanoseconds
+     */
+    public void recordWorkloadBatch(int messages, long elapsedNanos) {
+        workloadBatchSizeSummary.record(messages);
+        workloadBatchFlushTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Records a dead-letter replay run.
+     *
+     * @param replayed the number of messages republished during the run
+     * @param failed   the number of messages that could not be republished during the run
+     */
+    public void recordDeadLetterReplay(int replayed, int failed) {
+        deadLetterReplayedCounter.increment(replayed);
+        deadLetterReplayFailedCounter.increment(failed);
+    }
 }
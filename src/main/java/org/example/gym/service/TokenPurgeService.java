@@ -0,0 +1,82 @@
+package org.example.gym.service;
+
+import java.time.LocalDateTime;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Service that periodically removes revoked and expired rows from the tokens table.
+ *
+ * <p>Every login inserts a token row, so without purging the table grows without bound. Rows are
+ * deleted in batches of {@code spring.jwt.purge.batch-size}, each committed on its own, with a pause of
+ * {@code spring.jwt.purge.pause-ms} between batches so the purge never holds long locks on the table.</p>
+ */
+@Service
+@Slf4j
+public class TokenPurgeService {
+
+    private final TokenService tokenService;
+    private final MetricsService metricsService;
+    private final int batchSize;
+    private final long pauseMillis;
+
+    /**
+     * Constructs a new {@code TokenPurgeService}.
+     *
+     * @param tokenService   the service used to delete token batches
+     * @param metricsService the service recording purge metrics
+     * @param batchSize      the maximum number of rows deleted per transaction
+     * @param pauseMillis    the pause between two batches in milliseconds
+     */
+    public TokenPurgeService(TokenService tokenService, MetricsService metricsService,
+                             @Value("${spring.jwt.purge.batch-size:500}") int batchSize,
+                             @Value("${spring.jwt.purge.pause-ms:200}") long pauseMillis) {
+        this.tokenService = tokenService;
+        this.metricsService = metricsService;
+        this.batchSize = batchSize;
+        this.pauseMillis = pauseMillis;
+    }
+
+    /**
+     * Deletes revoked and expired tokens batch by batch until none are left.
+     *
+     * @return the total number of deleted rows
+     */
+    @Scheduled(fixedDelayString = "${spring.jwt.purge.interval-ms:3600000}",
+            initialDelayString = "${spring.jwt.purge.interval-ms:3600000}")
+    public int purgeTokens() {
+        long start = System.nanoTime();
+        LocalDateTime now = LocalDateTime.now();
+        int total = 0;
+        int deleted;
+        do {
+            deleted = tokenService.deleteRevokedOrExpiredBatch(now, batchSize);
+            total += deleted;
+        } while (deleted == batchSize && pause());
+
+        metricsService.recordTokenPurge(total, System.nanoTime() - start);
+        log.info("Purged {} revoked or expired tokens.", total);
+        return total;
+    }
+
+    /**
+     * Sleeps between two batches.
+     *
+     * @return {@code false} if the thread was interrupted and the purge should stop
+     */
+    private boolean pause() {
+        if (pauseMillis <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(pauseMillis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Token purge interrupted.");
+            return false;
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package org.example.gym.service;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import org.example.gym.entity.TokenEntity;
@@ -14,13 +15,13 @@ public class TokenService {
     private final TokenRepository tokenRepository;
 
     /**
-     * Retrieves a token by its token string.
+     * Retrieves a token by the digest of its token string.
      *
-     * @param token The token string to look for.
+     * @param tokenHash The token digest to look for.
      * @return An Optional containing the token if found, or empty if not.
      */
-    public Optional<TokenEntity> getByToken(String token) {
-        return tokenRepository.findByToken(token);
+    public Optional<TokenEntity> getByTokenHash(String tokenHash) {
+        return tokenRepository.findByTokenHash(tokenHash);
     }
 
     /**
@@ -51,4 +52,15 @@ public class TokenService {
     public void deleteToken(TokenEntity token) {
         tokenRepository.delete(token);
     }
+
+    /**
+     * Deletes one batch of revoked or expired tokens in its own transaction.
+     *
+     * @param now       The instant before which tokens are considered expired.
+     * @param batchSize The maximum number of tokens to delete.
+     * @return The number of deleted tokens.
+     */
+    public int deleteRevokedOrExpiredBatch(LocalDateTime now, int batchSize) {
+        return tokenRepository.deleteRevokedOrExpiredBatch(now, batchSize);
+    }
 }
@@ -1,6 +1,5 @@
 package org.example.gym.service;
 
-import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import lombok.extern.slf4j.Slf4j;
@@ -13,7 +12,9 @@ import org.example.gym.entity.UserEntity;
 import org.example.gym.entity.enums.Role;
 import org.example.gym.exeption.TraineeNotFoundException;
 import org.example.gym.repository.TraineeRepository;
+import org.example.gym.utils.Pagination;
 import org.example.gym.utils.ValidationUtils;
+import org.springframework.data.domain.Slice;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -31,6 +32,7 @@ public class TraineeService {
     private final ValidationUtils validationUtils;
     private final BCryptPasswordEncoder passwordEncoder;
     private final UserService userService;
+    private final TrainerWorkloadSummary trainerWorkloadSummary;
 
 
     /**
@@ -43,16 +45,18 @@ public class TraineeService {
      * @param passwordEncoder   a {@link PasswordEncoder} instance for encode passwords for trainees.
      * @param userService       a {@link UserService} instance for managing user-related operations.
      *                         The {@code @Lazy} annotation is used to avoid circular dependency issues.
+     * @param trainerWorkloadSummary the monthly workload totals changed when a trainee's trainings are deleted.
      */
     public TraineeService(TrainerService trainerService, TraineeRepository traineeRepository,
                           ValidationUtils validationUtils,
                           BCryptPasswordEncoder passwordEncoder,
-                          UserService userService) {
+                          UserService userService, TrainerWorkloadSummary trainerWorkloadSummary) {
         this.trainerService = trainerService;
         this.traineeRepository = traineeRepository;
         this.validationUtils = validationUtils;
         this.passwordEncoder = passwordEncoder;
         this.userService = userService;
+        this.trainerWorkloadSummary = trainerWorkloadSummary;
     }
 
     /**
@@ -95,25 +99,25 @@ public class TraineeService {
     }
 
     /**
-     * Retrieves a list of unassigned trainers for the specified trainee.
+     * Retrieves a page of active trainers that are not assigned to the specified trainee.
      *
      * @param traineeUsername The username of the trainee.
-     * @return A list of TrainerEntity that are unassigned to the trainee.
+     * @param cursor          The username of the last trainer of the previous page, or null for the first page.
+     * @param size            The page size, or null for the default.
+     * @return A slice of active TrainerEntity that are unassigned to the trainee, ordered by username.
      */
-    @Transactional
-    public List<TrainerEntity> getUnassignedTrainers(String traineeUsername) {
+    @Transactional(readOnly = true)
+    public Slice<TrainerEntity> getUnassignedTrainers(String traineeUsername, String cursor, Integer size) {
         log.info("Fetching unassigned trainers!");
 
         TraineeEntity trainee = traineeRepository.findByUser_Username(traineeUsername)
                 .orElseThrow(() -> new TraineeNotFoundException("Trainee not found for username: "
                         + traineeUsername));
 
-        List<TrainerEntity> allTrainers = trainerService.findAll();
-        List<TrainerEntity> assignedTrainers = trainerService.findAssignedTrainers(trainee.getId());
-
-        allTrainers.removeAll(assignedTrainers);
-        log.info("Found {} unassigned trainers for trainee: {}", allTrainers.size(), traineeUsername);
-        return allTrainers;
+        Slice<TrainerEntity> trainers = trainerService.findUnassignedActiveTrainers(trainee.getId(),
+                cursor == null || cursor.isEmpty() ? null : cursor, Pagination.pageRequest(size));
+        log.info("Found {} unassigned trainers for trainee: {}", trainers.getNumberOfElements(), traineeUsername);
+        return trainers;
     }
 
     /**
@@ -129,12 +133,7 @@ public class TraineeService {
         TraineeEntity trainee = traineeRepository.findByUser_Username(requestDto.getTraineeUsername())
                 .orElseThrow(() -> new TraineeNotFoundException("Trainee not found"));
 
-        List<TrainerEntity> trainers = new ArrayList<>();
-        List<String> trainerUsername = requestDto.getTrainerUsername();
-        for (String s : trainerUsername) {
-            TrainerEntity trainer = trainerService.getTrainer(s);
-            trainers.add(trainer);
-        }
+        List<TrainerEntity> trainers = trainerService.getTrainers(requestDto.getTrainerUsername());
         trainee.setTrainers(new HashSet<>(trainers));
 
         validationUtils.validateUpdateTraineeTrainerList(trainee, trainers);
@@ -153,7 +152,7 @@ public class TraineeService {
     @Transactional
     public TraineeEntity updateTraineeProfile(UpdateTraineeRequestDto requestDto) {
         log.info("Updating trainee profile!");
-        TraineeEntity trainee = getTrainee(requestDto.getUsername());
+        TraineeEntity trainee = getTraineeProfile(requestDto.getUsername());
         if (requestDto.getDateOfBirth() != null) {
             trainee.setDateOfBirth(requestDto.getDateOfBirth());
         }
@@ -161,6 +160,7 @@ public class TraineeService {
             trainee.setAddress(requestDto.getAddress());
         }
         UserEntity user = trainee.getUser();
+        userService.evictUserDetails(user.getUsername());
         user.setUsername(requestDto.getUsername());
         user.setLastName(requestDto.getLastName());
         user.setFirstName(requestDto.getFirstName());
@@ -175,7 +175,9 @@ public class TraineeService {
     }
 
     /**
-     * Deletes a trainee profile by username.
+     * Deletes a trainee profile by username. The trainee's trainings are deleted with it and removed from the
+     * monthly workloads of their trainers in the same transaction, and the cached login details of the trainee
+     * are evicted.
      *
      * @param username The username of the trainee to delete.
      */
@@ -184,7 +186,9 @@ public class TraineeService {
         log.info("Deleting trainee!");
         TraineeEntity trainee = traineeRepository.findByUser_Username(username)
                 .orElseThrow(() -> new TraineeNotFoundException("TraineeEntity not found"));
+        trainerWorkloadSummary.removeTraineeTrainings(trainee.getId());
         traineeRepository.delete(trainee);
+        userService.evictUserDetails(username);
         log.info("Trainee deleted successfully with id: {}", trainee.getId());
     }
 
@@ -202,4 +206,18 @@ public class TraineeService {
                         + username));
     }
 
+    /**
+     * Retrieves a trainee by their username together with the assigned trainers shown in the profile.
+     *
+     * @param username The username of the trainee.
+     * @return The found TraineeEntity with its trainers loaded.
+     */
+    @Transactional(readOnly = true)
+    public TraineeEntity getTraineeProfile(String username) {
+        log.info("Retrieving trainee profile!");
+        return traineeRepository.findWithTrainersByUser_Username(username)
+                .orElseThrow(() -> new TraineeNotFoundException("Trainee not found for username: "
+                        + username));
+    }
+
 }
@@ -1,6 +1,8 @@
 package org.example.gym.service;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import lombok.extern.slf4j.Slf4j;
 import org.example.gym.dto.request.ActivateRequestDto;
 import org.example.gym.dto.request.UpdateTrainerRequestDto;
@@ -12,6 +14,8 @@ import org.example.gym.exeption.TrainerNotFoundException;
 import org.example.gym.repository.TrainerRepository;
 import org.example.gym.utils.UserUtils;
 import org.example.gym.utils.ValidationUtils;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -99,8 +103,9 @@ public class TrainerService {
     @Transactional
     public TrainerEntity updateTrainerProfile(UpdateTrainerRequestDto requestDto) {
         log.info("Updating trainer profile!");
-        TrainerEntity trainer = getTrainer(requestDto.getUsername());
+        TrainerEntity trainer = getTrainerProfile(requestDto.getUsername());
         UserEntity user = trainer.getUser();
+        userService.evictUserDetails(user.getUsername());
         user.setUsername(requestDto.getUsername());
         user.setFirstName(requestDto.getFirstName());
         user.setLastName(requestDto.getLastName());
@@ -116,29 +121,20 @@ public class TrainerService {
     }
 
     /**
-     * Retrieves all {@link TrainerEntity} records from the database.
-     *
-     * @return a list of all {@link TrainerEntity} records.
-     */
-    @Transactional
-    public List<TrainerEntity> findAll() {
-        log.info("Retrieving all trainers");
-        return trainerRepository.findAll();
-    }
-
-    /**
-     * Retrieves all assigned {@link TrainerEntity} records for a specific ID.
+     * Retrieves a page of active trainers that are not assigned to the given trainee.
      *
-     * @param id the ID for which assigned trainers need to be retrieved.
-     * @return a list of {@link TrainerEntity} records assigned to the given ID.
+     * @param traineeId      the ID of the trainee.
+     * @param cursorUsername the username of the last trainer of the previous page, or {@code null}.
+     * @param pageable       the page size.
+     * @return a slice of unassigned active {@link TrainerEntity} records, ordered by username.
      */
-    @Transactional
-    public List<TrainerEntity> findAssignedTrainers(Long id) {
-        log.info("Retrieving assigned trainers for trainee ID {}", id);
-        return trainerRepository.findByTrainees_Id(id);
+    @Transactional(readOnly = true)
+    public Slice<TrainerEntity> findUnassignedActiveTrainers(Long traineeId, String cursorUsername,
+                                                             Pageable pageable) {
+        log.info("Retrieving unassigned active trainers for trainee ID {}", traineeId);
+        return trainerRepository.findUnassignedActiveTrainers(traineeId, cursorUsername, pageable);
     }
 
-
     /**
      * Finds a {@link TrainerEntity} by the trainer's username.
      *
@@ -154,4 +150,40 @@ public class TrainerService {
                     return new TrainerNotFoundException("Trainer not found with username: " + trainerUsername);
                 });
     }
+
+    /**
+     * Finds a {@link TrainerEntity} by the trainer's username together with the trainees shown in the profile.
+     *
+     * @param trainerUsername the username of the trainer to find.
+     * @return the {@link TrainerEntity} with its trainees loaded.
+     */
+    @Transactional(readOnly = true)
+    public TrainerEntity getTrainerProfile(String trainerUsername) {
+        log.info("Retrieving trainer profile!");
+        return trainerRepository.findWithTraineesByUser_Username(trainerUsername)
+                .orElseThrow(() -> {
+                    log.error("Trainer not found with username: {}", trainerUsername);
+                    return new TrainerNotFoundException("Trainer not found with username: " + trainerUsername);
+                });
+    }
+
+    /**
+     * Finds the {@link TrainerEntity} records for the given usernames with one query.
+     *
+     * @param trainerUsernames the usernames of the trainers to find.
+     * @return the found {@link TrainerEntity} records.
+     * @throws TrainerNotFoundException if any of the usernames does not belong to a trainer.
+     */
+    @Transactional(readOnly = true)
+    public List<TrainerEntity> getTrainers(List<String> trainerUsernames) {
+        log.info("Retrieving {} trainers!", trainerUsernames.size());
+        Set<String> requested = new HashSet<>(trainerUsernames);
+        List<TrainerEntity> trainers = trainerRepository.findByUser_UsernameIn(requested);
+        if (trainers.size() != requested.size()) {
+            trainers.forEach(trainer -> requested.remove(trainer.getUser().getUsername()));
+            log.error("Trainers not found with usernames: {}", requested);
+            throw new TrainerNotFoundException("Trainer not found with username: " + String.join(", ", requested));
+        }
+        return trainers;
+    }
 }
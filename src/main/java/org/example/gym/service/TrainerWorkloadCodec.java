@@ -0,0 +1,46 @@
+package org.example.gym.service;
+
+import javax.jms.JMSException;
+import javax.jms.Message;
+import javax.jms.Session;
+import org.example.gym.dto.request.TrainerWorkloadRequestDto;
+
+/**
+ * Encoding of trainer workload events as JMS messages, used by {@link JmsProducerService}.
+ *
+ * <p>The implementation is selected with {@code trainer.workload.codec}: {@code json} sends a JSON text
+ * message, {@code binary} a compact bytes message. Every message names its format in the
+ * {@value #CONTENT_TYPE_PROPERTY} and {@value #FORMAT_VERSION_PROPERTY} properties, so consumers can read
+ * both formats while producers are switched over.</p>
+ */
+public interface TrainerWorkloadCodec {
+
+    /**
+     * Message property holding the media type of the body.
+     */
+    String CONTENT_TYPE_PROPERTY = "contentType";
+
+    /**
+     * Message property holding the version of the body layout of that media type.
+     */
+    String FORMAT_VERSION_PROPERTY = "formatVersion";
+
+    /**
+     * Creates the message of a workload event.
+     *
+     * @param session the session to create the message with
+     * @param event   the workload event
+     * @return the message, with its format properties set
+     * @throws JMSException if the message cannot be created
+     */
+    Message encode(Session session, TrainerWorkloadRequestDto event) throws JMSException;
+
+    /**
+     * Reads the workload event of a message created by {@link #encode}.
+     *
+     * @param message the message
+     * @return the workload event
+     * @throws JMSException if the message is not in the format of this codec or cannot be read
+     */
+    TrainerWorkloadRequestDto decode(Message message) throws JMSException;
+}
@@ -0,0 +1,173 @@
+package org.example.gym.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import org.example.gym.dto.request.TrainerWorkloadRequestDto;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Transactional outbox of trainer workload events, stored in the {@code trainer_workload_outbox} table.
+ *
+ * <p>Events are written in the transaction of the training change that caused them, so an event exists
+ * exactly when its change is committed. {@link TrainerWorkloadOutboxRelay} later sends them to the broker
+ * and deletes them once sent.</p>
+ */
+@Service
+public class TrainerWorkloadOutbox {
+
+    private static final String INSERT_EVENT =
+            "INSERT INTO trainer_workload_outbox (trainer_username, payload) VALUES (?, ?)";
+    private static final String NEXT_SEQUENCE = "INSERT INTO trainer_workload_sequence (trainer_username, "
+            + "last_sequence) VALUES (?, 1) ON CONFLICT (trainer_username) "
+            + "DO UPDATE SET last_sequence = trainer_workload_sequence.last_sequence + 1 RETURNING last_sequence";
+    private static final String LOCK_BATCH = "SELECT o.id, o.trainer_username, o.payload, o.attempts, "
+            + "o.created_at "
+            + "FROM trainer_workload_outbox o WHERE o.next_attempt_at <= CURRENT_TIMESTAMP "
+            + "AND NOT EXISTS (SELECT 1 FROM trainer_workload_outbox w WHERE w.trainer_username = o.trainer_username "
+            + "AND w.id < o.id AND w.next_attempt_at > CURRENT_TIMESTAMP) "
+            + "ORDER BY o.id LIMIT ? FOR UPDATE OF o SKIP LOCKED";
+    private static final String TRY_LOCK_RELAY =
+            "SELECT pg_try_advisory_xact_lock(hashtext('trainer_workload_outbox_relay'))";
+    private static final String DELETE_EVENT = "DELETE FROM trainer_workload_outbox WHERE id = ?";
+    private static final String PARK_EVENT = "WITH parked AS (DELETE FROM trainer_workload_outbox WHERE id = ? "
+            + "RETURNING id, payload, created_at) INSERT INTO trainer_workload_outbox_parked (id, payload, created_at) "
+            + "SELECT id, payload, created_at FROM parked";
+    private static final String SCHEDULE_RETRY = "UPDATE trainer_workload_outbox SET attempts = attempts + 1, "
+            + "next_attempt_at = CURRENT_TIMESTAMP + ? * INTERVAL '1 millisecond' WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Constructs a new {@code TrainerWorkloadOutbox}.
+     *
+     * @param jdbcTemplate the template used to access the outbox table
+     * @param objectMapper the object mapper used to store events as JSON
+     */
+    public TrainerWorkloadOutbox(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Assigns an event id and the next sequence number of its trainer to an event and stores it in the outbox,
+     * as part of the current transaction.
+     *
+     * <p>The sequence row of the trainer stays locked until the transaction ends, so concurrent changes of the
+     * same trainer are numbered in commit order.</p>
+     *
+     * @param event the workload event to relay after commit
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueue(TrainerWorkloadRequestDto event) {
+        event.setEventId(UUID.randomUUID().toString());
+        event.setSequence(jdbcTemplate.queryForObject(NEXT_SEQUENCE, Long.class, event.getTrainerUsername()));
+        try {
+            jdbcTemplate.update(INSERT_EVENT, event.getTrainerUsername(), objectMapper.writeValueAsString(event));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize trainer workload event", e);
+        }
+    }
+
+    /**
+     * Tries to become the only relay of the outbox until the end of the current transaction.
+     *
+     * <p>Batches of several relays could otherwise interleave, and a later event of a trainer locked by one
+     * relay could be sent before an earlier one still being sent by another.</p>
+     *
+     * @return {@code true} if the lock was taken, {@code false} if another relay holds it
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public boolean tryLockRelay() {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(TRY_LOCK_RELAY, Boolean.class));
+    }
+
+    /**
+     * Locks the oldest due events that no other relay has locked, until the end of the current transaction.
+     *
+     * <p>Events of a trainer stored after an event of the same trainer that waits for a retry are not due
+     * either, so a retried event is never overtaken by a later update of its trainer, while the events of other
+     * trainers keep flowing.</p>
+     *
+     * @param batchSize the maximum number of events
+     * @return the locked events, oldest first
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public List<OutboxEvent> lockBatch(int batchSize) {
+        return jdbcTemplate.query(LOCK_BATCH, (rs, rowNum) -> new OutboxEvent(rs.getLong("id"),
+                rs.getString("trainer_username"), rs.getString("payload"), rs.getInt("attempts"),
+                rs.getTimestamp("created_at").toLocalDateTime()), batchSize);
+    }
+
+    /**
+     * Counts a failed attempt of an event and postpones its next attempt, as part of the current transaction.
+     *
+     * @param id          the id of the event
+     * @param delayMillis the delay before the next attempt
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void scheduleRetry(Long id, long delayMillis) {
+        jdbcTemplate.update(SCHEDULE_RETRY, delayMillis, id);
+    }
+
+    /**
+     * Deletes relayed events as part of the current transaction.
+     *
+     * @param ids the ids of the relayed events
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void delete(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(DELETE_EVENT, ids.stream().map(id -> new Object[]{id}).toList());
+    }
+
+    /**
+     * Moves events to {@code trainer_workload_outbox_parked} as part of the current transaction, keeping their raw
+     * payload for manual inspection.
+     *
+     * @param ids the ids of the events to park
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void park(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(PARK_EVENT, ids.stream().map(id -> new Object[]{id}).toList());
+    }
+
+    /**
+     * Reads the workload event stored in an outbox payload.
+     *
+     * @param payload the stored payload
+     * @return the workload event
+     * @throws IllegalStateException if the payload cannot be read
+     */
+    public TrainerWorkloadRequestDto decode(String payload) {
+        try {
+            return objectMapper.readValue(payload, TrainerWorkloadRequestDto.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to read trainer workload event", e);
+        }
+    }
+
+    /**
+     * Workload event stored in the outbox.
+     *
+     * @param id              the id of the outbox row
+     * @param trainerUsername the trainer of the event, {@code null} if it could not be taken from the payload
+     * @param payload         the event as JSON
+     * @param attempts        the number of failed attempts so far
+     * @param createdAt       when the event was stored
+     */
+    public record OutboxEvent(Long id, String trainerUsername, String payload, int attempts,
+                              LocalDateTime createdAt) {
+    }
+}
@@ -0,0 +1,253 @@
+package org.example.gym.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import lombok.extern.slf4j.Slf4j;
+import org.example.gym.dto.request.TrainerWorkloadRequestDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Background relay that drains the {@link TrainerWorkloadOutbox} to {@code trainer.training.update}.
+ *
+ * <p>Every {@code trainer.workload.outbox.poll-interval-ms} the oldest due events are locked in batches of
+ * {@code trainer.workload.outbox.batch-size} and deleted in the same transaction once sent, until no due
+ * event is left. Each batch transaction first takes a transaction-scoped advisory lock, and a replica that
+ * cannot take it skips the poll, so only one replica sends at a time and the events of a trainer leave in
+ * outbox order however many replicas run.</p>
+ *
+ * <p>The events gathered during one poll interval are sent in order as a single transacted JMS session,
+ * instead of one session per event. If the batch fails, its events are sent one by one so that only the
+ * failing event is retried.</p>
+ *
+ * <p>When an event fails the batch stops and the event is retried later with exponential backoff: the n-th
+ * retry waits between half and all of {@code initial-delay-ms * 2^(n-1)}, capped at {@code max-delay-ms}.
+ * After {@code max-attempts} failed attempts the event is routed to the dead-letter queue instead. An event
+ * the codec cannot encode, such as one with an unknown action type, fails the same way on every attempt and
+ * is routed to the dead-letter queue at once. Nothing sleeps, so a broker outage costs one failed send per
+ * poll rather than a blocked thread.</p>
+ *
+ * <p>Events whose payload cannot be read, or whose row has no trainer, are moved to
+ * {@code trainer_workload_outbox_parked} in the transaction of their batch, so they are not locked again on
+ * every poll. A row without a trainer would neither be held back by nor hold back the other events of its
+ * trainer.</p>
+ */
+@Service
+@Slf4j
+public class TrainerWorkloadOutboxRelay {
+
+    private final TrainerWorkloadOutbox outbox;
+    private final JmsProducerService jmsProducerService;
+    private final MetricsService metricsService;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long initialDelayMillis;
+    private final long maxDelayMillis;
+
+    /**
+     * Constructs a new {@code TrainerWorkloadOutboxRelay}.
+     *
+     * @param outbox             the outbox holding the events
+     * @param jmsProducerService the service sending the events to the broker
+     * @param metricsService     the service recording retry and dead-letter metrics
+     * @param transactionManager the transaction manager running one transaction per batch
+     * @param batchSize          the maximum number of events relayed per transaction
+     * @param maxAttempts        the number of failed attempts after which an event is dead-lettered
+     * @param initialDelayMillis the base delay before the first retry
+     * @param maxDelayMillis     the maximum delay between two attempts
+     */
+    public TrainerWorkloadOutboxRelay(TrainerWorkloadOutbox outbox, @Lazy JmsProducerService jmsProducerService,
+                                      MetricsService metricsService, PlatformTransactionManager transactionManager,
+                                      @Value("${trainer.workload.outbox.batch-size:100}") int batchSize,
+                                      @Value("${trainer.workload.outbox.retry.max-attempts:5}") int maxAttempts,
+                                      @Value("${trainer.workload.outbox.retry.initial-delay-ms:1000}")
+                                      long initialDelayMillis,
+                                      @Value("${trainer.workload.outbox.retry.max-delay-ms:60000}")
+                                      long maxDelayMillis) {
+        this.outbox = outbox;
+        this.jmsProducerService = jmsProducerService;
+        this.metricsService = metricsService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.initialDelayMillis = initialDelayMillis;
+        this.maxDelayMillis = maxDelayMillis;
+    }
+
+    /**
+     * Relays batches of due events until none is left or a send fails.
+     *
+     * @return the number of events delivered, dead-lettered or parked
+     */
+    @Scheduled(fixedDelayString = "${trainer.workload.outbox.poll-interval-ms:500}")
+    public int relay() {
+        int total = 0;
+        Integer relayed;
+        do {
+            relayed = transactionTemplate.execute(status -> relayBatch());
+            total += relayed == null ? 0 : relayed;
+        } while (relayed != null && relayed == batchSize);
+
+        if (total > 0) {
+            log.info("Relayed {} trainer workload events.", total);
+        }
+        return total;
+    }
+
+    /**
+     * Computes the delay before the next attempt of an event.
+     *
+     * @param attempts the number of failed attempts, including the one that just failed
+     * @return the delay in milliseconds, with jitter
+     */
+    long backoffMillis(int attempts) {
+        long delay = initialDelayMillis << Math.min(attempts - 1, 30);
+        if (delay <= 0 || delay > maxDelayMillis) {
+            delay = maxDelayMillis;
+        }
+        long half = delay / 2;
+        return half + ThreadLocalRandom.current().nextLong(delay - half + 1);
+    }
+
+    private int relayBatch() {
+        if (!outbox.tryLockRelay()) {
+            log.debug("Another relay is sending trainer workload events, skipping this poll.");
+            return 0;
+        }
+        List<Long> unreadable = new ArrayList<>();
+        Map<TrainerWorkloadOutbox.OutboxEvent, TrainerWorkloadRequestDto> events =
+                decode(outbox.lockBatch(batchSize), unreadable);
+        if (!unreadable.isEmpty()) {
+            outbox.park(unreadable);
+            metricsService.recordWorkloadParked(unreadable.size());
+        }
+        List<Long> relayed = sendAsBatch(events) ? ids(events.keySet()) : sendOneByOne(events);
+        outbox.delete(relayed);
+        return unreadable.size() + relayed.size();
+    }
+
+    /**
+     * Reads the events of a batch.
+     *
+     * @param unreadable receives the ids of the events whose payload cannot be read or that have no trainer
+     * @return the readable events, in batch order
+     */
+    private Map<TrainerWorkloadOutbox.OutboxEvent, TrainerWorkloadRequestDto> decode(
+            List<TrainerWorkloadOutbox.OutboxEvent> batch, List<Long> unreadable) {
+        Map<TrainerWorkloadOutbox.OutboxEvent, TrainerWorkloadRequestDto> events = new LinkedHashMap<>();
+        for (TrainerWorkloadOutbox.OutboxEvent outboxEvent : batch) {
+            if (outboxEvent.trainerUsername() == null) {
+                log.error("Parking trainer workload event {} without a trainer.", outboxEvent.id());
+                unreadable.add(outboxEvent.id());
+                continue;
+            }
+            try {
+                events.put(outboxEvent, outbox.decode(outboxEvent.payload()));
+            } catch (IllegalStateException e) {
+                log.error("Parking unreadable trainer workload event {}.", outboxEvent.id(), e);
+                unreadable.add(outboxEvent.id());
+            }
+        }
+        return events;
+    }
+
+    /**
+     * Sends the events in one transacted session.
+     *
+     * @return {@code true} if all events were delivered, {@code false} if none was
+     */
+    private boolean sendAsBatch(Map<TrainerWorkloadOutbox.OutboxEvent, TrainerWorkloadRequestDto> events) {
+        if (events.isEmpty()) {
+            return false;
+        }
+        long start = System.nanoTime();
+        try {
+            jmsProducerService.sendTrainingUpdates(new ArrayList<>(events.values()));
+        } catch (RuntimeException e) {
+            log.warn("Relaying {} trainer workload events as one batch failed, sending them one by one.",
+                    events.size(), e);
+            return false;
+        }
+        metricsService.recordWorkloadBatch(events.size(), System.nanoTime() - start);
+        events.keySet().forEach(this::recordDelivered);
+        return true;
+    }
+
+    /**
+     * Sends the events one at a time until one fails, so that only the failed event is retried.
+     *
+     * @return the ids of the events delivered or dead-lettered
+     */
+    private List<Long> sendOneByOne(Map<TrainerWorkloadOutbox.OutboxEvent, TrainerWorkloadRequestDto> events) {
+        List<Long> relayed = new ArrayList<>(events.size());
+        for (Map.Entry<TrainerWorkloadOutbox.OutboxEvent, TrainerWorkloadRequestDto> entry : events.entrySet()) {
+            try {
+                jmsProducerService.sendTrainingUpdate(entry.getValue());
+            } catch (RuntimeException e) {
+                if (handleFailure(entry.getKey(), entry.getValue(), e)) {
+                    relayed.add(entry.getKey().id());
+                }
+                break;
+            }
+            recordDelivered(entry.getKey());
+            relayed.add(entry.getKey().id());
+        }
+        return relayed;
+    }
+
+    private void recordDelivered(TrainerWorkloadOutbox.OutboxEvent outboxEvent) {
+        if (outboxEvent.attempts() > 0) {
+            metricsService.recordWorkloadRetryDelivered(Duration.between(outboxEvent.createdAt(), LocalDateTime.now()));
+        }
+    }
+
+    private static List<Long> ids(Collection<TrainerWorkloadOutbox.OutboxEvent> outboxEvents) {
+        return outboxEvents.stream().map(TrainerWorkloadOutbox.OutboxEvent::id).toList();
+    }
+
+    /**
+     * Schedules a retry of a failed event, or routes it to the dead-letter queue when it ran out of attempts or
+     * cannot be encoded.
+     *
+     * @return {@code true} if the event was dead-lettered and can be removed from the outbox
+     */
+    private boolean handleFailure(TrainerWorkloadOutbox.OutboxEvent outboxEvent, TrainerWorkloadRequestDto event,
+                                  RuntimeException failure) {
+        int attempts = outboxEvent.attempts() + 1;
+        if (attempts >= maxAttempts || isEncodingFailure(failure)) {
+            try {
+                jmsProducerService.sendToDeadLetterQueue(event, failure, attempts);
+                metricsService.recordWorkloadDeadLettered();
+                return true;
+            } catch (RuntimeException e) {
+                log.warn("Routing trainer workload event {} to the DLQ failed.", outboxEvent.id(), e);
+            }
+        }
+        long delay = backoffMillis(attempts);
+        outbox.scheduleRetry(outboxEvent.id(), delay);
+        metricsService.recordWorkloadRetry();
+        log.warn("Relaying trainer workload event {} failed on attempt {}, retrying in {} ms.",
+                outboxEvent.id(), attempts, delay, failure);
+        return false;
+    }
+
+    /**
+     * Tells whether a send failed because the codec rejected the event rather than because of the broker.
+     * Codecs throw {@link IllegalArgumentException} or {@link IllegalStateException} for events they cannot
+     * encode, while broker failures surface as {@link org.springframework.jms.JmsException}.
+     */
+    private static boolean isEncodingFailure(RuntimeException failure) {
+        return failure instanceof IllegalArgumentException || failure instanceof IllegalStateException;
+    }
+}
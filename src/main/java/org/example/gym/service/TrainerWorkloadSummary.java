@@ -0,0 +1,121 @@
+package org.example.gym.service;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Monthly workload totals of trainers, stored in the {@code trainer_monthly_workload} table.
+ *
+ * <p>Totals are changed in the transaction of the training change that caused them, so they always match the
+ * committed trainings and a monthly workload is read without scanning the training table.</p>
+ */
+@Service
+public class TrainerWorkloadSummary {
+
+    private static final String ADD_TRAININGS = "INSERT INTO trainer_monthly_workload (trainer_id, year, month, "
+            + "total_duration, training_count) VALUES (?, ?, ?, ?, ?) ON CONFLICT (trainer_id, year, month) "
+            + "DO UPDATE SET total_duration = trainer_monthly_workload.total_duration + EXCLUDED.total_duration, "
+            + "training_count = trainer_monthly_workload.training_count + EXCLUDED.training_count";
+    private static final String REMOVE_TRAINING = "UPDATE trainer_monthly_workload "
+            + "SET total_duration = total_duration - ?, training_count = training_count - 1 "
+            + "WHERE trainer_id = ? AND year = ? AND month = ?";
+    private static final String REMOVE_TRAINEE_TRAININGS = "UPDATE trainer_monthly_workload w "
+            + "SET total_duration = w.total_duration - t.total_duration, "
+            + "training_count = w.training_count - t.training_count "
+            + "FROM (SELECT trainer_id, EXTRACT(YEAR FROM training_date) AS year, "
+            + "EXTRACT(MONTH FROM training_date) AS month, SUM(training_duration) AS total_duration, "
+            + "COUNT(*) AS training_count FROM training WHERE trainee_id = ? "
+            + "GROUP BY trainer_id, EXTRACT(YEAR FROM training_date), EXTRACT(MONTH FROM training_date)) t "
+            + "WHERE w.trainer_id = t.trainer_id AND w.year = t.year AND w.month = t.month";
+    private static final String FIND_MONTH = "SELECT total_duration, training_count FROM trainer_monthly_workload "
+            + "WHERE trainer_id = ? AND year = ? AND month = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Constructs a new {@code TrainerWorkloadSummary}.
+     *
+     * @param jdbcTemplate the template used to access the summary table
+     */
+    public TrainerWorkloadSummary(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Adds a training to the workload of its trainer and month, as part of the current transaction.
+     *
+     * @param trainerId        the id of the trainer
+     * @param trainingDate     the date of the training
+     * @param trainingDuration the duration of the training in minutes
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void addTraining(Long trainerId, LocalDateTime trainingDate, int trainingDuration) {
+        addTrainings(trainerId, YearMonth.from(trainingDate), trainingDuration, 1);
+    }
+
+    /**
+     * Adds several trainings of one trainer and month to their workload, as part of the current transaction.
+     *
+     * @param trainerId     the id of the trainer
+     * @param month         the month of the trainings
+     * @param totalDuration the total duration of the trainings in minutes
+     * @param trainingCount the number of trainings
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void addTrainings(Long trainerId, YearMonth month, long totalDuration, int trainingCount) {
+        jdbcTemplate.update(ADD_TRAININGS, trainerId, month.getYear(), month.getMonthValue(), totalDuration,
+                trainingCount);
+    }
+
+    /**
+     * Removes a training from the workload of its trainer and month, as part of the current transaction.
+     *
+     * @param trainerId        the id of the trainer
+     * @param trainingDate     the date of the training
+     * @param trainingDuration the duration of the training in minutes
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void removeTraining(Long trainerId, LocalDateTime trainingDate, int trainingDuration) {
+        jdbcTemplate.update(REMOVE_TRAINING, trainingDuration, trainerId, trainingDate.getYear(),
+                trainingDate.getMonthValue());
+    }
+
+    /**
+     * Removes all trainings of a trainee from the workloads of their trainers, as part of the current
+     * transaction. Must run before the trainings are deleted.
+     *
+     * @param traineeId the id of the trainee whose trainings are about to be deleted
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void removeTraineeTrainings(Long traineeId) {
+        jdbcTemplate.update(REMOVE_TRAINEE_TRAININGS, traineeId);
+    }
+
+    /**
+     * Returns the workload of a trainer in a month.
+     *
+     * @param trainerId the id of the trainer
+     * @param month     the month
+     * @return the workload, zero if the trainer had no trainings that month
+     */
+    @Transactional(readOnly = true)
+    public MonthlyWorkload getMonthlyWorkload(Long trainerId, YearMonth month) {
+        return jdbcTemplate.query(FIND_MONTH, rs -> rs.next()
+                        ? new MonthlyWorkload(rs.getLong("total_duration"), rs.getInt("training_count"))
+                        : new MonthlyWorkload(0, 0),
+                trainerId, month.getYear(), month.getMonthValue());
+    }
+
+    /**
+     * Workload of a trainer in one month.
+     *
+     * @param totalDuration the total duration of the trainings in minutes
+     * @param trainingCount the number of trainings
+     */
+    public record MonthlyWorkload(long totalDuration, int trainingCount) {
+    }
+}
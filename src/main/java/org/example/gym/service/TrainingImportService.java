@@ -0,0 +1,264 @@
+package org.example.gym.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.RuntimeJsonMappingException;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import jakarta.persistence.EntityManager;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.example.gym.dto.request.AddTrainingRequestDto;
+import org.example.gym.dto.request.TrainerWorkloadRequestDto;
+import org.example.gym.entity.TraineeEntity;
+import org.example.gym.entity.TrainerEntity;
+import org.example.gym.entity.TrainingEntity;
+import org.example.gym.entity.UserEntity;
+import org.example.gym.exeption.TraineeNotFoundException;
+import org.example.gym.exeption.TrainerNotFoundException;
+import org.example.gym.exeption.ValidationException;
+import org.example.gym.mapper.TrainingMapper;
+import org.example.gym.repository.TraineeRepository;
+import org.example.gym.repository.TrainerRepository;
+import org.example.gym.repository.TrainingRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Service importing many trainings at once from a JSON array or a CSV document.
+ *
+ * <p>Rows are read from the stream one at a time and stored in chunks of {@code training.import.chunk-size}.
+ * The trainees and trainers of a chunk are loaded with one query each, the trainings are inserted in JDBC
+ * batches and the persistence context is cleared after each chunk, so memory stays bounded however large the
+ * import is. The import is one transaction: a row with an unknown trainee or trainer, or a malformed row,
+ * rejects the whole import.</p>
+ *
+ * <p>Instead of one workload event per training, one event is written to the outbox per trainer and month,
+ * carrying the total duration of the imported trainings of that month, and the monthly workload of the
+ * trainer is updated once.</p>
+ */
+@Service
+@Slf4j
+public class TrainingImportService {
+
+    private static final Comparator<WorkloadKey> WORKLOAD_ORDER =
+            Comparator.comparing(WorkloadKey::trainerUsername).thenComparing(WorkloadKey::month);
+
+    private final TrainingRepository trainingRepository;
+    private final TraineeRepository traineeRepository;
+    private final TrainerRepository trainerRepository;
+    private final TrainingMapper trainingMapper;
+    private final TrainerWorkloadOutbox trainerWorkloadOutbox;
+    private final TrainerWorkloadSummary trainerWorkloadSummary;
+    private final EntityManager entityManager;
+    private final ObjectReader jsonReader;
+    private final ObjectReader csvReader;
+    private final int chunkSize;
+
+    /**
+     * Constructs a new {@code TrainingImportService}.
+     *
+     * @param trainingRepository     the repository storing the trainings
+     * @param traineeRepository      the repository resolving the trainees of a chunk
+     * @param trainerRepository      the repository resolving the trainers of a chunk
+     * @param trainingMapper         the mapper creating the training entities
+     * @param trainerWorkloadOutbox  the outbox receiving the aggregated workload events
+     * @param trainerWorkloadSummary the monthly workload totals of the trainers
+     * @param entityManager          the entity manager cleared after each chunk
+     * @param objectMapper           the object mapper reading JSON rows
+     * @param chunkSize              the number of rows stored and flushed together
+     */
+    public TrainingImportService(TrainingRepository trainingRepository, TraineeRepository traineeRepository,
+                                 TrainerRepository trainerRepository, TrainingMapper trainingMapper,
+                                 TrainerWorkloadOutbox trainerWorkloadOutbox,
+                                 TrainerWorkloadSummary trainerWorkloadSummary, EntityManager entityManager,
+                                 ObjectMapper objectMapper,
+                                 @Value("${training.import.chunk-size:1000}") int chunkSize) {
+        this.trainingRepository = trainingRepository;
+        this.traineeRepository = traineeRepository;
+        this.trainerRepository = trainerRepository;
+        this.trainingMapper = trainingMapper;
+        this.trainerWorkloadOutbox = trainerWorkloadOutbox;
+        this.trainerWorkloadSummary = trainerWorkloadSummary;
+        this.entityManager = entityManager;
+        this.jsonReader = objectMapper.readerFor(AddTrainingRequestDto.class);
+        this.csvReader = CsvMapper.builder().findAndAddModules().build().readerFor(AddTrainingRequestDto.class)
+                .with(CsvSchema.emptySchema().withHeader());
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Imports the trainings of a JSON array of {@link AddTrainingRequestDto} objects.
+     *
+     * @param json the JSON document
+     * @return the number of imported trainings
+     */
+    @Transactional
+    public int importJson(InputStream json) {
+        try {
+            return importTrainings(jsonReader.readValues(json));
+        } catch (IOException e) {
+            throw new ValidationException("Unreadable training import: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Imports the trainings of a CSV document whose header names the {@link AddTrainingRequestDto} fields.
+     *
+     * @param csv the CSV document
+     * @return the number of imported trainings
+     */
+    @Transactional
+    public int importCsv(InputStream csv) {
+        try {
+            return importTrainings(csvReader.readValues(csv));
+        } catch (IOException e) {
+            throw new ValidationException("Unreadable training import: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Imports the trainings of the given rows, as part of the current transaction.
+     *
+     * @param rows the rows to import, read lazily
+     * @return the number of imported trainings
+     */
+    int importTrainings(Iterator<AddTrainingRequestDto> rows) {
+        Map<WorkloadKey, MonthlyTotal> workloads = new TreeMap<>(WORKLOAD_ORDER);
+        List<AddTrainingRequestDto> chunk = new ArrayList<>(chunkSize);
+        int imported = 0;
+        try {
+            while (rows.hasNext()) {
+                AddTrainingRequestDto row = rows.next();
+                validateRow(row, imported + chunk.size() + 1);
+                chunk.add(row);
+                if (chunk.size() == chunkSize) {
+                    importChunk(chunk, imported, workloads);
+                    imported += chunk.size();
+                    chunk.clear();
+                }
+            }
+        } catch (RuntimeJsonMappingException e) {
+            throw new ValidationException("Row " + (imported + chunk.size() + 1) + " is malformed: "
+                    + e.getMessage());
+        }
+        if (!chunk.isEmpty()) {
+            importChunk(chunk, imported, workloads);
+            imported += chunk.size();
+        }
+
+        // Lock order: every summary row first, then every sequence row, each in key order. Single training
+        // changes lock the summary row of their trainer and month before the sequence row of their trainer, so
+        // neither they nor other imports can wait on a row this import holds while holding one it waits for.
+        workloads.forEach((key, total) -> trainerWorkloadSummary.addTrainings(total.trainerId, key.month(),
+                total.duration, total.count));
+        workloads.forEach(this::enqueueWorkload);
+        log.info("Imported {} trainings, queued {} aggregated trainer workload updates.", imported,
+                workloads.size());
+        return imported;
+    }
+
+    /**
+     * Stores one chunk of rows and adds its trainings to the workload totals.
+     *
+     * @param chunk     the rows of the chunk
+     * @param rowOffset the number of rows imported before the chunk
+     * @param workloads the workload totals per trainer and month
+     */
+    private void importChunk(List<AddTrainingRequestDto> chunk, int rowOffset,
+                             Map<WorkloadKey, MonthlyTotal> workloads) {
+        Map<String, TraineeEntity> trainees = traineeRepository.findByUser_UsernameIn(
+                usernames(chunk, AddTrainingRequestDto::getTraineeUsername)).stream()
+                .collect(Collectors.toMap(trainee -> trainee.getUser().getUsername(), Function.identity()));
+        Map<String, TrainerEntity> trainers = trainerRepository.findByUser_UsernameIn(
+                usernames(chunk, AddTrainingRequestDto::getTrainerUsername)).stream()
+                .collect(Collectors.toMap(trainer -> trainer.getUser().getUsername(), Function.identity()));
+
+        List<TrainingEntity> trainings = new ArrayList<>(chunk.size());
+        for (int i = 0; i < chunk.size(); i++) {
+            AddTrainingRequestDto row = chunk.get(i);
+            TraineeEntity trainee = trainees.get(row.getTraineeUsername());
+            if (trainee == null) {
+                throw new TraineeNotFoundException("Row " + (rowOffset + i + 1)
+                        + ": trainee not found with username: " + row.getTraineeUsername());
+            }
+            TrainerEntity trainer = trainers.get(row.getTrainerUsername());
+            if (trainer == null) {
+                throw new TrainerNotFoundException("Row " + (rowOffset + i + 1)
+                        + ": trainer not found with username: " + row.getTrainerUsername());
+            }
+            trainings.add(trainingMapper.requestDtoMapToTrainingEntity(row, trainee, trainer));
+        }
+
+        trainingRepository.saveAll(trainings);
+        trainingRepository.flush();
+        for (TrainingEntity training : trainings) {
+            UserEntity user = training.getTrainer().getUser();
+            workloads.computeIfAbsent(new WorkloadKey(user.getUsername(), YearMonth.from(training.getTrainingDate())),
+                    key -> new MonthlyTotal(training.getTrainer().getId(), user))
+                    .add(training.getTrainingDuration());
+        }
+        entityManager.clear();
+    }
+
+    /**
+     * Queues one workload event for the imported trainings of a trainer and month.
+     */
+    private void enqueueWorkload(WorkloadKey key, MonthlyTotal total) {
+        UserEntity user = total.user;
+        trainerWorkloadOutbox.enqueue(new TrainerWorkloadRequestDto(user.getUsername(), user.getFirstName(),
+                user.getLastName(), user.getIsActive(), key.month().atDay(1).atStartOfDay(),
+                Math.toIntExact(total.duration), "ADD"));
+    }
+
+    private static void validateRow(AddTrainingRequestDto row, int rowNumber) {
+        if (row.getTraineeUsername() == null || row.getTrainerUsername() == null || row.getTrainingName() == null
+                || row.getTrainingDate() == null || row.getTrainingDuration() == null) {
+            throw new ValidationException("Row " + rowNumber + " is missing traineeUsername, trainerUsername, "
+                    + "trainingName, trainingDate or trainingDuration.");
+        }
+    }
+
+    private static Set<String> usernames(List<AddTrainingRequestDto> chunk,
+                                         Function<AddTrainingRequestDto, String> username) {
+        return chunk.stream().map(username).collect(Collectors.toSet());
+    }
+
+    /**
+     * Trainer and month of imported trainings.
+     */
+    private record WorkloadKey(String trainerUsername, YearMonth month) {
+    }
+
+    /**
+     * Total duration and number of imported trainings of one trainer and month.
+     */
+    private static final class MonthlyTotal {
+        private final Long trainerId;
+        private final UserEntity user;
+        private long duration;
+        private int count;
+
+        private MonthlyTotal(Long trainerId, UserEntity user) {
+            this.trainerId = trainerId;
+            this.user = user;
+        }
+
+        private void add(int trainingDuration) {
+            duration += trainingDuration;
+            count++;
+        }
+    }
+}
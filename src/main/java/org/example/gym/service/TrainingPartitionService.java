@@ -0,0 +1,55 @@
+package org.example.gym.service;
+
+import java.time.LocalDate;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Service that keeps monthly partitions of the {@code training} table created ahead of time.
+ *
+ * <p>The table is range-partitioned by {@code training_date}. At startup and then every
+ * {@code training.partitions.interval-ms} the partitions of the current month and of the next
+ * {@code training.partitions.months-ahead} months are created if missing, so new trainings never land in
+ * the default partition. The work is done by the {@code create_training_partitions} database function,
+ * which is idempotent and serialized by an advisory lock, and therefore safe to run from every replica.</p>
+ */
+@Service
+@Slf4j
+public class TrainingPartitionService {
+
+    private static final String CREATE_PARTITIONS =
+            "SELECT create_training_partitions(CAST(? AS DATE), CAST(? AS DATE))";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int monthsAhead;
+
+    /**
+     * Constructs a new {@code TrainingPartitionService}.
+     *
+     * @param jdbcTemplate the template used to call the partition function
+     * @param monthsAhead  the number of future months to keep partitions for
+     */
+    public TrainingPartitionService(JdbcTemplate jdbcTemplate,
+                                    @Value("${training.partitions.months-ahead:3}") int monthsAhead) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.monthsAhead = monthsAhead;
+    }
+
+    /**
+     * Creates the missing partitions from the current month up to {@code months-ahead} months ahead.
+     *
+     * @return the number of partitions created
+     */
+    @Scheduled(fixedDelayString = "${training.partitions.interval-ms:86400000}")
+    public int createFuturePartitions() {
+        LocalDate firstMonth = LocalDate.now().withDayOfMonth(1);
+        Integer created = jdbcTemplate.queryForObject(CREATE_PARTITIONS, Integer.class,
+                firstMonth, firstMonth.plusMonths(monthsAhead));
+        int count = created == null ? 0 : created;
+        log.info("Created {} training partitions up to {} months ahead.", count, monthsAhead);
+        return count;
+    }
+}
@@ -1,7 +1,7 @@
 package org.example.gym.service;
 
-import java.util.List;
 import lombok.extern.slf4j.Slf4j;
+import org.example.gym.dto.projection.TrainingView;
 import org.example.gym.dto.request.AddTrainingRequestDto;
 import org.example.gym.dto.request.TraineeTrainingsRequestDto;
 import org.example.gym.dto.request.TrainerTrainingRequestDto;
@@ -13,8 +13,10 @@ import org.example.gym.entity.UserEntity;
 import org.example.gym.exeption.TrainingNotFoundException;
 import org.example.gym.mapper.TrainingMapper;
 import org.example.gym.repository.TrainingRepository;
+import org.example.gym.utils.Pagination;
+import org.example.gym.utils.TrainingPagination;
 import org.example.gym.utils.ValidationUtils;
-import org.springframework.context.annotation.Lazy;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -30,7 +32,8 @@ public class TrainingService {
     private final TrainerService trainerService;
     private final TrainingMapper trainingMapper;
     private final ValidationUtils validationUtils;
-    private final JmsProducerService jmsProducerService;
+    private final TrainerWorkloadOutbox trainerWorkloadOutbox;
+    private final TrainerWorkloadSummary trainerWorkloadSummary;
 
 
     /**
@@ -41,24 +44,29 @@ public class TrainingService {
      * @param trainerService     Service for managing trainer data.
      * @param trainingMapper     Mapper to convert between DTOs and entity objects.
      * @param validationUtils    Utility class for validating training data.
+     * @param trainerWorkloadOutbox Outbox receiving the trainer workload events of training changes.
+     * @param trainerWorkloadSummary Monthly workload totals kept up to date with training changes.
      */
     public TrainingService(TrainingRepository trainingRepository, TraineeService traineeService,
                            TrainerService trainerService, ValidationUtils validationUtils,
-                           TrainingMapper trainingMapper, @Lazy JmsProducerService jmsProducerService
+                           TrainingMapper trainingMapper, TrainerWorkloadOutbox trainerWorkloadOutbox,
+                           TrainerWorkloadSummary trainerWorkloadSummary
     ) {
         this.trainingMapper = trainingMapper;
         this.trainingRepository = trainingRepository;
         this.traineeService = traineeService;
         this.trainerService = trainerService;
         this.validationUtils = validationUtils;
-        this.jmsProducerService = jmsProducerService;
+        this.trainerWorkloadOutbox = trainerWorkloadOutbox;
+        this.trainerWorkloadSummary = trainerWorkloadSummary;
     }
 
 
 
     /**
      * Adds a training session to the database with specified details from the request DTO.
-     * Notifies the associated trainer's workload upon successful addition of the training session.
+     * The trainer workload update is written to the outbox in the same transaction and sent to the broker
+     * after commit; the monthly workload of the trainer is updated in the same transaction.
      *
      * @param requestDto DTO containing details about the training session to be added.
      */
@@ -70,19 +78,22 @@ public class TrainingService {
 
         TrainingEntity training = trainingMapper.requestDtoMapToTrainingEntity(requestDto, trainee, trainer);
         trainingRepository.save(training);
+        trainerWorkloadSummary.addTraining(trainer.getId(), training.getTrainingDate(),
+                training.getTrainingDuration());
 
         UserEntity user = trainer.getUser();
         TrainerWorkloadRequestDto request = new TrainerWorkloadRequestDto(user.getUsername(), user.getFirstName(),
                 user.getLastName(), user.getIsActive(),
                 training.getTrainingDate(), training.getTrainingDuration(), "ADD");
 
-        jmsProducerService.sendTrainingUpdate(request);
-        log.info("Training added and notification sent to trainer workload service.");
+        trainerWorkloadOutbox.enqueue(request);
+        log.info("Training added and trainer workload update queued.");
 
     }
 
     /**
-     * Deletes a training session based on the specified training ID.
+     * Deletes a training session based on the specified training ID and removes it from the monthly workload
+     * of its trainer in the same transaction.
      *
      * @param trainingId the ID of the training session to be deleted.
      */
@@ -93,61 +104,80 @@ public class TrainingService {
                 .orElseThrow(() -> new TrainingNotFoundException("Training not found with ID: "
                         + trainingId));
         trainingRepository.delete(training);
+        trainerWorkloadSummary.removeTraining(training.getTrainer().getId(), training.getTrainingDate(),
+                training.getTrainingDuration());
         UserEntity user = training.getTrainer().getUser();
         TrainerWorkloadRequestDto request = new TrainerWorkloadRequestDto(user.getUsername(), user.getFirstName(),
                 user.getLastName(), user.getIsActive(),
                 training.getTrainingDate(), training.getTrainingDuration(), "DELETE");
-        jmsProducerService.sendTrainingUpdate(request);
-        log.info("Training deleted successfully and trainer's workload has been notified.");
+        trainerWorkloadOutbox.enqueue(request);
+        log.info("Training deleted successfully and trainer workload update queued.");
     }
 
     /**
-     * Retrieves a list of trainings for a specific trainee based on the provided criteria.
+     * Retrieves one page of trainings for a specific trainee based on the provided criteria.
      *
-     * @return A list of training entities that match the criteria.
+     * <p>The page continues after {@code requestDto.cursor} and holds at most {@code requestDto.size}
+     * trainings, capped at {@link Pagination#MAX_PAGE_SIZE}.</p>
+     *
+     * @return A slice of training rows that match the criteria, newest first.
      */
-    @Transactional
-    public List<TrainingEntity> getTrainingsForTrainee(TraineeTrainingsRequestDto requestDto) {
+    @Transactional(readOnly = true)
+    public Slice<TrainingView> getTrainingsForTrainee(TraineeTrainingsRequestDto requestDto) {
 
         log.info("Fetching trainings for traineeName!");
 
         validationUtils.validateTraineeTrainingsCriteria(requestDto);
+        TrainingPagination.Cursor cursor = TrainingPagination.decodeCursor(requestDto.getCursor());
 
-        List<TrainingEntity> trainings = trainingRepository.findTrainingsForTrainee(requestDto.getTraineeName(),
-                requestDto.getPeriodFrom(), requestDto.getPeriodTo(), requestDto.getTrainerName(),
-                requestDto.getTrainingType());
+        Slice<TrainingView> trainings = trainingRepository.findTrainingsForTrainee(requestDto.getTraineeName(),
+                TrainingPagination.lowerBound(requestDto.getPeriodFrom()),
+                TrainingPagination.upperBound(requestDto.getPeriodTo(), cursor), requestDto.getTrainerName(),
+                requestDto.getTrainingType(), cursor == null ? null : cursor.trainingDate(),
+                cursor == null ? null : cursor.id(), Pagination.pageRequest(requestDto.getSize()));
 
-        if (trainings.isEmpty()) {
+        if (trainings.isEmpty() && cursor == null) {
             log.warn("No trainings found for trainee: {}", requestDto.getTraineeName());
             throw new TrainingNotFoundException("No trainings found for the specified criteria.");
         }
 
-        log.info("Found {} trainings for trainee: {}", trainings.size(), requestDto.getTraineeName());
+        log.info("Found {} trainings for trainee: {}", trainings.getNumberOfElements(), requestDto.getTraineeName());
         return trainings;
     }
 
     /**
-     * Retrieves a list of trainings conducted by a specific trainer based on the provided criteria.
+     * Retrieves one page of trainings conducted by a specific trainer based on the provided criteria.
+     *
+     * <p>The page continues after {@code requestDto.cursor} and holds at most {@code requestDto.size}
+     * trainings, capped at {@link Pagination#MAX_PAGE_SIZE}. The trainer is only looked up when no training
+     * is found, to tell an unknown trainer from a trainer without trainings.</p>
      *
-     * @return A list of training entities that match the criteria.
+     * @return A slice of training rows that match the criteria, newest first.
      */
-    @Transactional
-    public List<TrainingEntity> getTrainingsForTrainer(TrainerTrainingRequestDto requestDto) {
+    @Transactional(readOnly = true)
+    public Slice<TrainingView> getTrainingsForTrainer(TrainerTrainingRequestDto requestDto) {
 
         log.info("Fetching trainings for trainer! ");
 
         validationUtils.validateTrainerTrainingsCriteria(requestDto);
-        TrainerEntity trainer = trainerService.getTrainer(requestDto.getTrainerUsername());
+        TrainingPagination.Cursor cursor = TrainingPagination.decodeCursor(requestDto.getCursor());
 
-        List<TrainingEntity> trainings = trainingRepository.findTrainingsForTrainer(trainer.getUser().getUsername(),
-                requestDto.getPeriodFrom(), requestDto.getPeriodTo(), requestDto.getTraineeName());
+        Slice<TrainingView> trainings = trainingRepository.findTrainingsForTrainer(requestDto.getTrainerUsername(),
+                TrainingPagination.lowerBound(requestDto.getPeriodFrom()),
+                TrainingPagination.upperBound(requestDto.getPeriodTo(), cursor), requestDto.getTraineeName(),
+                cursor == null ? null : cursor.trainingDate(), cursor == null ? null : cursor.id(),
+                Pagination.pageRequest(requestDto.getSize()));
 
         if (trainings.isEmpty()) {
-            log.warn("No trainings found for trainer ID: {}", trainer.getId());
-            throw new TrainingNotFoundException("No trainings found for the specified criteria.");
+            trainerService.getTrainer(requestDto.getTrainerUsername());
+            if (cursor == null) {
+                log.warn("No trainings found for trainer: {}", requestDto.getTrainerUsername());
+                throw new TrainingNotFoundException("No trainings found for the specified criteria.");
+            }
         }
 
-        log.info("Found {} trainings for trainer: {}", trainings.size(), trainer.getId());
+        log.info("Found {} trainings for trainer: {}", trainings.getNumberOfElements(),
+                requestDto.getTrainerUsername());
         return trainings;
     }
 }
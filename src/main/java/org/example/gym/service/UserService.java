@@ -8,9 +8,12 @@ import org.example.gym.entity.UserEntity;
 import org.example.gym.exeption.UnauthorizedException;
 import org.example.gym.exeption.UserNotFoundException;
 import org.example.gym.repository.UserRepository;
+import org.springframework.security.core.userdetails.UserCache;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 /**
  * Service class for managing user-related operations.
@@ -22,18 +25,21 @@ public class UserService  {
     private final UserRepository userRepository;
     private final MetricsService metricsService;
     private final BCryptPasswordEncoder passwordEncoder;
+    private final UserCache userCache;
 
     /**
      * Constructs a {@link UserService} with the specified user repository and services.
      *
      * @param userRepository the repository for managing user entities.
      * @param metricsService the metrics for managing user entities.
+     * @param userCache      the cache of user details used at login, evicted on every user change.
      */
     public UserService(UserRepository userRepository, MetricsService metricsService,
-                       BCryptPasswordEncoder passwordEncoder) {
+                       BCryptPasswordEncoder passwordEncoder, UserCache userCache) {
         this.metricsService = metricsService;
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
+        this.userCache = userCache;
     }
 
 
@@ -72,13 +78,26 @@ public class UserService  {
      *
      * <p>This method persists the provided user entity in the database. If the entity
      * does not already exist (i.e., it does not have an ID), it will be inserted as a new record.
-     * If the entity already exists (i.e., it has an ID), it will be updated with the new data.</p>
+     * If the entity already exists (i.e., it has an ID), it will be updated with the new data.
+     * The cached login details of the user are evicted, because status and profile changes go through here.</p>
      *
      * @param userEntity the {@link UserEntity} to be saved
      * @return the saved {@link UserEntity} with updated data, including any auto-generated fields such as ID
      */
     public UserEntity save(UserEntity userEntity) {
-        return userRepository.save(userEntity);
+        UserEntity saved = userRepository.save(userEntity);
+        evictUserDetails(saved.getUsername());
+        return saved;
+    }
+
+    /**
+     * Returns a reference to the user with the given id without loading it.
+     *
+     * @param id the id of the user
+     * @return a lazily initialized {@link UserEntity} usable as an association target
+     */
+    public UserEntity getReferenceById(Long id) {
+        return userRepository.getReferenceById(id);
     }
 
 
@@ -118,10 +137,50 @@ public class UserService  {
         String encode = passwordEncoder.encode(newPassword);
         user.setPassword(encode);
         userRepository.save(user);
+        evictUserDetails(user.getUsername());
         log.info("User password changed successfully for username: {}", user.getUsername());
         metricsService.recordPasswordChange();
     }
 
+    /**
+     * Replaces the stored password hash of the user without encoding it again.
+     *
+     * <p>This method is used to upgrade hashes created with a lower work factor after the user
+     * has successfully logged in.</p>
+     *
+     * @param username        the username of the user
+     * @param encodedPassword the already encoded password
+     */
+    @Transactional
+    public void updatePasswordHash(String username, String encodedPassword) {
+        UserEntity user = findByUsername(username);
+        user.setPassword(encodedPassword);
+        userRepository.save(user);
+        evictUserDetails(username);
+        log.info("Password hash upgraded for username: {}", username);
+    }
+
+    /**
+     * Evicts the cached login details of the user now and, inside a transaction, again after the commit,
+     * so a login running concurrently with the change cannot keep the old state cached.
+     *
+     * <p>{@link #save(UserEntity)} only evicts the username being saved, so callers renaming or deleting a
+     * user evict the username the user had before.</p>
+     *
+     * @param username the username of the changed user
+     */
+    public void evictUserDetails(String username) {
+        userCache.removeUserFromCache(username);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    userCache.removeUserFromCache(username);
+                }
+            });
+        }
+    }
+
     /**
      * Checks if a user with the given username exists in the database.
      *
@@ -0,0 +1,244 @@
+package org.example.gym.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import javax.jms.Connection;
+import javax.jms.ConnectionFactory;
+import javax.jms.JMSException;
+import javax.jms.Message;
+import javax.jms.MessageConsumer;
+import javax.jms.MessageProducer;
+import javax.jms.Queue;
+import javax.jms.Session;
+import javax.jms.TextMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.example.gym.config.JmsConfig;
+import org.example.gym.dto.request.TrainerWorkloadRequestDto;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.jms.support.JmsUtils;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Service that replays the workload updates routed to {@code trainer.training.dlq} back to
+ * {@code trainer.training.update}.
+ *
+ * <p>A run reads at most {@code trainer.workload.dlq.replay.batch-size} messages and republishes them at no
+ * more than {@code trainer.workload.dlq.replay.rate-per-second}, so the catch-up after a broker incident
+ * does not flood the consumers. Each message is received and republished in one transacted session
+ * commit, so a message is never lost nor left in both queues. Republished updates keep their event id, by
+ * which consumers recognise updates they have already applied, and their sequence, which is usually lower
+ * than the last one a consumer applied and must not make it drop them. Sessions are opened on a dedicated
+ * connection factory that redelivers without limit, so rolled back messages stay in the DLQ instead of
+ * moving to {@code ActiveMQ.DLQ}.</p>
+ *
+ * <p>A run stops at the first failed republish and leaves that message in the DLQ. Messages that are not a
+ * readable workload update are moved to {@code trainer.training.dlq.parked} for manual inspection. Runs
+ * are started from the {@code workloaddlq} actuator endpoint or, with
+ * {@code trainer.workload.dlq.replay.scheduled} enabled, every {@code trainer.workload.dlq.replay.interval-ms}
+ * on each replica.</p>
+ */
+@Service
+@Slf4j
+public class WorkloadDeadLetterReplayService {
+
+    static final String PARKED_QUEUE = "trainer.training.dlq.parked";
+
+    private static final long RECEIVE_TIMEOUT_MILLIS = 1000;
+
+    private final ConnectionFactory connectionFactory;
+    private final JmsProducerService jmsProducerService;
+    private final ObjectMapper objectMapper;
+    private final MetricsService metricsService;
+    private final int batchSize;
+    private final long intervalNanos;
+    private final boolean scheduled;
+
+    private volatile ReplayResult lastResult;
+
+    /**
+     * Constructs a new {@code WorkloadDeadLetterReplayService}.
+     *
+     * @param connectionFactory  the connection factory for the replay sessions, redelivering without limit
+     * @param jmsProducerService the service creating the republished messages
+     * @param objectMapper       the object mapper reading the dead-letter messages
+     * @param metricsService     the service recording replay metrics
+     * @param batchSize          the maximum number of messages read per run
+     * @param ratePerSecond      the maximum number of messages republished per second, greater than zero
+     * @param scheduled          whether runs are also started on a schedule
+     * @throws IllegalArgumentException if {@code ratePerSecond} is not greater than zero
+     */
+    public WorkloadDeadLetterReplayService(@Lazy @Qualifier(JmsConfig.DEAD_LETTER_REPLAY_CONNECTION_FACTORY)
+                                           ConnectionFactory connectionFactory,
+                                           @Lazy JmsProducerService jmsProducerService, ObjectMapper objectMapper,
+                                           MetricsService metricsService,
+                                           @Value("${trainer.workload.dlq.replay.batch-size:500}") int batchSize,
+                                           @Value("${trainer.workload.dlq.replay.rate-per-second:50}")
+                                           double ratePerSecond,
+                                           @Value("${trainer.workload.dlq.replay.scheduled:false}")
+                                           boolean scheduled) {
+        if (!(ratePerSecond > 0)) {
+            throw new IllegalArgumentException(
+                    "trainer.workload.dlq.replay.rate-per-second must be greater than zero: " + ratePerSecond);
+        }
+        this.connectionFactory = connectionFactory;
+        this.jmsProducerService = jmsProducerService;
+        this.objectMapper = objectMapper;
+        this.metricsService = metricsService;
+        this.batchSize = batchSize;
+        this.intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / ratePerSecond);
+        this.scheduled = scheduled;
+    }
+
+    /**
+     * Replays one batch of dead-letter messages if scheduled replays are enabled.
+     */
+    @Scheduled(fixedDelayString = "${trainer.workload.dlq.replay.interval-ms:300000}")
+    public void replayScheduled() {
+        if (scheduled) {
+            replay(batchSize);
+        }
+    }
+
+    /**
+     * Replays dead-letter messages until the DLQ is empty, a republish fails or the limit is reached.
+     *
+     * @param maxMessages the maximum number of messages to read, capped at the configured batch size
+     * @return the counts of the run
+     */
+    public synchronized ReplayResult replay(int maxMessages) {
+        int limit = Math.min(maxMessages, batchSize);
+        int replayed = 0;
+        int failed = 0;
+        Connection connection = null;
+        Session session = null;
+        try {
+            connection = connectionFactory.createConnection();
+            connection.start();
+            session = connection.createSession(true, Session.SESSION_TRANSACTED);
+            MessageConsumer consumer = session.createConsumer(
+                    session.createQueue(JmsProducerService.DEAD_LETTER_QUEUE));
+            MessageProducer producer = session.createProducer(null);
+            Queue updateQueue = session.createQueue(JmsProducerService.TRAINING_UPDATE_QUEUE);
+            Queue parkedQueue = session.createQueue(PARKED_QUEUE);
+            long nextSendAt = System.nanoTime();
+
+            while (replayed + failed < limit) {
+                Message message = consumer.receive(RECEIVE_TIMEOUT_MILLIS);
+                if (message == null) {
+                    break;
+                }
+                TrainerWorkloadRequestDto event = readOriginalMessage(message);
+                if (event == null) {
+                    producer.send(parkedQueue, message);
+                    session.commit();
+                    failed++;
+                    continue;
+                }
+                nextSendAt = awaitSendSlot(nextSendAt);
+                try {
+                    producer.send(updateQueue, jmsProducerService.createMessage(session, event));
+                    session.commit();
+                    replayed++;
+                } catch (JMSException | RuntimeException e) {
+                    log.warn("Replaying a dead-letter message failed, stopping the run.", e);
+                    rollbackQuietly(session);
+                    failed++;
+                    break;
+                }
+            }
+        } catch (JMSException e) {
+            log.warn("Reading trainer.training.dlq failed, stopping the run.", e);
+            rollbackQuietly(session);
+            failed++;
+        } finally {
+            JmsUtils.closeSession(session);
+            JmsUtils.closeConnection(connection);
+        }
+
+        ReplayResult result = new ReplayResult(replayed, failed);
+        lastResult = result;
+        metricsService.recordDeadLetterReplay(replayed, failed);
+        if (replayed + failed > 0) {
+            log.info("Dead-letter replay finished: {} replayed, {} failed.", replayed, failed);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the counts of the last run.
+     *
+     * @return the counts of the last run, or {@code null} if no run has finished yet
+     */
+    public ReplayResult getLastResult() {
+        return lastResult;
+    }
+
+    /**
+     * Reads the workload update held in a dead-letter message written by
+     * {@link JmsProducerService#sendToDeadLetterQueue}.
+     *
+     * @return the workload update, or {@code null} if the message does not hold one
+     */
+    private TrainerWorkloadRequestDto readOriginalMessage(Message message) throws JMSException {
+        if (!(message instanceof TextMessage textMessage) || textMessage.getText() == null) {
+            log.error("Parking dead-letter message {}: not a text message.", message.getJMSMessageID());
+            return null;
+        }
+        try {
+            JsonNode originalMessage = objectMapper.readTree(textMessage.getText()).get("originalMessage");
+            if (originalMessage == null || !originalMessage.isObject()) {
+                log.error("Parking dead-letter message {}: no original message.", message.getJMSMessageID());
+                return null;
+            }
+            return objectMapper.treeToValue(originalMessage, TrainerWorkloadRequestDto.class);
+        } catch (JsonProcessingException e) {
+            log.error("Parking dead-letter message {}: unreadable.", message.getJMSMessageID(), e);
+            return null;
+        }
+    }
+
+    /**
+     * Waits until the next republish is allowed by the configured rate.
+     *
+     * @param nextSendAt the {@link System#nanoTime()} from which the next republish is allowed
+     * @return the time from which the republish after that one is allowed
+     */
+    private long awaitSendSlot(long nextSendAt) {
+        long now = System.nanoTime();
+        while (nextSendAt - now > 0) {
+            LockSupport.parkNanos(nextSendAt - now);
+            now = System.nanoTime();
+        }
+        return now + intervalNanos;
+    }
+
+    /**
+     * Rolls back the received but unhandled message, so that it stays in its queue.
+     */
+    private static void rollbackQuietly(Session session) {
+        if (session == null) {
+            return;
+        }
+        try {
+            session.rollback();
+        } catch (JMSException e) {
+            log.debug("Rolling back the replay session failed; closing it rolls back anyway.", e);
+        }
+    }
+
+    /**
+     * Counts of a replay run.
+     *
+     * @param replayed the number of messages republished to {@code trainer.training.update}
+     * @param failed   the number of messages that could not be republished, plus one if the queues could not
+     *                 be accessed
+     */
+    public record ReplayResult(int replayed, int failed) {
+    }
+}
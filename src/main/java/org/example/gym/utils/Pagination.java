@@ -0,0 +1,38 @@
+package org.example.gym.utils;
+
+import org.example.gym.exeption.ValidationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * Page size rules shared by all paged endpoints.
+ *
+ * <p>Paged endpoints return slices continued from a cursor, so only the size of a page is requested. It
+ * defaults to {@link #DEFAULT_PAGE_SIZE} and is capped at {@link #MAX_PAGE_SIZE}, so a single request never
+ * loads an unbounded number of rows.</p>
+ */
+public final class Pagination {
+
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private Pagination() {
+    }
+
+    /**
+     * Builds the page request for the requested page size, capped at {@link #MAX_PAGE_SIZE}.
+     *
+     * @param size the requested page size, or {@code null} for the default
+     * @return the page request of the first page with the resolved size
+     * @throws ValidationException if the size is not positive
+     */
+    public static Pageable pageRequest(Integer size) {
+        if (size == null) {
+            return PageRequest.ofSize(DEFAULT_PAGE_SIZE);
+        }
+        if (size < 1) {
+            throw new ValidationException("Page size must be positive.");
+        }
+        return PageRequest.ofSize(Math.min(size, MAX_PAGE_SIZE));
+    }
+}
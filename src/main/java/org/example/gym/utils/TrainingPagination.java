@@ -0,0 +1,105 @@
+package org.example.gym.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import org.example.gym.exeption.ValidationException;
+
+/**
+ * Keyset pagination helpers for the training history endpoints.
+ *
+ * <p>Trainings are listed newest first, ordered by {@code (training_date, id)}. A page is continued from
+ * an opaque cursor holding the key of the last training of the previous page, so the database seeks
+ * directly to the next row instead of skipping all previous rows, and deep pages cost the same as the
+ * first one. Page sizes follow {@link Pagination}.</p>
+ *
+ * <p>The training table is partitioned by month of {@code training_date}. Queries always receive a closed
+ * date range, see {@link #lowerBound} and {@link #upperBound}, so PostgreSQL can prune partitions outside
+ * the range even when it reuses a generic plan of the prepared statement.</p>
+ */
+public final class TrainingPagination {
+
+    /**
+     * Bound used when a search has no start date.
+     */
+    public static final LocalDateTime EARLIEST_TRAINING_DATE = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    /**
+     * Bound used when a search has no end date.
+     */
+    public static final LocalDateTime LATEST_TRAINING_DATE = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+
+    private static final String SEPARATOR = "|";
+
+    private TrainingPagination() {
+    }
+
+    /**
+     * Resolves the inclusive start of the searched date range.
+     *
+     * @param periodFrom the requested start date, or {@code null} for none
+     * @return the start of the range
+     */
+    public static LocalDateTime lowerBound(LocalDateTime periodFrom) {
+        return periodFrom == null ? EARLIEST_TRAINING_DATE : periodFrom;
+    }
+
+    /**
+     * Resolves the inclusive end of the searched date range. A page after a cursor never reaches past the
+     * training date of the cursor, so the range is narrowed to it.
+     *
+     * @param periodTo the requested end date, or {@code null} for none
+     * @param cursor   the decoded cursor, or {@code null} for the first page
+     * @return the end of the range
+     */
+    public static LocalDateTime upperBound(LocalDateTime periodTo, Cursor cursor) {
+        LocalDateTime upperBound = periodTo == null ? LATEST_TRAINING_DATE : periodTo;
+        if (cursor != null && cursor.trainingDate().isBefore(upperBound)) {
+            return cursor.trainingDate();
+        }
+        return upperBound;
+    }
+
+    /**
+     * Encodes the key of a training as an opaque cursor.
+     *
+     * @param trainingDate the date of the training
+     * @param id           the id of the training
+     * @return the URL-safe cursor
+     */
+    public static String encodeCursor(LocalDateTime trainingDate, Long id) {
+        String key = trainingDate + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(key.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a cursor created by {@link #encodeCursor(LocalDateTime, Long)}.
+     *
+     * @param cursor the cursor, or {@code null} for the first page
+     * @return the decoded key, or {@code null} for the first page
+     * @throws ValidationException if the cursor is malformed
+     */
+    public static Cursor decodeCursor(String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return null;
+        }
+        try {
+            String key = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = key.lastIndexOf(SEPARATOR);
+            return new Cursor(LocalDateTime.parse(key.substring(0, separator)),
+                    Long.valueOf(key.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new ValidationException("Invalid page cursor.");
+        }
+    }
+
+    /**
+     * Key of the last training of a page.
+     *
+     * @param trainingDate the date of the training
+     * @param id           the id of the training
+     */
+    public record Cursor(LocalDateTime trainingDate, Long id) {
+    }
+}
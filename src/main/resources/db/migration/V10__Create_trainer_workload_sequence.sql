@@ -0,0 +1,6 @@
+-- Last sequence number handed out to the workload events of each trainer. The row stays locked by the
+-- transaction that enqueues an event until it commits, so a trainer's sequence follows the commit order.
+CREATE TABLE trainer_workload_sequence (
+    trainer_username VARCHAR(255) PRIMARY KEY,
+    last_sequence BIGINT NOT NULL
+);
@@ -0,0 +1,17 @@
+-- Total training minutes and number of trainings of each trainer per calendar month, kept up to date in the
+-- transaction that adds or deletes a training, so a monthly workload is one primary key lookup.
+CREATE TABLE trainer_monthly_workload (
+    trainer_id BIGINT NOT NULL,
+    year SMALLINT NOT NULL,
+    month SMALLINT NOT NULL,
+    total_duration BIGINT NOT NULL,
+    training_count INT NOT NULL,
+    PRIMARY KEY (trainer_id, year, month),
+    FOREIGN KEY (trainer_id) REFERENCES trainer(id) ON DELETE CASCADE ON UPDATE CASCADE
+);
+
+INSERT INTO trainer_monthly_workload (trainer_id, year, month, total_duration, training_count)
+SELECT trainer_id, EXTRACT(YEAR FROM training_date), EXTRACT(MONTH FROM training_date),
+       SUM(training_duration), COUNT(*)
+FROM training
+GROUP BY trainer_id, EXTRACT(YEAR FROM training_date), EXTRACT(MONTH FROM training_date);
@@ -0,0 +1,4 @@
+-- Hand out training ids in blocks of 50, so Hibernate assigns the ids of a block in memory and batches the
+-- inserts. Must match the allocationSize of TrainingEntity. Inserts relying on the column default still draw
+-- single values from the sequence, which never overlap the blocks handed to Hibernate.
+ALTER SEQUENCE training_id_seq INCREMENT BY 50;
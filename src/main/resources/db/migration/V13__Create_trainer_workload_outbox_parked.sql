@@ -0,0 +1,8 @@
+-- Outbox rows whose payload cannot be read are moved here by the relay, so they neither stay due forever nor
+-- hold back the events behind them, and their raw payload is kept for manual inspection.
+CREATE TABLE trainer_workload_outbox_parked (
+    id BIGINT PRIMARY KEY,
+    payload TEXT NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    parked_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
@@ -0,0 +1,21 @@
+-- Replicas starting together could both find a partition missing and both create it, failing one of them with
+-- duplicate_table. Partition creation now holds a transaction-scoped advisory lock, so the calls run one after
+-- the other and the later one finds the partitions already there.
+CREATE OR REPLACE FUNCTION create_training_partitions(first_month DATE, last_month DATE) RETURNS INT AS $$
+DECLARE
+    month_start DATE;
+    created INT := 0;
+BEGIN
+    PERFORM pg_advisory_xact_lock(hashtext('create_training_partitions'));
+    FOR month_start IN
+        SELECT CAST(m AS DATE)
+        FROM generate_series(date_trunc('month', first_month), date_trunc('month', last_month),
+                             INTERVAL '1 month') AS m
+    LOOP
+        IF create_training_partition(month_start) THEN
+            created := created + 1;
+        END IF;
+    END LOOP;
+    RETURN created;
+END;
+$$ LANGUAGE plpgsql;
@@ -0,0 +1,9 @@
+-- A trainer workload event waiting for a retry only holds back the later events of the same trainer, so each
+-- outbox row records its trainer. Existing rows take it from their JSON payload; rows whose payload does not
+-- match keep NULL and are parked by the relay as unreadable.
+ALTER TABLE trainer_workload_outbox ADD COLUMN trainer_username VARCHAR(255);
+
+UPDATE trainer_workload_outbox
+SET trainer_username = substring(payload FROM '"trainerUsername":"([^"]*)"');
+
+CREATE INDEX ix_trainer_workload_outbox_trainer_username ON trainer_workload_outbox (trainer_username, id);
@@ -0,0 +1,15 @@
+-- Store a fixed-width SHA-256 digest (URL-safe Base64, unpadded) instead of the full JWT.
+ALTER TABLE tokens ADD COLUMN token_hash CHAR(43);
+
+UPDATE tokens
+SET token_hash = translate(rtrim(encode(sha256(convert_to(token, 'UTF8')), 'base64'), '='), '+/', '-_');
+
+DELETE FROM tokens a
+    USING tokens b
+WHERE a.token_hash = b.token_hash
+  AND a.id < b.id;
+
+ALTER TABLE tokens ALTER COLUMN token_hash SET NOT NULL;
+ALTER TABLE tokens DROP COLUMN token;
+
+CREATE UNIQUE INDEX ux_tokens_token_hash ON tokens (token_hash);
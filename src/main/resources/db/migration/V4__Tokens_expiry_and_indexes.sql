@@ -0,0 +1,10 @@
+-- Track token expiry so expired rows can be purged, and index the purge and logout access paths.
+ALTER TABLE tokens ADD COLUMN expires_at TIMESTAMP;
+
+UPDATE tokens SET expires_at = CURRENT_TIMESTAMP + INTERVAL '600000 seconds' WHERE expires_at IS NULL;
+
+ALTER TABLE tokens ALTER COLUMN expires_at SET NOT NULL;
+
+CREATE INDEX ix_tokens_expires_at ON tokens (expires_at);
+CREATE INDEX ix_tokens_revoked ON tokens (id) WHERE revoked = true;
+CREATE INDEX ix_tokens_user_id_active ON tokens (user_id) WHERE revoked = false;
@@ -0,0 +1,9 @@
+-- Failed login attempts and IP address blocks shared by all replicas (user.login-attempts.store=jdbc).
+CREATE TABLE login_attempts (
+    ip_address VARCHAR(45) PRIMARY KEY,
+    attempts INT NOT NULL,
+    window_start TIMESTAMP NOT NULL,
+    blocked_until TIMESTAMP
+);
+
+CREATE INDEX ix_login_attempts_window_start ON login_attempts (window_start);
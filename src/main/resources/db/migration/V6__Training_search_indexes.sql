@@ -0,0 +1,14 @@
+-- Index the access paths of the training history searches and of the username lookups behind them.
+-- Both searches seek by participant, range over training_date and page by (training_date, id) newest first;
+-- the included columns let the training rows of a page be read from the index alone.
+CREATE INDEX ix_training_trainee_date ON training (trainee_id, training_date DESC, id DESC)
+    INCLUDE (trainer_id, training_type_id, training_name, training_duration);
+CREATE INDEX ix_training_trainer_date ON training (trainer_id, training_date DESC, id DESC)
+    INCLUDE (trainee_id, training_type_id, training_name, training_duration);
+
+-- users.username is already indexed by its unique constraint; index the joins from users to the profiles.
+CREATE INDEX ix_trainee_user_id ON trainee (user_id);
+CREATE INDEX ix_trainer_user_id ON trainer (user_id);
+
+-- The primary key serves lookups by trainee; this serves lookups by trainer.
+CREATE INDEX ix_trainee_trainer_trainer_id ON trainee_trainer (trainer_id, trainee_id);
@@ -0,0 +1,85 @@
+-- Range-partition training by training_date, one partition per month, so date-bounded history queries
+-- only touch the partitions of their range and old months are no longer vacuumed with the new ones.
+-- Rows outside every monthly partition land in training_default until their month is created.
+
+-- Creates the partition of the month containing month_start, moving its rows out of training_default.
+CREATE FUNCTION create_training_partition(month_start DATE) RETURNS BOOLEAN AS $$
+DECLARE
+    range_start TIMESTAMP := date_trunc('month', month_start);
+    range_end TIMESTAMP := date_trunc('month', month_start) + INTERVAL '1 month';
+    partition_name TEXT := 'training_p' || to_char(month_start, 'YYYY_MM');
+BEGIN
+    IF to_regclass(partition_name) IS NOT NULL THEN
+        RETURN FALSE;
+    END IF;
+    EXECUTE format('CREATE TABLE %I (LIKE training INCLUDING DEFAULTS INCLUDING CONSTRAINTS)', partition_name);
+    EXECUTE format('WITH moved AS (DELETE FROM training_default '
+                   || 'WHERE training_date >= $1 AND training_date < $2 RETURNING *) '
+                   || 'INSERT INTO %I SELECT * FROM moved', partition_name)
+        USING range_start, range_end;
+    EXECUTE format('ALTER TABLE training ATTACH PARTITION %I FOR VALUES FROM (%L) TO (%L)',
+                   partition_name, range_start, range_end);
+    RETURN TRUE;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Creates the missing partitions of every month from first_month to last_month and returns how many.
+CREATE FUNCTION create_training_partitions(first_month DATE, last_month DATE) RETURNS INT AS $$
+DECLARE
+    month_start DATE;
+    created INT := 0;
+BEGIN
+    FOR month_start IN
+        SELECT CAST(m AS DATE)
+        FROM generate_series(date_trunc('month', first_month), date_trunc('month', last_month),
+                             INTERVAL '1 month') AS m
+    LOOP
+        IF create_training_partition(month_start) THEN
+            created := created + 1;
+        END IF;
+    END LOOP;
+    RETURN created;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP INDEX ix_training_trainee_date;
+DROP INDEX ix_training_trainer_date;
+ALTER TABLE training RENAME TO training_unpartitioned;
+ALTER TABLE training_unpartitioned RENAME CONSTRAINT training_pkey TO training_unpartitioned_pkey;
+
+-- The partition key has to be part of the primary key; ids stay unique through training_id_seq.
+CREATE TABLE training (
+                          id INT NOT NULL DEFAULT nextval('training_id_seq'),
+                          trainee_id BIGINT NOT NULL,
+                          trainer_id BIGINT NOT NULL,
+                          training_name VARCHAR(255) NOT NULL,
+                          training_type_id BIGINT NOT NULL,
+                          training_date TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+                          training_duration INT NOT NULL,
+                          PRIMARY KEY (id, training_date),
+                          FOREIGN KEY (trainee_id) REFERENCES trainee(id) ON DELETE CASCADE ON UPDATE CASCADE,
+                          FOREIGN KEY (trainer_id) REFERENCES trainer(id) ON DELETE CASCADE ON UPDATE CASCADE,
+                          FOREIGN KEY (training_type_id) REFERENCES training_types(id) ON DELETE CASCADE ON UPDATE CASCADE
+) PARTITION BY RANGE (training_date);
+
+ALTER SEQUENCE training_id_seq OWNED BY training.id;
+
+CREATE TABLE training_default PARTITION OF training DEFAULT;
+
+-- Partitions from the oldest existing training up to three months ahead.
+SELECT create_training_partitions(
+               CAST(COALESCE((SELECT MIN(training_date) FROM training_unpartitioned), CURRENT_TIMESTAMP) AS DATE),
+               CAST(CURRENT_TIMESTAMP + INTERVAL '3 months' AS DATE));
+
+INSERT INTO training (id, trainee_id, trainer_id, training_name, training_type_id, training_date, training_duration)
+SELECT id, trainee_id, trainer_id, training_name, training_type_id, COALESCE(training_date, CURRENT_TIMESTAMP),
+       training_duration
+FROM training_unpartitioned;
+
+DROP TABLE training_unpartitioned;
+
+-- Indexes of V6, now created on every partition.
+CREATE INDEX ix_training_trainee_date ON training (trainee_id, training_date DESC, id DESC)
+    INCLUDE (trainer_id, training_type_id, training_name, training_duration);
+CREATE INDEX ix_training_trainer_date ON training (trainer_id, training_date DESC, id DESC)
+    INCLUDE (trainee_id, training_type_id, training_name, training_duration);
@@ -0,0 +1,7 @@
+-- Trainer workload events written in the transaction of the training change and relayed to the broker
+-- by TrainerWorkloadOutboxRelay, so training writes never wait on ActiveMQ and no event is lost on rollback.
+CREATE TABLE trainer_workload_outbox (
+    id BIGSERIAL PRIMARY KEY,
+    payload TEXT NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
@@ -0,0 +1,5 @@
+-- Failed trainer workload events are retried with exponential backoff instead of blocking the relay.
+ALTER TABLE trainer_workload_outbox ADD COLUMN attempts INT NOT NULL DEFAULT 0;
+ALTER TABLE trainer_workload_outbox ADD COLUMN next_attempt_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP;
+
+CREATE INDEX ix_trainer_workload_outbox_next_attempt_at ON trainer_workload_outbox (next_attempt_at);
@@ -0,0 +1,94 @@
+package org.example.gym.config.security;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Encoders;
+import io.jsonwebtoken.security.Keys;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.example.gym.entity.TokenEntity;
+import org.example.gym.entity.UserEntity;
+import org.example.gym.service.TokenService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class JwtUtilsTest {
+
+    private static final long TTL_SECONDS = 300;
+    private static final String TOKEN = "header.payload.signature";
+    private static final String TOKEN_HASH = TokenDigest.sha256(TOKEN);
+
+    @Mock
+    private TokenService tokenService;
+
+    private final AtomicLong nanos = new AtomicLong();
+
+    private JwtUtils jwtUtils;
+
+    private TokenEntity token;
+
+    @BeforeEach
+    public void setUp() {
+        String secret = Encoders.BASE64.encode(Keys.secretKeyFor(SignatureAlgorithm.HS256).getEncoded());
+        jwtUtils = new JwtUtils(tokenService, new TokenRevocationCache(100, TTL_SECONDS, nanos::get), secret);
+        token = TokenEntity.builder().tokenHash(TOKEN_HASH).revoked(false).build();
+    }
+
+    @Test
+    public void testIsTokenRevoked_CachedStateDoesNotQueryTokenService() {
+        when(tokenService.getByTokenHash(TOKEN_HASH)).thenReturn(Optional.of(token));
+
+        assertFalse(jwtUtils.isTokenRevoked(TOKEN));
+        assertFalse(jwtUtils.isTokenRevoked(TOKEN));
+        assertFalse(jwtUtils.isTokenRevoked(TOKEN));
+
+        verify(tokenService, times(1)).getByTokenHash(TOKEN_HASH);
+    }
+
+    @Test
+    public void testIsTokenRevoked_UnknownTokenIsRevoked() {
+        when(tokenService.getByTokenHash(TOKEN_HASH)).thenReturn(Optional.empty());
+
+        assertTrue(jwtUtils.isTokenRevoked(TOKEN));
+    }
+
+    @Test
+    public void testRevokeUserToken_RevokesCachedTokenImmediately() {
+        UserEntity user = new UserEntity();
+        user.setUsername("john.doe");
+        when(tokenService.getByTokenHash(TOKEN_HASH)).thenReturn(Optional.of(token));
+        when(tokenService.getTokenByUser(user)).thenReturn(token);
+        assertFalse(jwtUtils.isTokenRevoked(TOKEN));
+
+        jwtUtils.revokeUserToken(user);
+
+        assertTrue(jwtUtils.isTokenRevoked(TOKEN));
+        verify(tokenService).save(token);
+        verify(tokenService, times(1)).getByTokenHash(TOKEN_HASH);
+    }
+
+    @Test
+    public void testIsTokenRevoked_ReloadsStateAfterTtl() {
+        when(tokenService.getByTokenHash(TOKEN_HASH)).thenReturn(Optional.of(token));
+        assertFalse(jwtUtils.isTokenRevoked(TOKEN));
+
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(TTL_SECONDS - 1));
+        assertFalse(jwtUtils.isTokenRevoked(TOKEN));
+        verify(tokenService, times(1)).getByTokenHash(TOKEN_HASH);
+
+        token.setRevoked(true);
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        assertTrue(jwtUtils.isTokenRevoked(TOKEN));
+        verify(tokenService, times(2)).getByTokenHash(TOKEN_HASH);
+    }
+}
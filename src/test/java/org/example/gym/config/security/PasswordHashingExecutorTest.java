@@ -0,0 +1,124 @@
+package org.example.gym.config.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.example.gym.exeption.ErrorResponse;
+import org.example.gym.exeption.GlobalExceptionHandler;
+import org.example.gym.exeption.PasswordHashingRejectedException;
+import org.example.gym.service.MetricsService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+public class PasswordHashingExecutorTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private MetricsService metricsService;
+
+    private PasswordHashingExecutor hashingExecutor;
+
+    @BeforeEach
+    public void setUp() {
+        metricsService = new MetricsService(new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    public void tearDown() {
+        release.countDown();
+        hashingExecutor.shutdown();
+    }
+
+    @Test
+    public void testExecute_RunsTaskOnHashingThread() {
+        hashingExecutor = new PasswordHashingExecutor(metricsService, 1, 1, 1000);
+
+        String thread = hashingExecutor.execute(() -> Thread.currentThread().getName());
+
+        assertTrue(thread.startsWith("password-hashing-"), thread);
+        assertEquals(1, metricsService.getPasswordHashQueueWaitTimer().count());
+    }
+
+    @Test
+    public void testExecute_FullQueueIsRejectedWithServiceUnavailable() throws Exception {
+        hashingExecutor = new PasswordHashingExecutor(metricsService, 1, 1, 10_000);
+        CountDownLatch started = new CountDownLatch(1);
+        Thread running = caller(() -> {
+            started.countDown();
+            awaitRelease();
+            return "running";
+        });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        Thread queued = caller(() -> "queued");
+        awaitWaitingForResult(queued);
+
+        PasswordHashingRejectedException rejected = assertThrows(PasswordHashingRejectedException.class,
+                () -> hashingExecutor.execute(() -> "rejected"));
+
+        assertEquals("Password hashing queue is full.", rejected.getMessage());
+        assertEquals(1, metricsService.getPasswordHashRejectedCounter().count());
+        assertServiceUnavailable(rejected);
+        release.countDown();
+        running.join(5000);
+        queued.join(5000);
+    }
+
+    @Test
+    public void testExecute_TaskNotCompletedInTimeIsRejectedWithServiceUnavailable() {
+        hashingExecutor = new PasswordHashingExecutor(metricsService, 1, 1, 50);
+
+        PasswordHashingRejectedException rejected = assertThrows(PasswordHashingRejectedException.class,
+                () -> hashingExecutor.execute(() -> {
+                    awaitRelease();
+                    return "late";
+                }));
+
+        assertEquals("Password hashing did not complete in time.", rejected.getMessage());
+        assertEquals(1, metricsService.getPasswordHashRejectedCounter().count());
+        assertServiceUnavailable(rejected);
+    }
+
+    private static void assertServiceUnavailable(PasswordHashingRejectedException rejected) {
+        ResponseEntity<ErrorResponse> response = new GlobalExceptionHandler().handlePasswordHashingRejected(rejected);
+
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+        assertEquals("1", response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+    }
+
+    /**
+     * Starts a thread that hashes through the executor, as a request thread would.
+     */
+    private Thread caller(Supplier<String> task) {
+        Thread thread = new Thread(() -> hashingExecutor.execute(task));
+        thread.start();
+        return thread;
+    }
+
+    /**
+     * Waits until the caller has submitted its task and waits for the result.
+     */
+    private static void awaitWaitingForResult(Thread caller) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (caller.getState() != Thread.State.TIMED_WAITING) {
+            assertTrue(System.nanoTime() < deadline, "Caller did not submit its task");
+            Thread.sleep(1);
+        }
+    }
+
+    private void awaitRelease() {
+        try {
+            release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package org.example.gym.config.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.gym.service.MetricsService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class PooledBCryptPasswordEncoderTest {
+
+    private MetricsService metricsService;
+
+    private PasswordHashingExecutor hashingExecutor;
+
+    private PooledBCryptPasswordEncoder passwordEncoder;
+
+    @BeforeEach
+    public void setUp() {
+        metricsService = new MetricsService(new SimpleMeterRegistry());
+        hashingExecutor = new PasswordHashingExecutor(metricsService, 1, 1, 5000);
+        passwordEncoder = new PooledBCryptPasswordEncoder(4, metricsService, hashingExecutor);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        hashingExecutor.shutdown();
+    }
+
+    @Test
+    public void testEncodeAndMatches_TimedOnHashingThread() {
+        String hash = passwordEncoder.encode("secret");
+
+        assertTrue(passwordEncoder.matches("secret", hash));
+        assertEquals(1, metricsService.getPasswordEncodeTimer().count());
+        assertEquals(1, metricsService.getPasswordMatchTimer().count());
+        assertEquals(2, metricsService.getPasswordHashQueueWaitTimer().count());
+    }
+}
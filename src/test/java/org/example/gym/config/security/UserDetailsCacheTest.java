@@ -0,0 +1,98 @@
+package org.example.gym.config.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.example.gym.dto.request.ChangeLoginRequestDto;
+import org.example.gym.entity.UserEntity;
+import org.example.gym.repository.UserRepository;
+import org.example.gym.service.MetricsService;
+import org.example.gym.service.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+public class UserDetailsCacheTest {
+
+    private static final long TTL_SECONDS = 60;
+
+    private final AtomicLong nanos = new AtomicLong();
+
+    private UserDetailsCache userDetailsCache;
+
+    @BeforeEach
+    public void setUp() {
+        userDetailsCache = new UserDetailsCache(100, TTL_SECONDS, nanos::get);
+    }
+
+    @Test
+    public void testPutUserInCache_KeepsCredentialsErasedFromThePrincipal() {
+        GymUserDetails principal = user("john.doe");
+        userDetailsCache.putUserInCache(principal);
+
+        principal.eraseCredentials();
+
+        assertEquals("hash", userDetailsCache.getUserFromCache("john.doe").getPassword());
+    }
+
+    @Test
+    public void testGetUserFromCache_HandsOutCopies() {
+        userDetailsCache.putUserInCache(user("john.doe"));
+
+        UserDetails first = userDetailsCache.getUserFromCache("john.doe");
+        ((GymUserDetails) first).eraseCredentials();
+
+        UserDetails second = userDetailsCache.getUserFromCache("john.doe");
+        assertEquals("hash", second.getPassword());
+        assertEquals(7L, ((GymUserDetails) second).getUserId());
+    }
+
+    @Test
+    public void testGetUserFromCache_ExpiresAfterTtl() {
+        userDetailsCache.putUserInCache(user("john.doe"));
+
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(TTL_SECONDS - 1));
+        assertNotNull(userDetailsCache.getUserFromCache("john.doe"));
+
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        assertNull(userDetailsCache.getUserFromCache("john.doe"));
+    }
+
+    @Test
+    public void testUserService_EvictsChangedUsers() {
+        UserRepository userRepository = mock(UserRepository.class);
+        BCryptPasswordEncoder passwordEncoder = mock(BCryptPasswordEncoder.class);
+        UserService userService = new UserService(userRepository, mock(MetricsService.class), passwordEncoder,
+                userDetailsCache);
+        UserEntity userEntity = new UserEntity();
+        userEntity.setUsername("john.doe");
+        when(userRepository.findByUsername("john.doe")).thenReturn(Optional.of(userEntity));
+        when(passwordEncoder.encode("newPass")).thenReturn("newHash");
+        when(userRepository.save(userEntity)).thenReturn(userEntity);
+
+        userDetailsCache.putUserInCache(user("john.doe"));
+        userService.changePassword(new ChangeLoginRequestDto("john.doe", "oldPass", "newPass"));
+        assertNull(userDetailsCache.getUserFromCache("john.doe"));
+
+        userDetailsCache.putUserInCache(user("john.doe"));
+        userService.save(userEntity);
+        assertNull(userDetailsCache.getUserFromCache("john.doe"));
+
+        userDetailsCache.putUserInCache(user("john.doe"));
+        userService.evictUserDetails("john.doe");
+        assertNull(userDetailsCache.getUserFromCache("john.doe"));
+    }
+
+    private static GymUserDetails user(String username) {
+        return new GymUserDetails(7L, username, "hash", List.of(new SimpleGrantedAuthority("ROLE_TRAINEE")));
+    }
+}
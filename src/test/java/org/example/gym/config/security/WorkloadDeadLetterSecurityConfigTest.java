@@ -0,0 +1,92 @@
+package org.example.gym.config.security;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.httpBasic;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.junit.jupiter.web.SpringJUnitWebConfig;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.WebApplicationContext;
+import org.springframework.web.servlet.config.annotation.EnableWebMvc;
+
+/**
+ * Checks who may call the workload dead-letter endpoint, which a stub controller stands in for.
+ */
+@SpringJUnitWebConfig(WorkloadDeadLetterSecurityConfigTest.TestConfig.class)
+public class WorkloadDeadLetterSecurityConfigTest {
+
+    private static final BCryptPasswordEncoder PASSWORD_ENCODER = new BCryptPasswordEncoder(4);
+
+    private MockMvc mockMvc;
+
+    @DynamicPropertySource
+    static void operator(DynamicPropertyRegistry registry) {
+        registry.add("trainer.workload.dlq.replay.operator.username", () -> "operator");
+        registry.add("trainer.workload.dlq.replay.operator.password-hash", () -> PASSWORD_ENCODER.encode("secret"));
+    }
+
+    @BeforeEach
+    public void setUp(WebApplicationContext context) {
+        mockMvc = MockMvcBuilders.webAppContextSetup(context).apply(springSecurity()).build();
+    }
+
+    @Test
+    public void replay_WithoutCredentialsIsUnauthorized() throws Exception {
+        mockMvc.perform(post("/actuator/workloaddlq"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    public void replay_WithoutAuthorityIsForbidden() throws Exception {
+        mockMvc.perform(post("/actuator/workloaddlq").with(user("john.doe").roles("TRAINER")))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    public void replay_AsOperatorIsAllowed() throws Exception {
+        mockMvc.perform(post("/actuator/workloaddlq").with(httpBasic("operator", "secret")))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    public void lastResult_WithWrongPasswordIsUnauthorized() throws Exception {
+        mockMvc.perform(get("/actuator/workloaddlq").with(httpBasic("operator", "wrong")))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Configuration
+    @EnableWebMvc
+    @EnableWebSecurity
+    @Import({WorkloadDeadLetterSecurityConfig.class, WorkloadDeadLetterStubController.class})
+    static class TestConfig {
+
+        @Bean
+        BCryptPasswordEncoder passwordEncoder() {
+            return PASSWORD_ENCODER;
+        }
+    }
+
+    @RestController
+    static class WorkloadDeadLetterStubController {
+
+        @RequestMapping("/actuator/workloaddlq")
+        public String replay() {
+            return "replayed";
+        }
+    }
+}
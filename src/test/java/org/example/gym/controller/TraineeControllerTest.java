@@ -10,6 +10,7 @@ import org.example.gym.dto.request.ActivateRequestDto;
 import org.example.gym.dto.request.UpdateTraineeRequestDto;
 import org.example.gym.dto.request.UpdateTraineeTrainerListRequestDto;
 import org.example.gym.dto.response.GetTraineeProfileResponseDto;
+import org.example.gym.dto.response.PageResponseDto;
 import org.example.gym.dto.response.RegistrationResponseDto;
 import org.example.gym.dto.response.TrainerResponseDto;
 import org.example.gym.dto.response.UpdateTraineeResponseDto;
@@ -23,6 +24,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
@@ -52,7 +55,7 @@ public class TraineeControllerTest {
         // Arrange
         String username = "testUser";
         GetTraineeProfileResponseDto responseDto = new GetTraineeProfileResponseDto();
-        when(traineeService.getTrainee(username)).thenReturn(traineeEntity);
+        when(traineeService.getTraineeProfile(username)).thenReturn(traineeEntity);
         when(mapper.traineeEntityMapToGetResponseTraineeDto(traineeEntity)).thenReturn(responseDto);
 
         // Act
@@ -97,17 +100,20 @@ public class TraineeControllerTest {
         // Arrange
         String traineeName = "testTrainee";
         List<TrainerEntity> unassignedTrainers = new ArrayList<>();
+        Slice<TrainerEntity> slice = new SliceImpl<>(unassignedTrainers);
         List<TrainerResponseDto> trainerResponseDtos = new ArrayList<>();
-        when(traineeService.getUnassignedTrainers(traineeName)).thenReturn(unassignedTrainers);
+        when(traineeService.getUnassignedTrainers(traineeName, "trainer.a", 10)).thenReturn(slice);
         when(mapper.mapToTrainerResponse(unassignedTrainers)).thenReturn(trainerResponseDtos);
+        when(mapper.nextCursor(slice)).thenReturn("trainer.b");
 
         // Act
-        ResponseEntity<List<TrainerResponseDto>> response = traineeController
-                .getNotAssignedOnTraineeActiveTrainers(traineeName);
+        ResponseEntity<PageResponseDto<TrainerResponseDto>> response = traineeController
+                .getNotAssignedOnTraineeActiveTrainers(traineeName, "trainer.a", 10);
 
         // Assert
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
-        assertThat(response.getBody()).isEqualTo(trainerResponseDtos);
+        assertThat(response.getBody().getItems()).isEqualTo(trainerResponseDtos);
+        assertThat(response.getBody().getNextCursor()).isEqualTo("trainer.b");
     }
 
     @Test
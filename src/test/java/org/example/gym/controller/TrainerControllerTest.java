@@ -6,16 +6,20 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.time.YearMonth;
 import org.example.gym.dto.request.ActivateRequestDto;
 import org.example.gym.dto.request.TrainerRegistrationRequestDto;
 import org.example.gym.dto.request.UpdateTrainerRequestDto;
 import org.example.gym.dto.response.GetTrainerProfileResponseDto;
 import org.example.gym.dto.response.RegistrationResponseDto;
+import org.example.gym.dto.response.TrainerMonthlyWorkloadResponseDto;
 import org.example.gym.dto.response.UpdateTrainerProfileResponseDto;
 import org.example.gym.entity.TrainerEntity;
 import org.example.gym.entity.UserEntity;
 import org.example.gym.mapper.TrainerMapper;
 import org.example.gym.service.TrainerService;
+import org.example.gym.service.TrainerWorkloadSummary;
+import org.example.gym.service.TrainerWorkloadSummary.MonthlyWorkload;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -34,6 +38,9 @@ public class TrainerControllerTest {
     @Mock
     private TrainerMapper mapper;
 
+    @Mock
+    private TrainerWorkloadSummary trainerWorkloadSummary;
+
     @InjectMocks
     private TrainerController trainerController;
 
@@ -82,7 +89,7 @@ public class TrainerControllerTest {
 
     @Test
     public void getTrainerProfile_ShouldReturnCorrectProfile() {
-        when(trainerService.getTrainer(user.getUsername())).thenReturn(trainerEntity);
+        when(trainerService.getTrainerProfile(user.getUsername())).thenReturn(trainerEntity);
         when(mapper.trainerEntityMapToGetResponse(trainerEntity)).thenReturn(getTrainerProfileResponseDto);
 
         ResponseEntity<GetTrainerProfileResponseDto> response = trainerController.getTrainerProfile(user.getUsername());
@@ -91,6 +98,20 @@ public class TrainerControllerTest {
         assertEquals(getTrainerProfileResponseDto, response.getBody());
     }
 
+    @Test
+    public void getTrainerMonthlyWorkload_ShouldReturnWorkloadOfMonth() {
+        trainerEntity.setId(7L);
+        when(trainerService.getTrainer(user.getUsername())).thenReturn(trainerEntity);
+        when(trainerWorkloadSummary.getMonthlyWorkload(7L, YearMonth.of(2024, 5)))
+                .thenReturn(new MonthlyWorkload(150, 3));
+
+        ResponseEntity<TrainerMonthlyWorkloadResponseDto> response =
+                trainerController.getTrainerMonthlyWorkload(user.getUsername(), YearMonth.of(2024, 5));
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(new TrainerMonthlyWorkloadResponseDto("johndoe", 2024, 5, 150, 3), response.getBody());
+    }
+
     @Test
     public void updateTrainerProfile_ShouldReturnUpdatedProfile() {
         when(trainerService.updateTrainerProfile(updateTrainerRequestDto)).thenReturn(trainerEntity);
@@ -6,16 +6,21 @@ import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
+import org.example.gym.dto.projection.TrainingView;
 import org.example.gym.dto.request.AddTrainingRequestDto;
 import org.example.gym.dto.request.TraineeTrainingsRequestDto;
 import org.example.gym.dto.request.TrainerTrainingRequestDto;
 import org.example.gym.dto.response.GetTrainerTrainingListResponseDto;
+import org.example.gym.dto.response.PageResponseDto;
+import org.example.gym.dto.response.TrainingImportResponseDto;
 import org.example.gym.dto.response.TrainingResponseDto;
-import org.example.gym.entity.TrainingEntity;
 import org.example.gym.mapper.TrainingMapper;
+import org.example.gym.service.TrainingImportService;
 import org.example.gym.service.TrainingService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -23,6 +28,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -33,6 +40,9 @@ public class TrainingControllerTest {
     @Mock
     private TrainingService trainingService;
 
+    @Mock
+    private TrainingImportService trainingImportService;
+
     @Mock
     private TrainingMapper mapper;
 
@@ -54,22 +64,26 @@ public class TrainingControllerTest {
         LocalDateTime periodFrom = LocalDateTime.now().minusDays(7);
         LocalDateTime periodTo = LocalDateTime.now();
         TraineeTrainingsRequestDto requestDto = new TraineeTrainingsRequestDto(traineeName,
-                periodFrom, periodTo, null, null);
-        TrainingEntity trainingEntity = new TrainingEntity();
-        List<TrainingEntity> trainingEntities = Collections.singletonList(trainingEntity);
+                periodFrom, periodTo, null, null, null, null);
+        TrainingView trainingView = new TrainingView(1L, "Morning", LocalDateTime.now(), 1L, "Yoga", 60, "user");
+        List<TrainingView> trainingViews = Collections.singletonList(trainingView);
         TrainingResponseDto responseDto = new TrainingResponseDto();
 
-        when(trainingService.getTrainingsForTrainee(requestDto)).thenReturn(trainingEntities);
-        when(mapper.mapToDtoTrainingTrainee(trainingEntities)).thenReturn(Collections.singletonList(responseDto));
+        Slice<TrainingView> slice = new SliceImpl<>(trainingViews);
+
+        when(trainingService.getTrainingsForTrainee(requestDto)).thenReturn(slice);
+        when(mapper.mapToDtoTrainingTrainee(trainingViews)).thenReturn(Collections.singletonList(responseDto));
+        when(mapper.nextCursor(slice)).thenReturn("next");
 
         // Act
-        ResponseEntity<List<TrainingResponseDto>> response = trainingController.getTraineeTrainingsList(traineeName,
-                periodFrom, periodTo, null, null);
+        ResponseEntity<PageResponseDto<TrainingResponseDto>> response = trainingController
+                .getTraineeTrainingsList(traineeName, periodFrom, periodTo, null, null, null, null);
 
         // Assert
         verify(trainingService).getTrainingsForTrainee(any());
-        verify(mapper).mapToDtoTrainingTrainee(trainingEntities);
-        assertEquals(1, response.getBody().size());
+        verify(mapper).mapToDtoTrainingTrainee(trainingViews);
+        assertEquals(1, response.getBody().getItems().size());
+        assertEquals("next", response.getBody().getNextCursor());
     }
 
 
@@ -80,22 +94,24 @@ public class TrainingControllerTest {
         LocalDateTime periodFrom = LocalDateTime.parse(LocalDateTime.now().minusDays(7).toString());
         LocalDateTime periodTo = LocalDateTime.parse(LocalDateTime.now().toString());
         TrainerTrainingRequestDto requestDto = new TrainerTrainingRequestDto(trainerName,
-                periodFrom, periodTo, null);
-        TrainingEntity trainingEntity = new TrainingEntity();
-        List<TrainingEntity> trainingEntities = Collections.singletonList(trainingEntity);
+                periodFrom, periodTo, null, null, null);
+        TrainingView trainingView = new TrainingView(1L, "Morning", LocalDateTime.now(), 1L, "Yoga", 60, "user");
+        List<TrainingView> trainingViews = Collections.singletonList(trainingView);
         GetTrainerTrainingListResponseDto responseDto = new GetTrainerTrainingListResponseDto();
 
-        when(trainingService.getTrainingsForTrainer(requestDto)).thenReturn(trainingEntities);
-        when(mapper.mapToDtoTrainingTrainer(trainingEntities)).thenReturn(Collections.singletonList(responseDto));
+        Slice<TrainingView> slice = new SliceImpl<>(trainingViews);
+
+        when(trainingService.getTrainingsForTrainer(requestDto)).thenReturn(slice);
+        when(mapper.mapToDtoTrainingTrainer(trainingViews)).thenReturn(Collections.singletonList(responseDto));
 
         // Act
-        ResponseEntity<List<GetTrainerTrainingListResponseDto>> response = trainingController
-                .getTrainerTrainingList(trainerName, periodFrom, periodTo, null);
+        ResponseEntity<PageResponseDto<GetTrainerTrainingListResponseDto>> response = trainingController
+                .getTrainerTrainingList(trainerName, periodFrom, periodTo, null, null, null);
 
         // Assert
         verify(trainingService).getTrainingsForTrainer(any());
-        verify(mapper).mapToDtoTrainingTrainer(trainingEntities);
-        assertEquals(1, response.getBody().size());
+        verify(mapper).mapToDtoTrainingTrainer(trainingViews);
+        assertEquals(1, response.getBody().getItems().size());
     }
 
     @Test
@@ -117,6 +133,28 @@ public class TrainingControllerTest {
         assertEquals(HttpStatus.CREATED, response.getStatusCode());
     }
 
+    @Test
+    public void testImportTrainingsFromJson() {
+        InputStream body = new ByteArrayInputStream(new byte[0]);
+        when(trainingImportService.importJson(body)).thenReturn(3);
+
+        ResponseEntity<TrainingImportResponseDto> response = trainingController.importTrainingsFromJson(body);
+
+        assertEquals(HttpStatus.CREATED, response.getStatusCode());
+        assertEquals(new TrainingImportResponseDto(3), response.getBody());
+    }
+
+    @Test
+    public void testImportTrainingsFromCsv() {
+        InputStream body = new ByteArrayInputStream(new byte[0]);
+        when(trainingImportService.importCsv(body)).thenReturn(2);
+
+        ResponseEntity<TrainingImportResponseDto> response = trainingController.importTrainingsFromCsv(body);
+
+        assertEquals(HttpStatus.CREATED, response.getStatusCode());
+        assertEquals(new TrainingImportResponseDto(2), response.getBody());
+    }
+
     @Test
     public void testDeleteTraining() {
         // Arrange
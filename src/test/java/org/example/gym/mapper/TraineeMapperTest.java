@@ -24,6 +24,9 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 
 
 @ExtendWith(MockitoExtension.class)
@@ -172,5 +175,17 @@ public class TraineeMapperTest {
         assertThat(trainerResponseDtos).isEmpty();
     }
 
+    @Test
+    void testNextCursorReturnsLastUsernameWhenMorePagesExist() {
+        Slice<TrainerEntity> trainers = new SliceImpl<>(List.of(trainerEntity), PageRequest.ofSize(1), true);
+
+        assertThat(traineeMapper.nextCursor(trainers)).isEqualTo("johndoe");
+    }
 
-}
\ No newline at end of file
+    @Test
+    void testNextCursorReturnsNullOnLastPage() {
+        Slice<TrainerEntity> trainers = new SliceImpl<>(List.of(trainerEntity), PageRequest.ofSize(1), false);
+
+        assertThat(traineeMapper.nextCursor(trainers)).isNull();
+    }
+}
@@ -5,6 +5,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
+import org.example.gym.dto.projection.TrainingView;
 import org.example.gym.dto.request.AddTrainingRequestDto;
 import org.example.gym.dto.response.GetTrainerTrainingListResponseDto;
 import org.example.gym.dto.response.TrainingResponseDto;
@@ -13,11 +14,15 @@ import org.example.gym.entity.TrainerEntity;
 import org.example.gym.entity.TrainingEntity;
 import org.example.gym.entity.TrainingTypeEntity;
 import org.example.gym.entity.UserEntity;
+import org.example.gym.utils.TrainingPagination;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 
 
 @ExtendWith(MockitoExtension.class)
@@ -31,6 +36,7 @@ public class TrainingMapperTest {
     private TraineeEntity mockTraineeEntity;
     private TrainingTypeEntity mockTrainingType;
     private UserEntity mockUserEntity;
+    private TrainingView mockTrainingView;
 
     /**
      * Sets up the mock entities used for testing.
@@ -66,25 +72,28 @@ public class TrainingMapperTest {
         mockTrainingEntity.setTrainer(mockTrainerEntity);
         mockTrainingEntity.setTrainee(mockTraineeEntity);
         mockTrainingEntity.setTrainingType(mockTrainingType);
+
+        mockTrainingView = new TrainingView(1L, "Strength Training", LocalDateTime.now(), 2L, "Cardio", 60,
+                "partnerUser");
     }
 
     @Test
     public void shouldMapToDtoTrainingTrainee() {
-        List<TrainingEntity> trainings = Collections.singletonList(mockTrainingEntity);
+        List<TrainingView> trainings = Collections.singletonList(mockTrainingView);
 
         List<TrainingResponseDto> result = trainingMapper.mapToDtoTrainingTrainee(trainings);
 
         assertThat(result).hasSize(1);
         TrainingResponseDto dto = result.get(0);
         assertThat(dto.getName()).isEqualTo("Strength Training");
-        assertThat(dto.getTrainerName()).isEqualTo("traineeUser");
+        assertThat(dto.getTrainerName()).isEqualTo("partnerUser");
         assertThat(dto.getDuration()).isEqualTo(60);
         assertThat(dto.getType()).isEqualTo("Cardio");
     }
 
     @Test
     public void shouldMapToDtoTrainingTrainee_WhenEmptyList() {
-        List<TrainingEntity> trainings = Collections.emptyList();
+        List<TrainingView> trainings = Collections.emptyList();
 
         List<TrainingResponseDto> result = trainingMapper.mapToDtoTrainingTrainee(trainings);
 
@@ -93,20 +102,22 @@ public class TrainingMapperTest {
 
     @Test
     public void shouldMapToDtoTrainingTrainer() {
-        List<TrainingEntity> trainings = Collections.singletonList(mockTrainingEntity);
+        List<TrainingView> trainings = Collections.singletonList(mockTrainingView);
 
         List<GetTrainerTrainingListResponseDto> result = trainingMapper.mapToDtoTrainingTrainer(trainings);
 
         assertThat(result).hasSize(1);
         GetTrainerTrainingListResponseDto dto = result.get(0);
         assertThat(dto.getTrainingName()).isEqualTo("Strength Training");
-        assertThat(dto.getTraineeName()).isEqualTo("traineeUser");
+        assertThat(dto.getTraineeName()).isEqualTo("partnerUser");
         assertThat(dto.getTrainingDuration()).isEqualTo(60);
+        assertThat(dto.getTrainingType().getId()).isEqualTo(2L);
+        assertThat(dto.getTrainingType().getTrainingTypeName()).isEqualTo("Cardio");
     }
 
     @Test
     public void shouldMapToDtoTrainingTrainer_WhenEmptyList() {
-        List<TrainingEntity> trainings = Collections.emptyList();
+        List<TrainingView> trainings = Collections.emptyList();
 
         List<GetTrainerTrainingListResponseDto> result = trainingMapper.mapToDtoTrainingTrainer(trainings);
 
@@ -132,20 +143,10 @@ public class TrainingMapperTest {
 
     @Test
     public void shouldHandleNullValues() {
-        TrainingEntity entity = new TrainingEntity();
-        entity.setTrainingName(null);
-        entity.setTrainingDuration(null);
-        TrainerEntity trainer = new TrainerEntity();
-        mockUserEntity.setUsername("Doe");
-        trainer.setUser(mockUserEntity);
-        entity.setTrainer(trainer);
-        entity.setTrainee(null);
-        entity.setTrainingDate(LocalDateTime.parse("2000-01-01T00:00:00"));
-        TrainingTypeEntity trainingType = new TrainingTypeEntity();
-        trainingType.setTrainingTypeName("Doe");
-        entity.setTrainingType(trainingType);
-
-        List<TrainingResponseDto> result = trainingMapper.mapToDtoTrainingTrainee(Collections.singletonList(entity));
+        TrainingView view = new TrainingView(1L, null, LocalDateTime.parse("2000-01-01T00:00:00"), 1L, "Doe",
+                null, "Doe");
+
+        List<TrainingResponseDto> result = trainingMapper.mapToDtoTrainingTrainee(Collections.singletonList(view));
 
         assertThat(result).hasSize(1);
         TrainingResponseDto dto = result.get(0);
@@ -153,4 +154,22 @@ public class TrainingMapperTest {
         assertThat(dto.getDuration()).isNull();
         assertThat(dto.getTrainerName()).isEqualTo("Doe");
     }
-}
\ No newline at end of file
+
+    @Test
+    public void shouldBuildNextCursorFromLastTraining() {
+        Slice<TrainingView> slice = new SliceImpl<>(Collections.singletonList(mockTrainingView),
+                PageRequest.ofSize(1), true);
+
+        String cursor = trainingMapper.nextCursor(slice);
+
+        assertThat(cursor).isEqualTo(TrainingPagination.encodeCursor(mockTrainingView.getTrainingDate(), 1L));
+    }
+
+    @Test
+    public void shouldReturnNoCursorOnLastPage() {
+        Slice<TrainingView> slice = new SliceImpl<>(Collections.singletonList(mockTrainingView),
+                PageRequest.ofSize(1), false);
+
+        assertThat(trainingMapper.nextCursor(slice)).isNull();
+    }
+}
@@ -0,0 +1,144 @@
+package org.example.gym.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import jakarta.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.List;
+import org.example.gym.entity.TraineeEntity;
+import org.example.gym.entity.TrainerEntity;
+import org.example.gym.entity.TrainingTypeEntity;
+import org.example.gym.entity.UserEntity;
+import org.example.gym.entity.enums.Role;
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+/**
+ * Checks the number of SQL statements issued by the trainee and trainer lookups of each use case.
+ */
+@DataJpaTest(properties = {
+    "spring.flyway.enabled=false",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+public class TraineeTrainerFetchPlanTest {
+
+    private static final int TRAINERS = 5;
+    private static final int TRAINEES = 5;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TraineeRepository traineeRepository;
+
+    @Autowired
+    private TrainerRepository trainerRepository;
+
+    private Statistics statistics;
+
+    /**
+     * Persists trainees that are all assigned to every trainer, then clears the persistence context.
+     */
+    @BeforeEach
+    public void setUp() {
+        TrainingTypeEntity yoga = entityManager.persist(new TrainingTypeEntity(null, "Yoga"));
+        List<TrainerEntity> trainers = new ArrayList<>();
+        for (int i = 0; i < TRAINERS; i++) {
+            TrainerEntity trainer = new TrainerEntity();
+            trainer.setUser(entityManager.persist(user("trainer" + i, Role.ROLE_TRAINER)));
+            trainer.setSpecialization(yoga);
+            trainers.add(entityManager.persist(trainer));
+        }
+        for (int i = 0; i < TRAINEES; i++) {
+            TraineeEntity trainee = new TraineeEntity();
+            trainee.setUser(entityManager.persist(user("trainee" + i, Role.ROLE_TRAINEE)));
+            trainee.getTrainers().addAll(trainers);
+            entityManager.persist(trainee);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+    }
+
+    @Test
+    public void traineeProfile_LoadsTrainersWithOneStatement() {
+        TraineeEntity trainee = traineeRepository.findWithTrainersByUser_Username("trainee0").orElseThrow();
+
+        trainee.getUser().getUsername();
+        for (TrainerEntity trainer : trainee.getTrainers()) {
+            trainer.getUser().getUsername();
+            trainer.getSpecialization().getTrainingTypeName();
+        }
+
+        assertEquals(TRAINERS, trainee.getTrainers().size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    public void trainerProfile_LoadsTraineesWithOneStatement() {
+        TrainerEntity trainer = trainerRepository.findWithTraineesByUser_Username("trainer0").orElseThrow();
+
+        trainer.getUser().getUsername();
+        trainer.getSpecialization().getTrainingTypeName();
+        for (TraineeEntity trainee : trainer.getTrainees()) {
+            trainee.getUser().getUsername();
+        }
+
+        assertEquals(TRAINEES, trainer.getTrainees().size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    public void trainerListUpdate_LoadsTraineeAndTrainersWithTwoStatements() {
+        TraineeEntity trainee = traineeRepository.findByUser_Username("trainee0").orElseThrow();
+        List<TrainerEntity> trainers = trainerRepository.findByUser_UsernameIn(List.of("trainer0", "trainer1"));
+
+        for (TrainerEntity trainer : trainers) {
+            trainer.getUser().getUsername();
+            trainer.getSpecialization().getTrainingTypeName();
+        }
+
+        assertEquals(2, trainers.size());
+        assertFalse(Hibernate.isInitialized(trainee.getTrainers()));
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    public void trainingAdd_LoadsTraineeAndTrainerWithoutCollections() {
+        TraineeEntity trainee = traineeRepository.findByUser_Username("trainee0").orElseThrow();
+        TrainerEntity trainer = trainerRepository.findByUser_Username("trainer0").orElseThrow();
+
+        trainee.getUser().getUsername();
+        trainer.getUser().getUsername();
+        trainer.getSpecialization().getTrainingTypeName();
+
+        assertFalse(Hibernate.isInitialized(trainee.getTrainers()));
+        assertFalse(Hibernate.isInitialized(trainer.getTrainees()));
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    private UserEntity user(String username, Role role) {
+        UserEntity user = new UserEntity();
+        user.setFirstName(username);
+        user.setLastName(username);
+        user.setUsername(username);
+        user.setPassword("password");
+        user.setIsActive(true);
+        user.setRole(role);
+        return user;
+    }
+}
@@ -7,8 +7,6 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
-import java.util.Arrays;
-import java.util.List;
 import java.util.Optional;
 import org.example.gym.entity.TrainerEntity;
 import org.example.gym.entity.UserEntity;
@@ -63,19 +61,4 @@ public class TrainerRepositoryTest {
         verify(trainerRepository, times(1)).findByUser_Username(username);
     }
 
-    @Test
-    public void testFindByTrainees_Id() {
-        Long traineeId = 1L;
-        TrainerEntity trainer1 = new TrainerEntity();
-        TrainerEntity trainer2 = new TrainerEntity();
-        List<TrainerEntity> trainers = Arrays.asList(trainer1, trainer2);
-
-        when(trainerRepository.findByTrainees_Id(traineeId)).thenReturn(trainers);
-
-        List<TrainerEntity> result = trainerRepository.findByTrainees_Id(traineeId);
-
-        assertEquals(2, result.size());
-        verify(trainerRepository, times(1)).findByTrainees_Id(traineeId);
-    }
-
 }
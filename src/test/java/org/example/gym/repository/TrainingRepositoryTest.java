@@ -6,9 +6,9 @@ import static org.mockito.Mockito.when;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import org.example.gym.dto.projection.TrainingView;
 import org.example.gym.entity.TraineeEntity;
 import org.example.gym.entity.TrainerEntity;
-import org.example.gym.entity.TrainingEntity;
 import org.example.gym.entity.TrainingTypeEntity;
 import org.example.gym.entity.UserEntity;
 import org.junit.jupiter.api.BeforeEach;
@@ -16,10 +16,15 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 
 @ExtendWith(MockitoExtension.class)
 public class TrainingRepositoryTest {
 
+    private static final Pageable PAGE = PageRequest.ofSize(20);
+
     @Mock
     private TrainingRepository trainingRepository;
 
@@ -66,26 +71,23 @@ public class TrainingRepositoryTest {
     public void testFindTrainingsForTrainee() {
         LocalDateTime fromDate = LocalDateTime.now().minusDays(7);
         LocalDateTime toDate = LocalDateTime.now();
-        TrainingEntity training = new TrainingEntity();
-        training.setTrainee(trainee);
-        training.setTrainer(trainer);
-        training.setTrainingType(trainingType);
-        training.setTrainingDate(LocalDateTime.now());
+        TrainingView training = new TrainingView(1L, "Morning", LocalDateTime.now(), trainingType.getId(),
+                trainingType.getTrainingTypeName(), 60, trainer.getUser().getUsername());
 
         // Mock
         when(trainingRepository.findTrainingsForTrainee(
-                trainee.getUser().getUsername(), fromDate, toDate, null, null))
-                .thenReturn(List.of(training));
+                trainee.getUser().getUsername(), fromDate, toDate, null, null, null, null, PAGE))
+                .thenReturn(new SliceImpl<>(List.of(training)));
 
         // Call
-        List<TrainingEntity> result = trainingRepository.findTrainingsForTrainee(
-                trainee.getUser().getUsername(), fromDate, toDate, null, null);
+        List<TrainingView> result = trainingRepository.findTrainingsForTrainee(
+                trainee.getUser().getUsername(), fromDate, toDate, null, null, null, null, PAGE).getContent();
 
         // Verify
         assertNotNull(result);
         assertEquals(1, result.size());
-        assertEquals(trainee.getId(), result.get(0).getTrainee().getId());
-        assertEquals(trainingType.getId(), result.get(0).getTrainingType().getId());
+        assertEquals(trainer.getUser().getUsername(), result.get(0).getPartnerUsername());
+        assertEquals(trainingType.getId(), result.get(0).getTrainingTypeId());
     }
 
     @Test
@@ -93,25 +95,22 @@ public class TrainingRepositoryTest {
         // Set
         LocalDateTime fromDate = LocalDateTime.now().minusDays(7);
         LocalDateTime toDate = LocalDateTime.now();
-        TrainingEntity training = new TrainingEntity();
-        training.setTrainee(trainee);
-        training.setTrainer(trainer);
-        training.setTrainingType(trainingType);
-        training.setTrainingDate(LocalDateTime.now());
+        TrainingView training = new TrainingView(1L, "Morning", LocalDateTime.now(), trainingType.getId(),
+                trainingType.getTrainingTypeName(), 60, trainer.getUser().getUsername());
 
         // Mock
         when(trainingRepository.findTrainingsForTrainer(
-                trainer.getUser().getUsername(), fromDate, toDate, "traineeUser"))
-                .thenReturn(List.of(training));
+                trainer.getUser().getUsername(), fromDate, toDate, "traineeUser", null, null, PAGE))
+                .thenReturn(new SliceImpl<>(List.of(training)));
 
         // Call
-        List<TrainingEntity> result = trainingRepository.findTrainingsForTrainer(
-                trainer.getUser().getUsername(), fromDate, toDate, "traineeUser");
+        List<TrainingView> result = trainingRepository.findTrainingsForTrainer(
+                trainer.getUser().getUsername(), fromDate, toDate, "traineeUser", null, null, PAGE).getContent();
 
         // Verify
         assertNotNull(result);
         assertEquals(1, result.size());
-        assertEquals(trainer.getId(), result.get(0).getTrainer().getId());
-        assertEquals(trainingType.getId(), result.get(0).getTrainingType().getId());
+        assertEquals("Yoga", result.get(0).getTrainingTypeName());
+        assertEquals(trainingType.getId(), result.get(0).getTrainingTypeId());
     }
 }
@@ -0,0 +1,226 @@
+package org.example.gym.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * Checks with {@code EXPLAIN} on PostgreSQL, migrated by Flyway, that the training searches keep using
+ * their indexes, that the date bounds are part of the index condition rather than a filter, and that
+ * only the monthly partitions of the searched range are scanned.
+ *
+ * <p>The explained statements are the SQL Hibernate generates for {@link TrainingRepository}, captured by a
+ * {@link StatementInspector}, with every optional filter and the keyset cursor. They are prepared with typed
+ * parameters and explained under {@code plan_cache_mode = force_generic_plan}, which is the plan a pooled
+ * connection reuses once the driver switches to server-side prepared statements. Sequential scans are
+ * disabled, so the plans show which indexes the predicates can use regardless of the table sizes. The test
+ * is skipped when Docker is not available.</p>
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "org.example.gym.repository.TrainingSearchExplainTest$CapturingStatementInspector")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+public class TrainingSearchExplainTest {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine");
+
+    private static final LocalDateTime FROM = LocalDateTime.of(2024, 1, 1, 0, 0);
+    private static final LocalDateTime TO = LocalDateTime.of(2024, 1, 31, 0, 0);
+    private static final LocalDateTime CURSOR_DATE = LocalDateTime.of(2024, 1, 20, 0, 0);
+    private static final long CURSOR_ID = 1000L;
+    private static final int PAGE_SIZE = 20;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TrainingRepository trainingRepository;
+
+    @BeforeEach
+    public void setUp() {
+        jdbcTemplate.queryForObject("SELECT create_training_partitions(DATE '2023-12-01', DATE '2024-02-01')",
+                Integer.class);
+        jdbcTemplate.execute("SET LOCAL enable_seqscan = off");
+        jdbcTemplate.execute("SET LOCAL plan_cache_mode = force_generic_plan");
+    }
+
+    @Test
+    public void traineeSearch_UsesTraineeDateIndexForDateRange() {
+        List<String> plan = explainTraineeSearch();
+
+        String condition = indexCondition(plan, "training_p2024_01");
+        assertTrue(condition.contains("trainee_id"), String.join("\n", plan));
+        assertTrue(condition.contains("training_date >="), String.join("\n", plan));
+        assertTrue(condition.contains("training_date <="), String.join("\n", plan));
+    }
+
+    @Test
+    public void trainerSearch_UsesTrainerDateIndexForDateRange() {
+        List<String> plan = explainTrainerSearch();
+
+        String condition = indexCondition(plan, "training_p2024_01");
+        assertTrue(condition.contains("trainer_id"), String.join("\n", plan));
+        assertTrue(condition.contains("training_date >="), String.join("\n", plan));
+        assertTrue(condition.contains("training_date <="), String.join("\n", plan));
+    }
+
+    @Test
+    public void traineeSearch_ScansOnlyPartitionsOfDateRange() {
+        String plan = String.join("\n", explainTraineeSearch());
+
+        assertTrue(plan.contains("training_p2024_01"), plan);
+        assertFalse(plan.contains("training_p2023_12"), plan);
+        assertFalse(plan.contains("training_p2024_02"), plan);
+        assertFalse(plan.contains("training_default"), plan);
+    }
+
+    @Test
+    public void usernameLookup_UsesUniqueIndex() {
+        List<String> plan = jdbcTemplate.queryForList("EXPLAIN SELECT id FROM users WHERE username = ?",
+                String.class, "trainee");
+
+        assertTrue(String.join("\n", plan).contains("users_username_key"), String.join("\n", plan));
+    }
+
+    /**
+     * Explains the trainee search with every filter bound and a keyset cursor, parameters in the order
+     * Hibernate renders them.
+     */
+    private List<String> explainTraineeSearch() {
+        String sql = captureSql(() -> trainingRepository.findTrainingsForTrainee("trainee", FROM, TO, null, null,
+                CURSOR_DATE, CURSOR_ID, PageRequest.ofSize(PAGE_SIZE)));
+        return explainGeneric(sql,
+                new Parameter("varchar", "trainee"),
+                new Parameter("timestamp", FROM),
+                new Parameter("timestamp", TO),
+                new Parameter("varchar", null),
+                new Parameter("varchar", null),
+                new Parameter("varchar", null),
+                new Parameter("varchar", null),
+                new Parameter("timestamp", CURSOR_DATE),
+                new Parameter("timestamp", CURSOR_DATE),
+                new Parameter("timestamp", CURSOR_DATE),
+                new Parameter("bigint", CURSOR_ID),
+                new Parameter("integer", PAGE_SIZE + 1));
+    }
+
+    /**
+     * Explains the trainer search with every filter bound and a keyset cursor, parameters in the order
+     * Hibernate renders them.
+     */
+    private List<String> explainTrainerSearch() {
+        String sql = captureSql(() -> trainingRepository.findTrainingsForTrainer("trainer", FROM, TO, null,
+                CURSOR_DATE, CURSOR_ID, PageRequest.ofSize(PAGE_SIZE)));
+        return explainGeneric(sql,
+                new Parameter("varchar", "trainer"),
+                new Parameter("timestamp", FROM),
+                new Parameter("timestamp", TO),
+                new Parameter("varchar", null),
+                new Parameter("varchar", null),
+                new Parameter("timestamp", CURSOR_DATE),
+                new Parameter("timestamp", CURSOR_DATE),
+                new Parameter("timestamp", CURSOR_DATE),
+                new Parameter("bigint", CURSOR_ID),
+                new Parameter("integer", PAGE_SIZE + 1));
+    }
+
+    /**
+     * Runs a repository search and returns the SQL Hibernate sent for it.
+     */
+    private String captureSql(Runnable search) {
+        CapturingStatementInspector.STATEMENTS.clear();
+        search.run();
+        return CapturingStatementInspector.STATEMENTS.stream()
+                .filter(sql -> sql.toLowerCase().contains(" from training "))
+                .reduce((first, second) -> second)
+                .orElseThrow(() -> new AssertionError("No training search captured: "
+                        + CapturingStatementInspector.STATEMENTS));
+    }
+
+    /**
+     * Prepares the statement with typed parameters and explains its generic plan.
+     */
+    private List<String> explainGeneric(String sql, Parameter... parameters) {
+        String[] parts = (sql + " ").split("\\?");
+        assertEquals(parameters.length, parts.length - 1, "Unexpected parameters in: " + sql);
+
+        StringBuilder prepared = new StringBuilder(parts[0]);
+        for (int i = 1; i < parts.length; i++) {
+            prepared.append('$').append(i).append(parts[i]);
+        }
+        String types = Arrays.stream(parameters).map(Parameter::type).collect(Collectors.joining(", "));
+        String values = Arrays.stream(parameters).map(Parameter::literal).collect(Collectors.joining(", "));
+
+        jdbcTemplate.execute("PREPARE training_search (" + types + ") AS " + prepared);
+        try {
+            return new ArrayList<>(jdbcTemplate.queryForList("EXPLAIN EXECUTE training_search (" + values + ")",
+                    String.class));
+        } finally {
+            jdbcTemplate.execute("DEALLOCATE training_search");
+        }
+    }
+
+    private String indexCondition(List<String> plan, String tableName) {
+        for (int i = 0; i < plan.size(); i++) {
+            if (plan.get(i).contains(" on " + tableName + " ")) {
+                for (int j = i + 1; j < plan.size() && !plan.get(j).contains("->"); j++) {
+                    if (plan.get(j).contains("Index Cond:")) {
+                        return plan.get(j);
+                    }
+                }
+            }
+        }
+        throw new AssertionError("No index condition on " + tableName + " in plan:\n" + String.join("\n", plan));
+    }
+
+    /**
+     * Bound parameter of a prepared search.
+     */
+    private record Parameter(String type, Object value) {
+
+        String literal() {
+            if (value == null) {
+                return "NULL";
+            }
+            if (value instanceof Number) {
+                return value.toString();
+            }
+            return "'" + value.toString().replace("'", "''") + "'";
+        }
+    }
+
+    /**
+     * Records the SQL of every statement Hibernate prepares.
+     */
+    public static class CapturingStatementInspector implements StatementInspector {
+
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
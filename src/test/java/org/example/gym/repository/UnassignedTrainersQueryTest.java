@@ -0,0 +1,129 @@
+package org.example.gym.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import jakarta.persistence.EntityManagerFactory;
+import java.util.List;
+import org.example.gym.entity.TraineeEntity;
+import org.example.gym.entity.TrainerEntity;
+import org.example.gym.entity.TrainingTypeEntity;
+import org.example.gym.entity.UserEntity;
+import org.example.gym.entity.enums.Role;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+
+/**
+ * Runs {@link TrainerRepository#findUnassignedActiveTrainers} against an in-memory database.
+ */
+@DataJpaTest(properties = {
+    "spring.flyway.enabled=false",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+public class UnassignedTrainersQueryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TrainerRepository trainerRepository;
+
+    private Long traineeId;
+    private Statistics statistics;
+
+    /**
+     * Persists trainers a to e, where a is assigned to the trainee, c is inactive and e is only assigned to
+     * another trainee.
+     */
+    @BeforeEach
+    public void setUp() {
+        TrainingTypeEntity yoga = entityManager.persist(new TrainingTypeEntity(null, "Yoga"));
+        TrainerEntity trainerA = trainer("trainer.a", true, yoga);
+        trainer("trainer.b", true, yoga);
+        trainer("trainer.c", false, yoga);
+        trainer("trainer.d", true, yoga);
+        TrainerEntity trainerE = trainer("trainer.e", true, yoga);
+
+        traineeId = trainee("trainee", trainerA).getId();
+        trainee("other.trainee", trainerE);
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+    }
+
+    @Test
+    public void findUnassignedActiveTrainers_ExcludesAssignedAndInactiveTrainers() {
+        Slice<TrainerEntity> trainers = trainerRepository.findUnassignedActiveTrainers(traineeId, null,
+                PageRequest.ofSize(10));
+
+        assertEquals(List.of("trainer.b", "trainer.d", "trainer.e"), usernames(trainers));
+        assertFalse(trainers.hasNext());
+    }
+
+    @Test
+    public void findUnassignedActiveTrainers_ContinuesAfterCursor() {
+        Slice<TrainerEntity> first = trainerRepository.findUnassignedActiveTrainers(traineeId, null,
+                PageRequest.ofSize(2));
+        Slice<TrainerEntity> second = trainerRepository.findUnassignedActiveTrainers(traineeId, "trainer.d",
+                PageRequest.ofSize(2));
+
+        assertEquals(List.of("trainer.b", "trainer.d"), usernames(first));
+        assertTrue(first.hasNext());
+        assertEquals(List.of("trainer.e"), usernames(second));
+        assertFalse(second.hasNext());
+    }
+
+    @Test
+    public void findUnassignedActiveTrainers_ReadsPageWithOneStatement() {
+        Slice<TrainerEntity> trainers = trainerRepository.findUnassignedActiveTrainers(traineeId, null,
+                PageRequest.ofSize(2));
+
+        trainers.forEach(trainer -> trainer.getSpecialization().getTrainingTypeName());
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    private List<String> usernames(Slice<TrainerEntity> trainers) {
+        return trainers.map(trainer -> trainer.getUser().getUsername()).getContent();
+    }
+
+    private TrainerEntity trainer(String username, boolean active, TrainingTypeEntity specialization) {
+        TrainerEntity trainer = new TrainerEntity();
+        trainer.setUser(entityManager.persist(user(username, active, Role.ROLE_TRAINER)));
+        trainer.setSpecialization(specialization);
+        return entityManager.persist(trainer);
+    }
+
+    private TraineeEntity trainee(String username, TrainerEntity assignedTrainer) {
+        TraineeEntity trainee = new TraineeEntity();
+        trainee.setUser(entityManager.persist(user(username, true, Role.ROLE_TRAINEE)));
+        trainee.getTrainers().add(assignedTrainer);
+        return entityManager.persist(trainee);
+    }
+
+    private UserEntity user(String username, boolean active, Role role) {
+        UserEntity user = new UserEntity();
+        user.setFirstName(username);
+        user.setLastName(username);
+        user.setUsername(username);
+        user.setPassword("password");
+        user.setIsActive(active);
+        user.setRole(role);
+        return user;
+    }
+}
@@ -0,0 +1,97 @@
+package org.example.gym.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import javax.jms.BytesMessage;
+import javax.jms.MessageFormatException;
+import javax.jms.Session;
+import org.example.gym.dto.request.TrainerWorkloadRequestDto;
+import org.junit.jupiter.api.Test;
+
+public class BinaryTrainerWorkloadCodecTest {
+
+    private final BinaryTrainerWorkloadCodec codec = new BinaryTrainerWorkloadCodec();
+
+    @Test
+    public void testToBytes_RoundTripsAllFields() throws Exception {
+        TrainerWorkloadRequestDto event = event();
+
+        assertEquals(event, codec.fromBytes(codec.toBytes(event)));
+    }
+
+    @Test
+    public void testToBytes_RoundTripsAbsentValues() throws Exception {
+        TrainerWorkloadRequestDto event = new TrainerWorkloadRequestDto("Anna.Lee", "Anna", null, false,
+                null, null, "DELETE");
+
+        assertEquals(event, codec.fromBytes(codec.toBytes(event)));
+    }
+
+    @Test
+    public void testToBytes_StoresRepeatedStringsOnce() throws Exception {
+        TrainerWorkloadRequestDto event = new TrainerWorkloadRequestDto("Lee", "Lee", "Lee", true,
+                LocalDateTime.parse("2024-05-01T10:00:00"), 60, "ADD");
+
+        byte[] body = codec.toBytes(event);
+
+        assertEquals(event, codec.fromBytes(body));
+        assertEquals(body.length, codec.toBytes(new TrainerWorkloadRequestDto("Lee", null, null, true,
+                LocalDateTime.parse("2024-05-01T10:00:00"), 60, "ADD")).length);
+    }
+
+    @Test
+    public void testToBytes_IsSeveralTimesSmallerThanJson() throws Exception {
+        TrainerWorkloadRequestDto event = event();
+        byte[] json = new ObjectMapper().registerModule(new JavaTimeModule()).writeValueAsString(event)
+                .getBytes(StandardCharsets.UTF_8);
+
+        byte[] binary = codec.toBytes(event);
+
+        assertTrue(binary.length * 3 < json.length, binary.length + " bytes vs " + json.length + " bytes of JSON");
+    }
+
+    @Test
+    public void testToBytes_UnsupportedActionType() {
+        TrainerWorkloadRequestDto event = event();
+        event.setActionType("UPDATE");
+
+        assertThrows(IllegalArgumentException.class, () -> codec.toBytes(event));
+    }
+
+    @Test
+    public void testEncode_SetsFormatProperties() throws Exception {
+        Session session = mock(Session.class);
+        BytesMessage message = mock(BytesMessage.class);
+        when(session.createBytesMessage()).thenReturn(message);
+
+        codec.encode(session, event());
+
+        verify(message).setStringProperty("contentType", "application/vnd.gym.trainer-workload");
+        verify(message).setIntProperty("formatVersion", 1);
+    }
+
+    @Test
+    public void testDecode_RejectsUnknownFormatVersion() throws Exception {
+        BytesMessage message = mock(BytesMessage.class);
+        when(message.getStringProperty("contentType")).thenReturn("application/vnd.gym.trainer-workload");
+        when(message.propertyExists("formatVersion")).thenReturn(true);
+        when(message.getIntProperty("formatVersion")).thenReturn(2);
+
+        assertThrows(MessageFormatException.class, () -> codec.decode(message));
+    }
+
+    private static TrainerWorkloadRequestDto event() {
+        return new TrainerWorkloadRequestDto("John.Doe", "John", "Doe", true,
+                LocalDateTime.parse("2024-05-01T10:30:15"), 60, "ADD", UUID.randomUUID().toString(), 42L);
+    }
+}
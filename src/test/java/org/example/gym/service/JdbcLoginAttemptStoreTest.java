@@ -0,0 +1,176 @@
+package org.example.gym.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import org.example.gym.config.security.SecurityConstants;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@ExtendWith(MockitoExtension.class)
+public class JdbcLoginAttemptStoreTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private JdbcLoginAttemptStore loginAttemptStore;
+
+    @BeforeEach
+    public void setUp() {
+        loginAttemptStore = new JdbcLoginAttemptStore(jdbcTemplate, 300_000, 3, 60_000);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testFlush_WritesPendingAttemptsAsOneBatch() {
+        mockBatches(0, 0);
+        loginAttemptStore.registerFailedAttempt("10.0.0.1");
+        loginAttemptStore.registerFailedAttempt("10.0.0.1");
+        loginAttemptStore.registerFailedAttempt("10.0.0.2");
+
+        int flushed = loginAttemptStore.flush();
+
+        assertEquals(2, flushed);
+        ArgumentCaptor<List<Object[]>> upserts = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(contains("ON CONFLICT (ip_address)"), upserts.capture());
+        assertEquals(2, upserts.getValue().size());
+        assertEquals(3, upserts.getValue().stream().mapToInt(row -> (Integer) row[1]).sum());
+        assertEquals(0, loginAttemptStore.flush());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testFlush_WritesIpAddressesInOrder() {
+        mockBatches(0, 0, 0);
+        loginAttemptStore.registerFailedAttempt("10.0.0.3");
+        loginAttemptStore.registerFailedAttempt("10.0.0.1");
+        loginAttemptStore.registerFailedAttempt("10.0.0.2");
+
+        loginAttemptStore.flush();
+
+        ArgumentCaptor<List<Object[]>> upserts = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(contains("ON CONFLICT (ip_address)"), upserts.capture());
+        assertEquals(List.of("10.0.0.1", "10.0.0.2", "10.0.0.3"),
+                upserts.getValue().stream().map(row -> row[0]).toList());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testFlush_FailedBatchKeepsAttemptsForNextFlush() {
+        when(jdbcTemplate.batchUpdate(contains("ON CONFLICT (ip_address)"), anyList()))
+                .thenThrow(new QueryTimeoutException("timeout"))
+                .thenReturn(new int[]{1});
+        when(jdbcTemplate.batchUpdate(contains("blocked_until"), anyList())).thenReturn(new int[]{0});
+        loginAttemptStore.registerFailedAttempt("10.0.0.1");
+        loginAttemptStore.registerFailedAttempt("10.0.0.1");
+
+        assertThrows(QueryTimeoutException.class, () -> loginAttemptStore.flush());
+        loginAttemptStore.registerFailedAttempt("10.0.0.1");
+
+        assertEquals(1, loginAttemptStore.flush());
+        ArgumentCaptor<List<Object[]>> upserts = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate, times(2)).batchUpdate(contains("ON CONFLICT (ip_address)"), upserts.capture());
+        assertEquals(3, upserts.getAllValues().get(1).get(0)[1]);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testRegisterFailedAttempt_WritesImmediatelyWhenPendingIsFull() {
+        mockBatches(0);
+        loginAttemptStore.registerFailedAttempt("10.0.0.1");
+        loginAttemptStore.registerFailedAttempt("10.0.0.2");
+        loginAttemptStore.registerFailedAttempt("10.0.0.3");
+
+        loginAttemptStore.registerFailedAttempt("10.0.0.4");
+
+        ArgumentCaptor<List<Object[]>> upserts = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(contains("ON CONFLICT (ip_address)"), upserts.capture());
+        assertEquals("10.0.0.4", upserts.getValue().get(0)[0]);
+        mockBatches(0, 0, 0);
+        assertEquals(3, loginAttemptStore.flush());
+    }
+
+    @Test
+    public void testIsBlocked_CachesSharedState() {
+        when(jdbcTemplate.queryForObject(anyString(), eq(Boolean.class), eq("10.0.0.1"), any()))
+                .thenReturn(false);
+
+        assertFalse(loginAttemptStore.isBlocked("10.0.0.1"));
+        assertFalse(loginAttemptStore.isBlocked("10.0.0.1"));
+
+        verify(jdbcTemplate).queryForObject(anyString(), eq(Boolean.class), eq("10.0.0.1"), any());
+    }
+
+    @Test
+    public void testFlush_CachesBlocksItWrites() {
+        mockBatches(1);
+        loginAttemptStore.registerFailedAttempt("10.0.0.1");
+
+        loginAttemptStore.flush();
+
+        assertTrue(loginAttemptStore.isBlocked("10.0.0.1"));
+        verify(jdbcTemplate, never()).queryForObject(anyString(), eq(Boolean.class), any(), any());
+    }
+
+    @Test
+    public void testFlush_NothingPending() {
+        assertEquals(0, loginAttemptStore.flush());
+
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+    }
+
+    @Test
+    public void testIsBlocked_ReadsSharedBlock() {
+        when(jdbcTemplate.queryForObject(anyString(), eq(Boolean.class), eq("10.0.0.1"), any()))
+                .thenReturn(true);
+
+        assertTrue(loginAttemptStore.isBlocked("10.0.0.1"));
+    }
+
+    @Test
+    public void testIsBlocked_PendingAttemptsReachMaximum() {
+        for (int i = 0; i < SecurityConstants.MAX_ATTEMPTS; i++) {
+            loginAttemptStore.registerFailedAttempt("10.0.0.1");
+        }
+
+        assertTrue(loginAttemptStore.isBlocked("10.0.0.1"));
+        verify(jdbcTemplate, never()).queryForObject(anyString(), eq(Boolean.class), any(), any());
+    }
+
+    @Test
+    public void testResetAttempts_DropsPendingAttempts() {
+        loginAttemptStore.registerFailedAttempt("10.0.0.1");
+
+        loginAttemptStore.resetAttempts("10.0.0.1");
+
+        verify(jdbcTemplate).update(anyString(), eq("10.0.0.1"));
+        assertEquals(0, loginAttemptStore.flush());
+        when(jdbcTemplate.queryForObject(anyString(), eq(Boolean.class), eq("10.0.0.1"), any()))
+                .thenReturn(false);
+        assertFalse(loginAttemptStore.isBlocked("10.0.0.1"));
+    }
+
+    private void mockBatches(int... blocked) {
+        when(jdbcTemplate.batchUpdate(contains("ON CONFLICT (ip_address)"), anyList()))
+                .thenReturn(new int[blocked.length]);
+        when(jdbcTemplate.batchUpdate(contains("blocked_until"), anyList())).thenReturn(blocked);
+    }
+}
@@ -1,19 +1,38 @@
 package org.example.gym.service;
 
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import javax.jms.Connection;
+import javax.jms.ConnectionFactory;
+import javax.jms.JMSException;
+import javax.jms.MessageProducer;
+import javax.jms.Queue;
+import javax.jms.Session;
+import javax.jms.TextMessage;
 import org.example.gym.dto.request.TrainerWorkloadRequestDto;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jms.UncategorizedJmsException;
 import org.springframework.jms.core.JmsTemplate;
+import org.springframework.jms.core.MessageCreator;
 
 @ExtendWith(MockitoExtension.class)
 public class JmsProducerServiceTest {
@@ -21,42 +40,126 @@ public class JmsProducerServiceTest {
     @Mock
     private JmsTemplate jmsTemplate;
 
+    @Mock
+    private ConnectionFactory connectionFactory;
+
+    @Mock
+    private TrainerWorkloadCodec codec;
+
     @Mock
     private ObjectMapper objectMapper;
 
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private Session session;
+
+    @Mock
+    private MessageProducer producer;
+
     @InjectMocks
     private JmsProducerService jmsProducerService;
 
     private TrainerWorkloadRequestDto request;
-    private final String jsonMessage = "{\"username\":\"john.doe\"}";
 
     /**
      * Sets up the necessary preconditions before each test execution.
-     * Initializes request objects and configures mock behavior.
-     *
-     * @throws Exception if there is any issue during the setup.
+     * Initializes the request object.
      */
     @BeforeEach
-    public void setUp() throws Exception {
+    public void setUp() {
         request = new TrainerWorkloadRequestDto();
         request.setTrainerUsername("john.doe");
-        when(objectMapper.writeValueAsString(request)).thenReturn(jsonMessage);
     }
 
     @Test
     public void testSendTrainingUpdate_Success() throws Exception {
+        request.setEventId("event-1");
+        request.setSequence(7L);
+        TextMessage message = mock(TextMessage.class);
+        when(codec.encode(session, request)).thenReturn(message);
+
         jmsProducerService.sendTrainingUpdate(request);
-        verify(jmsTemplate).convertAndSend("trainer.training.update", jsonMessage);
+
+        ArgumentCaptor<MessageCreator> messageCreator = ArgumentCaptor.forClass(MessageCreator.class);
+        verify(jmsTemplate).send(eq("trainer.training.update"), messageCreator.capture());
+        messageCreator.getValue().createMessage(session);
+        verify(message).setStringProperty("JMSXGroupID", "john.doe");
+        verify(message).setStringProperty("eventId", "event-1");
+        verify(message).setLongProperty("sequence", 7L);
+    }
+
+    @Test
+    public void testSendTrainingUpdate_JmsExceptionPropagates() {
+        doThrow(new UncategorizedJmsException("broker down")).when(jmsTemplate)
+                .send(eq("trainer.training.update"), any(MessageCreator.class));
+
+        assertThrows(UncategorizedJmsException.class, () -> jmsProducerService.sendTrainingUpdate(request));
+        verify(jmsTemplate, never()).convertAndSend(eq("trainer.training.dlq"), anyString());
     }
 
     @Test
-    public void testSendTrainingUpdate_JsonProcessingException() throws Exception {
-        when(objectMapper.writeValueAsString(request)).thenThrow(new RuntimeException("JSON processing failed"));
-
-        try {
-            jmsProducerService.sendTrainingUpdate(request);
-        } catch (RuntimeException e) {
-            verify(jmsTemplate, never()).convertAndSend(anyString(), anyString());
-        }
+    public void testSendToDeadLetterQueue() throws Exception {
+        when(objectMapper.writeValueAsString(anyMap())).thenReturn("{\"retryCount\":5}");
+
+        jmsProducerService.sendToDeadLetterQueue(request, new UncategorizedJmsException("broker down"), 5);
+
+        verify(jmsTemplate).convertAndSend("trainer.training.dlq", "{\"retryCount\":5}");
+    }
+
+    @Test
+    public void testSendTrainingUpdates_SendsInOrderAndCommitsOnce() throws Exception {
+        TrainerWorkloadRequestDto next = new TrainerWorkloadRequestDto();
+        next.setTrainerUsername("jane.doe");
+        TextMessage firstMessage = mock(TextMessage.class);
+        TextMessage nextMessage = mock(TextMessage.class);
+        mockSession();
+        when(codec.encode(session, request)).thenReturn(firstMessage);
+        when(codec.encode(session, next)).thenReturn(nextMessage);
+
+        jmsProducerService.sendTrainingUpdates(List.of(request, next));
+
+        InOrder inOrder = inOrder(producer, session);
+        inOrder.verify(producer).send(firstMessage);
+        inOrder.verify(producer).send(nextMessage);
+        inOrder.verify(session).commit();
+        inOrder.verify(session).close();
+        verify(firstMessage).setStringProperty("JMSXGroupID", "john.doe");
+        verify(nextMessage).setStringProperty("JMSXGroupID", "jane.doe");
+        verify(connectionFactory).createConnection();
+        verify(jmsTemplate, never()).send(anyString(), any(MessageCreator.class));
+    }
+
+    @Test
+    public void testSendTrainingUpdates_FailedSendIsNotCommitted() throws Exception {
+        TextMessage message = mock(TextMessage.class);
+        mockSession();
+        when(codec.encode(session, request)).thenReturn(message);
+        doThrow(new JMSException("broker down")).when(producer).send(message);
+
+        assertThrows(UncategorizedJmsException.class, () -> jmsProducerService.sendTrainingUpdates(List.of(request)));
+        verify(session, never()).commit();
+        verify(session).close();
+        verify(connection).close();
+    }
+
+    @Test
+    public void testSendTrainingUpdates_EncodingFailureSendsNothing() throws Exception {
+        mockSession();
+        when(codec.encode(session, request)).thenThrow(new IllegalStateException("JSON processing failed"));
+
+        assertThrows(IllegalStateException.class, () -> jmsProducerService.sendTrainingUpdates(List.of(request)));
+        verify(producer, never()).send(any());
+        verify(session, never()).commit();
+        verify(session).close();
+    }
+
+    private void mockSession() throws JMSException {
+        Queue queue = mock(Queue.class);
+        when(connectionFactory.createConnection()).thenReturn(connection);
+        when(connection.createSession(true, Session.SESSION_TRANSACTED)).thenReturn(session);
+        when(session.createQueue("trainer.training.update")).thenReturn(queue);
+        when(session.createProducer(queue)).thenReturn(producer);
     }
 }
@@ -0,0 +1,48 @@
+package org.example.gym.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.time.LocalDateTime;
+import javax.jms.BytesMessage;
+import javax.jms.MessageFormatException;
+import javax.jms.Session;
+import javax.jms.TextMessage;
+import org.example.gym.dto.request.TrainerWorkloadRequestDto;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+public class JsonTrainerWorkloadCodecTest {
+
+    private final JsonTrainerWorkloadCodec codec =
+            new JsonTrainerWorkloadCodec(new ObjectMapper().registerModule(new JavaTimeModule()));
+
+    @Test
+    public void testEncode_WritesJsonTextMessageWithFormatProperties() throws Exception {
+        TrainerWorkloadRequestDto event = new TrainerWorkloadRequestDto("John.Doe", "John", "Doe", true,
+                LocalDateTime.parse("2024-05-01T10:00:00"), 60, "ADD", "event-1", 3L);
+        Session session = mock(Session.class);
+        TextMessage message = mock(TextMessage.class);
+        when(session.createTextMessage(anyString())).thenReturn(message);
+
+        codec.encode(session, event);
+
+        ArgumentCaptor<String> json = ArgumentCaptor.forClass(String.class);
+        verify(session).createTextMessage(json.capture());
+        verify(message).setStringProperty("contentType", "application/json");
+        verify(message).setIntProperty("formatVersion", 1);
+        when(message.getText()).thenReturn(json.getValue());
+        assertEquals(event, codec.decode(message));
+    }
+
+    @Test
+    public void testDecode_RejectsBytesMessage() {
+        assertThrows(MessageFormatException.class, () -> codec.decode(mock(BytesMessage.class)));
+    }
+}
@@ -13,7 +13,7 @@ public class LoginAttemptServiceTest {
 
     @BeforeEach
     void setUp() {
-        loginAttemptService = new LoginAttemptService();
+        loginAttemptService = new LoginAttemptService(new InMemoryLoginAttemptStore(1000, 300_000));
     }
 
     @Test
@@ -37,5 +37,46 @@ public class LoginAttemptServiceTest {
         assertThat(loginAttemptService.isBlocked(ipAddress)).isTrue();
     }
 
+    @Test
+    void testResetAttemptsByIp_ShouldClearAttemptsBeforeBlock() {
+        for (int i = 1; i < SecurityConstants.MAX_ATTEMPTS; i++) {
+            loginAttemptService.registerFailedAttemptByIp(ipAddress);
+        }
+        loginAttemptService.resetAttemptsByIp(ipAddress);
+        loginAttemptService.registerFailedAttemptByIp(ipAddress);
+
+        assertThat(loginAttemptService.isBlocked(ipAddress)).isFalse();
+    }
+
+    @Test
+    void testResetAttemptsByIp_ShouldNotLiftActiveBlock() {
+        for (int i = 0; i < SecurityConstants.MAX_ATTEMPTS; i++) {
+            loginAttemptService.registerFailedAttemptByIp(ipAddress);
+        }
+        loginAttemptService.resetAttemptsByIp(ipAddress);
+
+        assertThat(loginAttemptService.isBlocked(ipAddress)).isTrue();
+    }
+
+    @Test
+    void testRegisterFailedAttemptByIp_ShouldCountIpAddressesIndependently() {
+        for (int i = 0; i < SecurityConstants.MAX_ATTEMPTS; i++) {
+            loginAttemptService.registerFailedAttemptByIp(ipAddress);
+        }
+        assertThat(loginAttemptService.isBlocked("10.0.0.1")).isFalse();
+    }
+
+    @Test
+    void testRegisterFailedAttemptByIp_ShouldNotLoseConcurrentAttempts() throws InterruptedException {
+        Thread[] threads = new Thread[SecurityConstants.MAX_ATTEMPTS];
+        for (int i = 0; i < threads.length; i++) {
+            threads[i] = new Thread(() -> loginAttemptService.registerFailedAttemptByIp(ipAddress));
+            threads[i].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertThat(loginAttemptService.isBlocked(ipAddress)).isTrue();
+    }
 
 }
@@ -4,6 +4,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -61,4 +63,37 @@ public class MetricsServiceTest {
         assertThat(meterRegistry.find("inactive_users").gauge().value()).isEqualTo(5);
     }
 
+    @Test
+    void testRecordWorkloadRetryAndDeadLetter() {
+        metricsService.recordWorkloadRetry();
+        metricsService.recordWorkloadRetry();
+        metricsService.recordWorkloadRetryDelivered(Duration.ofSeconds(3));
+        metricsService.recordWorkloadDeadLettered();
+        metricsService.recordWorkloadParked(2);
+
+        assertThat(meterRegistry.find("trainer_workload_retry_attempts_total").counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.find("trainer_workload_retry_latency").timer().totalTime(TimeUnit.SECONDS))
+                .isEqualTo(3);
+        assertThat(meterRegistry.find("trainer_workload_dlq_total").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.find("trainer_workload_parked_total").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    void testRecordWorkloadBatch() {
+        metricsService.recordWorkloadBatch(10, TimeUnit.MILLISECONDS.toNanos(4));
+        metricsService.recordWorkloadBatch(30, TimeUnit.MILLISECONDS.toNanos(6));
+
+        assertThat(meterRegistry.find("trainer_workload_batch_size").summary().mean()).isEqualTo(20);
+        assertThat(meterRegistry.find("trainer_workload_batch_flush_duration").timer()
+                .totalTime(TimeUnit.MILLISECONDS)).isEqualTo(10);
+    }
+
+    @Test
+    void testRecordDeadLetterReplay() {
+        metricsService.recordDeadLetterReplay(5, 1);
+        metricsService.recordDeadLetterReplay(2, 0);
+
+        assertThat(meterRegistry.find("trainer_workload_dlq_replayed_total").counter().count()).isEqualTo(7);
+        assertThat(meterRegistry.find("trainer_workload_dlq_replay_failed_total").counter().count()).isEqualTo(1);
+    }
 }
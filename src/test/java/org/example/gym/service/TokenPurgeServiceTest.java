@@ -0,0 +1,56 @@
+package org.example.gym.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class TokenPurgeServiceTest {
+
+    @Mock
+    private TokenService tokenService;
+
+    @Mock
+    private MetricsService metricsService;
+
+    private TokenPurgeService tokenPurgeService;
+
+    @BeforeEach
+    public void setUp() {
+        tokenPurgeService = new TokenPurgeService(tokenService, metricsService, 2, 0);
+    }
+
+    @Test
+    public void testPurgeTokens_DeletesBatchesUntilPartialBatch() {
+        when(tokenService.deleteRevokedOrExpiredBatch(any(LocalDateTime.class), eq(2)))
+                .thenReturn(2, 2, 1);
+
+        int purged = tokenPurgeService.purgeTokens();
+
+        assertEquals(5, purged);
+        verify(tokenService, times(3)).deleteRevokedOrExpiredBatch(any(LocalDateTime.class), eq(2));
+        verify(metricsService).recordTokenPurge(eq(5), anyLong());
+    }
+
+    @Test
+    public void testPurgeTokens_NothingToDelete() {
+        when(tokenService.deleteRevokedOrExpiredBatch(any(LocalDateTime.class), eq(2))).thenReturn(0);
+
+        int purged = tokenPurgeService.purgeTokens();
+
+        assertEquals(0, purged);
+        verify(tokenService, times(1)).deleteRevokedOrExpiredBatch(any(LocalDateTime.class), eq(2));
+        verify(metricsService).recordTokenPurge(eq(0), anyLong());
+    }
+}
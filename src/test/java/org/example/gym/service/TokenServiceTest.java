@@ -38,7 +38,7 @@ public class TokenServiceTest {
      * interactions or external dependencies.</p>
      *
      * <p>The {@code UserEntity} is initialized with a sample ID. The {@code TokenEntity} is initialized
-     * with a sample ID, token string, a reference to the mock {@code UserEntity}, and a revoked status
+     * with a sample ID, token digest, a reference to the mock {@code UserEntity}, and a revoked status
      * set to {@code false}.</p>
      *
      * <p>Called before each test method execution to ensure a clean and consistent state for the tests.</p>
@@ -50,30 +50,30 @@ public class TokenServiceTest {
 
         mockToken = new TokenEntity();
         mockToken.setId(1L);
-        mockToken.setToken("sampleToken");
+        mockToken.setTokenHash("sampleTokenHash");
         mockToken.setUser(mockUser);
         mockToken.setRevoked(false);
     }
 
     @Test
-    public void testGetTokenByTokenString_Found() {
-        when(tokenRepository.findByToken("sampleToken")).thenReturn(Optional.of(mockToken));
+    public void testGetTokenByTokenHash_Found() {
+        when(tokenRepository.findByTokenHash("sampleTokenHash")).thenReturn(Optional.of(mockToken));
 
-        Optional<TokenEntity> token = tokenService.getByToken("sampleToken");
+        Optional<TokenEntity> token = tokenService.getByTokenHash("sampleTokenHash");
 
         assertTrue(token.isPresent());
         assertEquals(mockToken, token.get());
-        verify(tokenRepository).findByToken("sampleToken");
+        verify(tokenRepository).findByTokenHash("sampleTokenHash");
     }
 
     @Test
-    public void testGetTokenByTokenString_NotFound() {
-        when(tokenRepository.findByToken("invalidToken")).thenReturn(Optional.empty());
+    public void testGetTokenByTokenHash_NotFound() {
+        when(tokenRepository.findByTokenHash("invalidTokenHash")).thenReturn(Optional.empty());
 
-        Optional<TokenEntity> token = tokenService.getByToken("invalidToken");
+        Optional<TokenEntity> token = tokenService.getByTokenHash("invalidTokenHash");
 
         assertTrue(token.isEmpty());
-        verify(tokenRepository).findByToken("invalidToken");
+        verify(tokenRepository).findByTokenHash("invalidTokenHash");
     }
 
     @Test
@@ -4,6 +4,8 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -20,13 +22,18 @@ import org.example.gym.entity.TrainerEntity;
 import org.example.gym.entity.UserEntity;
 import org.example.gym.exeption.TraineeNotFoundException;
 import org.example.gym.repository.TraineeRepository;
+import org.example.gym.utils.Pagination;
 import org.example.gym.utils.ValidationUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 
 /**
@@ -49,6 +56,9 @@ public class TraineeServiceTest {
     @Mock
     private ValidationUtils validationUtils;
 
+    @Mock
+    private TrainerWorkloadSummary trainerWorkloadSummary;
+
     @InjectMocks
     private TraineeService traineeService;
 
@@ -149,23 +159,39 @@ public class TraineeServiceTest {
     public void getUnassignedTrainers_ShouldReturnUnassignedTrainers() {
         // Arrange
         String username = "john.doe";
+        trainee.setId(7L);
         when(traineeRepository.findByUser_Username(username)).thenReturn(Optional.of(trainee));
 
-        List<TrainerEntity> allTrainers = new ArrayList<>();
-        allTrainers.add(new TrainerEntity());
-        allTrainers.add(new TrainerEntity());
-
-        List<TrainerEntity> assignedTrainers = new ArrayList<>();
-        assignedTrainers.add(allTrainers.get(0));
-
-        when(trainerService.findAll()).thenReturn(allTrainers);
-        when(trainerService.findAssignedTrainers(trainee.getId())).thenReturn(assignedTrainers);
+        Slice<TrainerEntity> unassigned = new SliceImpl<>(List.of(new TrainerEntity()));
+        when(trainerService.findUnassignedActiveTrainers(7L, "trainer.a", PageRequest.ofSize(10)))
+                .thenReturn(unassigned);
 
         // Act
-        List<TrainerEntity> unassignedTrainers = traineeService.getUnassignedTrainers(username);
+        Slice<TrainerEntity> unassignedTrainers = traineeService.getUnassignedTrainers(username, "trainer.a", 10);
 
         // Assert
-        assertEquals(1, unassignedTrainers.size());
+        assertEquals(1, unassignedTrainers.getNumberOfElements());
+    }
+
+    @Test
+    public void getUnassignedTrainers_ShouldStartFromFirstPageWithDefaultSize() {
+        trainee.setId(7L);
+        when(traineeRepository.findByUser_Username("john.doe")).thenReturn(Optional.of(trainee));
+        when(trainerService.findUnassignedActiveTrainers(7L, null,
+                PageRequest.ofSize(Pagination.DEFAULT_PAGE_SIZE))).thenReturn(new SliceImpl<>(List.of()));
+
+        Slice<TrainerEntity> unassignedTrainers = traineeService.getUnassignedTrainers("john.doe", "", null);
+
+        assertEquals(0, unassignedTrainers.getNumberOfElements());
+    }
+
+    @Test
+    public void getUnassignedTrainers_ShouldThrowExceptionWhenTraineeNotFound() {
+        when(traineeRepository.findByUser_Username("invalidUser")).thenReturn(Optional.empty());
+
+        assertThrows(TraineeNotFoundException.class,
+                () -> traineeService.getUnassignedTrainers("invalidUser", null, null));
+        verify(trainerService, never()).findUnassignedActiveTrainers(any(), any(), any());
     }
 
     @Test
@@ -180,7 +206,7 @@ public class TraineeServiceTest {
 
         when(traineeRepository.findByUser_Username("john.doe")).thenReturn(Optional.of(trainee));
         TrainerEntity trainer = new TrainerEntity();
-        when(trainerService.getTrainer("trainer1")).thenReturn(trainer);
+        when(trainerService.getTrainers(trainerUsernames)).thenReturn(List.of(trainer));
 
         // Act
         TraineeEntity updatedTrainee = traineeService.updateTraineeTrainerList(requestDto);
@@ -202,7 +228,7 @@ public class TraineeServiceTest {
         requestDto.setDateOfBirth(LocalDateTime.now());
         requestDto.setPublic(true);
 
-        when(traineeRepository.findByUser_Username("john.doe")).thenReturn(Optional.of(trainee));
+        when(traineeRepository.findWithTrainersByUser_Username("john.doe")).thenReturn(Optional.of(trainee));
         when(userService.save(any(UserEntity.class))).thenReturn(user);
 
         // Act
@@ -214,6 +240,42 @@ public class TraineeServiceTest {
         verify(traineeRepository, times(1)).save(any(TraineeEntity.class));
     }
 
+    @Test
+    public void updateTraineeProfile_ShouldEvictPreviousUsername() {
+        UpdateTraineeRequestDto requestDto = new UpdateTraineeRequestDto();
+        requestDto.setUsername("john.doe");
+        requestDto.setFirstName("John");
+        requestDto.setLastName("Doe");
+        user.setUsername("john.doe.old");
+
+        when(traineeRepository.findWithTrainersByUser_Username("john.doe")).thenReturn(Optional.of(trainee));
+        when(userService.save(any(UserEntity.class))).thenReturn(user);
+
+        traineeService.updateTraineeProfile(requestDto);
+
+        InOrder order = inOrder(userService);
+        order.verify(userService).evictUserDetails("john.doe.old");
+        order.verify(userService).save(user);
+        assertEquals("john.doe", user.getUsername());
+    }
+
+    @Test
+    public void getTraineeProfile_ShouldLoadTraineeWithTrainers() {
+        when(traineeRepository.findWithTrainersByUser_Username("john.doe")).thenReturn(Optional.of(trainee));
+
+        TraineeEntity foundTrainee = traineeService.getTraineeProfile("john.doe");
+
+        assertEquals(trainee, foundTrainee);
+        verify(traineeRepository, never()).findByUser_Username(any());
+    }
+
+    @Test
+    public void getTraineeProfile_ShouldThrowExceptionWhenTraineeNotFound() {
+        when(traineeRepository.findWithTrainersByUser_Username("invalidUser")).thenReturn(Optional.empty());
+
+        assertThrows(TraineeNotFoundException.class, () -> traineeService.getTraineeProfile("invalidUser"));
+    }
+
     @Test
     public void deleteTraineeByUsername_ShouldDeleteTrainee() {
         // Arrange
@@ -226,6 +288,29 @@ public class TraineeServiceTest {
         verify(traineeRepository, times(1)).delete(any(TraineeEntity.class));
     }
 
+    @Test
+    public void deleteTraineeByUsername_ShouldEvictCachedUserDetails() {
+        when(traineeRepository.findByUser_Username("john.doe")).thenReturn(Optional.of(trainee));
+
+        traineeService.deleteTraineeByUsername("john.doe");
+
+        InOrder order = inOrder(traineeRepository, userService);
+        order.verify(traineeRepository).delete(trainee);
+        order.verify(userService).evictUserDetails("john.doe");
+    }
+
+    @Test
+    public void deleteTraineeByUsername_ShouldRemoveTrainingsFromWorkloadsBeforeDelete() {
+        trainee.setId(5L);
+        when(traineeRepository.findByUser_Username("john.doe")).thenReturn(Optional.of(trainee));
+
+        traineeService.deleteTraineeByUsername("john.doe");
+
+        InOrder order = inOrder(trainerWorkloadSummary, traineeRepository);
+        order.verify(trainerWorkloadSummary).removeTraineeTrainings(5L);
+        order.verify(traineeRepository).delete(trainee);
+    }
+
     @Test
     public void deleteTraineeByUsername_ShouldThrowExceptionWhenTraineeNotFound() {
         // Arrange
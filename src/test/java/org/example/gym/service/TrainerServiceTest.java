@@ -5,11 +5,13 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
-import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import org.example.gym.dto.request.ActivateRequestDto;
 import org.example.gym.dto.request.UpdateTrainerRequestDto;
 import org.example.gym.entity.TrainerEntity;
@@ -22,9 +24,13 @@ import org.example.gym.utils.ValidationUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 
 /**
@@ -96,6 +102,26 @@ public class TrainerServiceTest {
         verify(trainerRepository).save(trainer);
     }
 
+    @Test
+    public void testUpdateTrainerProfile_EvictsPreviousUsername() {
+        UpdateTrainerRequestDto requestDto = new UpdateTrainerRequestDto();
+        requestDto.setUsername("john.doe");
+        requestDto.setTrainingTypeId(1L);
+        user.setUsername("john.doe.old");
+
+        when(trainerRepository.findWithTraineesByUser_Username("john.doe")).thenReturn(Optional.of(trainer));
+        when(trainingTypeService.findById(1L)).thenReturn(new TrainingTypeEntity(1L, "Yoga"));
+        when(userService.save(any(UserEntity.class))).thenReturn(user);
+        when(trainerRepository.save(any(TrainerEntity.class))).thenReturn(trainer);
+
+        trainerService.updateTrainerProfile(requestDto);
+
+        InOrder order = inOrder(userService);
+        order.verify(userService).evictUserDetails("john.doe.old");
+        order.verify(userService).save(user);
+        assertEquals("john.doe", user.getUsername());
+    }
+
     @Test
     public void testToggleTrainerStatus() {
         // Arrange
@@ -124,7 +150,7 @@ public class TrainerServiceTest {
         requestDto.setPublic(true);
 
         TrainingTypeEntity trainingType = new TrainingTypeEntity(1L, "Yoga");
-        when(trainerRepository.findByUser_Username("john.doe")).thenReturn(Optional.of(trainer));
+        when(trainerRepository.findWithTraineesByUser_Username("john.doe")).thenReturn(Optional.of(trainer));
         when(trainingTypeService.findById(1L)).thenReturn(trainingType);
         when(userService.save(any(UserEntity.class))).thenReturn(user);
         when(trainerRepository.save(any(TrainerEntity.class))).thenReturn(trainer);
@@ -139,32 +165,13 @@ public class TrainerServiceTest {
     }
 
     @Test
-    public void testFindAll() {
-        // Arrange
-        when(trainerRepository.findAll()).thenReturn(Arrays.asList(trainer));
-
-        // Act
-        var trainers = trainerService.findAll();
-
-        // Assert
-        assertNotNull(trainers);
-        assertEquals(1, trainers.size());
-        verify(trainerRepository).findAll();
-    }
-
-    @Test
-    public void testFindAssignedTrainers() {
-        // Arrange
-        Long traineeId = 1L;
-        when(trainerRepository.findByTrainees_Id(traineeId)).thenReturn(Arrays.asList(trainer));
+    public void testFindUnassignedActiveTrainers() {
+        Slice<TrainerEntity> page = new SliceImpl<>(List.of(trainer));
+        when(trainerRepository.findUnassignedActiveTrainers(1L, "a", PageRequest.ofSize(5))).thenReturn(page);
 
-        // Act
-        var trainers = trainerService.findAssignedTrainers(traineeId);
+        Slice<TrainerEntity> trainers = trainerService.findUnassignedActiveTrainers(1L, "a", PageRequest.ofSize(5));
 
-        // Assert
-        assertNotNull(trainers);
-        assertEquals(1, trainers.size());
-        verify(trainerRepository).findByTrainees_Id(traineeId);
+        assertEquals(page, trainers);
     }
 
     @Test
@@ -192,6 +199,36 @@ public class TrainerServiceTest {
         assertThrows(TrainerNotFoundException.class, () -> trainerService.getTrainer(username));
     }
 
+    @Test
+    public void testGetTrainerProfile() {
+        when(trainerRepository.findWithTraineesByUser_Username("john.doe")).thenReturn(Optional.of(trainer));
+
+        TrainerEntity foundTrainer = trainerService.getTrainerProfile("john.doe");
+
+        assertEquals(trainer, foundTrainer);
+        verify(trainerRepository).findWithTraineesByUser_Username("john.doe");
+    }
+
+    @Test
+    public void testGetTrainers() {
+        when(trainerRepository.findByUser_UsernameIn(Set.of("john.doe"))).thenReturn(List.of(trainer));
+
+        List<TrainerEntity> trainers = trainerService.getTrainers(List.of("john.doe", "john.doe"));
+
+        assertEquals(List.of(trainer), trainers);
+    }
+
+    @Test
+    public void testGetTrainersNotFound() {
+        when(trainerRepository.findByUser_UsernameIn(Set.of("john.doe", "nonexistent.user")))
+                .thenReturn(List.of(trainer));
+
+        TrainerNotFoundException exception = assertThrows(TrainerNotFoundException.class,
+                () -> trainerService.getTrainers(List.of("john.doe", "nonexistent.user")));
+
+        assertTrue(exception.getMessage().contains("nonexistent.user"));
+    }
+
     @Test
     public void testUpdateTrainerProfileNotFound() {
         // Arrange
@@ -199,7 +236,7 @@ public class TrainerServiceTest {
         UpdateTrainerRequestDto requestDto = new UpdateTrainerRequestDto();
         requestDto.setUsername(username);
 
-        when(trainerRepository.findByUser_Username(username)).thenReturn(Optional.empty());
+        when(trainerRepository.findWithTraineesByUser_Username(username)).thenReturn(Optional.empty());
 
         // Act & Assert
         assertThrows(TrainerNotFoundException.class, () -> trainerService.updateTrainerProfile(requestDto));
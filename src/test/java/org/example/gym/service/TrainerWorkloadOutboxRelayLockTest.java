@@ -0,0 +1,95 @@
+package org.example.gym.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.example.gym.dto.request.TrainerWorkloadRequestDto;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * Runs two relay transactions at once on PostgreSQL, migrated by Flyway, and checks that only one of them
+ * sends events. The test is skipped when Docker is not available.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Import({TrainerWorkloadOutbox.class, TrainerWorkloadOutboxRelay.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class TrainerWorkloadOutboxRelayLockTest {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine");
+
+    @Autowired
+    private TrainerWorkloadOutbox outbox;
+
+    @Autowired
+    private TrainerWorkloadOutboxRelay relay;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @MockBean
+    private JmsProducerService jmsProducerService;
+
+    @MockBean
+    private MetricsService metricsService;
+
+    @Test
+    public void relay_WaitsForTheRelayHoldingTheLock() throws Exception {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.executeWithoutResult(status -> outbox.enqueue(new TrainerWorkloadRequestDto(
+                "john.doe", "John", "Doe", true, LocalDateTime.parse("2024-05-01T10:00:00"), 60, "ADD")));
+
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicBoolean firstLocked = new AtomicBoolean();
+        Thread firstRelay = new Thread(() -> transactionTemplate.executeWithoutResult(status -> {
+            firstLocked.set(outbox.tryLockRelay());
+            locked.countDown();
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+        firstRelay.start();
+        assertTrue(locked.await(10, TimeUnit.SECONDS));
+
+        try {
+            assertTrue(firstLocked.get());
+            assertEquals(0, relay.relay());
+            verify(jmsProducerService, never()).sendTrainingUpdates(any());
+        } finally {
+            release.countDown();
+            firstRelay.join(10_000);
+        }
+
+        assertEquals(1, relay.relay());
+        verify(jmsProducerService).sendTrainingUpdates(any());
+    }
+}
@@ -0,0 +1,251 @@
+package org.example.gym.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import org.example.gym.dto.request.TrainerWorkloadRequestDto;
+import org.example.gym.service.TrainerWorkloadOutbox.OutboxEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jms.UncategorizedJmsException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+public class TrainerWorkloadOutboxRelayTest {
+
+    @Mock
+    private TrainerWorkloadOutbox outbox;
+
+    @Mock
+    private JmsProducerService jmsProducerService;
+
+    @Mock
+    private MetricsService metricsService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private TrainerWorkloadOutboxRelay relay;
+
+    private final TrainerWorkloadRequestDto first = event("first");
+    private final TrainerWorkloadRequestDto second = event("second");
+
+    @BeforeEach
+    public void setUp() {
+        relay = new TrainerWorkloadOutboxRelay(outbox, jmsProducerService, metricsService, transactionManager,
+                2, 3, 1000L, 4000L);
+    }
+
+    @Test
+    public void testRelay_DrainsBatchesUntilPartialBatch() {
+        when(outbox.tryLockRelay()).thenReturn(true);
+        when(outbox.lockBatch(2)).thenReturn(
+                List.of(event(1L, "first", 0), event(2L, "second", 0)),
+                List.of(event(3L, "first", 0)));
+        when(outbox.decode("first")).thenReturn(first);
+        when(outbox.decode("second")).thenReturn(second);
+
+        int relayed = relay.relay();
+
+        assertEquals(3, relayed);
+        verify(jmsProducerService).sendTrainingUpdates(List.of(first, second));
+        verify(jmsProducerService).sendTrainingUpdates(List.of(first));
+        verify(jmsProducerService, never()).sendTrainingUpdate(any());
+        verify(metricsService).recordWorkloadBatch(eq(2), anyLong());
+        verify(outbox).delete(List.of(1L, 2L));
+        verify(outbox).delete(List.of(3L));
+        verify(transactionManager, times(2)).commit(any());
+    }
+
+    @Test
+    public void testRelay_FailedBatchFallsBackToSingleSendsAndStopsAtFailure() {
+        when(outbox.tryLockRelay()).thenReturn(true);
+        when(outbox.lockBatch(2)).thenReturn(List.of(event(1L, "first", 0), event(2L, "second", 0)));
+        when(outbox.decode("first")).thenReturn(first);
+        when(outbox.decode("second")).thenReturn(second);
+        doThrow(new UncategorizedJmsException("rejected")).when(jmsProducerService)
+                .sendTrainingUpdates(List.of(first, second));
+        doThrow(new UncategorizedJmsException("broker down")).when(jmsProducerService).sendTrainingUpdate(second);
+
+        int relayed = relay.relay();
+
+        assertEquals(1, relayed);
+        verify(jmsProducerService).sendTrainingUpdate(first);
+        verify(outbox).delete(List.of(1L));
+        verify(outbox).scheduleRetry(eq(2L), anyLong());
+        verify(metricsService).recordWorkloadRetry();
+        verify(outbox, times(1)).lockBatch(2);
+    }
+
+    @Test
+    public void testRelay_DeadLettersEventAfterMaxAttempts() {
+        when(outbox.tryLockRelay()).thenReturn(true);
+        when(outbox.lockBatch(2)).thenReturn(List.of(event(1L, "first", 2)));
+        when(outbox.decode("first")).thenReturn(first);
+        UncategorizedJmsException failure = new UncategorizedJmsException("broker down");
+        doThrow(failure).when(jmsProducerService).sendTrainingUpdates(List.of(first));
+        doThrow(failure).when(jmsProducerService).sendTrainingUpdate(first);
+
+        int relayed = relay.relay();
+
+        assertEquals(1, relayed);
+        verify(jmsProducerService).sendToDeadLetterQueue(first, failure, 3);
+        verify(metricsService).recordWorkloadDeadLettered();
+        verify(outbox).delete(List.of(1L));
+        verify(outbox, never()).scheduleRetry(any(), anyLong());
+    }
+
+    @Test
+    public void testRelay_DeadLettersEventThatCannotBeEncodedOnFirstAttempt() {
+        when(outbox.tryLockRelay()).thenReturn(true);
+        when(outbox.lockBatch(2)).thenReturn(List.of(event(1L, "first", 0)));
+        when(outbox.decode("first")).thenReturn(first);
+        IllegalArgumentException failure = new IllegalArgumentException("Unsupported action type");
+        doThrow(failure).when(jmsProducerService).sendTrainingUpdates(List.of(first));
+        doThrow(failure).when(jmsProducerService).sendTrainingUpdate(first);
+
+        int relayed = relay.relay();
+
+        assertEquals(1, relayed);
+        verify(jmsProducerService).sendToDeadLetterQueue(first, failure, 1);
+        verify(metricsService).recordWorkloadDeadLettered();
+        verify(outbox).delete(List.of(1L));
+        verify(outbox, never()).scheduleRetry(any(), anyLong());
+    }
+
+    @Test
+    public void testRelay_KeepsEventWhenDeadLetterQueueFails() {
+        when(outbox.tryLockRelay()).thenReturn(true);
+        when(outbox.lockBatch(2)).thenReturn(List.of(event(1L, "first", 2)));
+        when(outbox.decode("first")).thenReturn(first);
+        UncategorizedJmsException failure = new UncategorizedJmsException("broker down");
+        doThrow(failure).when(jmsProducerService).sendTrainingUpdates(List.of(first));
+        doThrow(failure).when(jmsProducerService).sendTrainingUpdate(first);
+        doThrow(failure).when(jmsProducerService).sendToDeadLetterQueue(first, failure, 3);
+
+        int relayed = relay.relay();
+
+        assertEquals(0, relayed);
+        verify(outbox).scheduleRetry(eq(1L), anyLong());
+        verify(outbox).delete(List.of());
+        verify(metricsService, never()).recordWorkloadDeadLettered();
+    }
+
+    @Test
+    public void testRelay_RecordsLatencyOfRetriedEvent() {
+        when(outbox.tryLockRelay()).thenReturn(true);
+        when(outbox.lockBatch(2)).thenReturn(List.of(event(1L, "first", 1)));
+        when(outbox.decode("first")).thenReturn(first);
+
+        relay.relay();
+
+        verify(metricsService).recordWorkloadRetryDelivered(any());
+        verify(outbox).delete(List.of(1L));
+    }
+
+    @Test
+    public void testBackoffMillis_GrowsExponentiallyUpToMaxDelay() {
+        for (int i = 0; i < 20; i++) {
+            long initial = relay.backoffMillis(1);
+            long doubled = relay.backoffMillis(2);
+            long capped = relay.backoffMillis(10);
+            assertTrue(initial >= 500 && initial <= 1000, "first retry: " + initial);
+            assertTrue(doubled >= 1000 && doubled <= 2000, "second retry: " + doubled);
+            assertTrue(capped >= 2000 && capped <= 4000, "capped retry: " + capped);
+        }
+    }
+
+    @Test
+    public void testRelay_ParksUnreadableEvent() {
+        when(outbox.tryLockRelay()).thenReturn(true);
+        when(outbox.lockBatch(2)).thenReturn(List.of(event(1L, "broken", 0), event(2L, "first", 0)));
+        when(outbox.decode("broken")).thenThrow(new IllegalStateException("unreadable"));
+        when(outbox.decode("first")).thenReturn(first);
+
+        int relayed = relay.relay();
+
+        assertEquals(2, relayed);
+        verify(outbox).park(List.of(1L));
+        verify(metricsService).recordWorkloadParked(1);
+        verify(jmsProducerService).sendTrainingUpdates(List.of(first));
+        verify(outbox).delete(List.of(2L));
+    }
+
+    @Test
+    public void testRelay_ParksEventWithoutTrainer() {
+        when(outbox.tryLockRelay()).thenReturn(true);
+        when(outbox.lockBatch(2)).thenReturn(List.of(
+                new OutboxEvent(1L, null, "first", 0, LocalDateTime.now()), event(2L, "second", 0)));
+        when(outbox.decode("second")).thenReturn(second);
+
+        int relayed = relay.relay();
+
+        assertEquals(2, relayed);
+        verify(outbox, never()).decode("first");
+        verify(outbox).park(List.of(1L));
+        verify(metricsService).recordWorkloadParked(1);
+        verify(jmsProducerService).sendTrainingUpdates(List.of(second));
+        verify(outbox).delete(List.of(2L));
+    }
+
+    @Test
+    public void testRelay_FullBatchOfUnreadableEventsDoesNotBlockLaterEvents() {
+        when(outbox.tryLockRelay()).thenReturn(true);
+        when(outbox.lockBatch(2)).thenReturn(
+                List.of(event(1L, "broken", 0), event(2L, "broken", 0)),
+                List.of(event(3L, "first", 0)));
+        when(outbox.decode("broken")).thenThrow(new IllegalStateException("unreadable"));
+        when(outbox.decode("first")).thenReturn(first);
+
+        int relayed = relay.relay();
+
+        assertEquals(3, relayed);
+        verify(outbox).park(List.of(1L, 2L));
+        verify(jmsProducerService).sendTrainingUpdates(List.of(first));
+        verify(outbox).delete(List.of(3L));
+        verify(transactionManager, times(2)).commit(any());
+    }
+
+    @Test
+    public void testRelay_SkipsPollWhileAnotherRelayHoldsTheLock() {
+        when(outbox.tryLockRelay()).thenReturn(false);
+
+        assertEquals(0, relay.relay());
+        verify(outbox, never()).lockBatch(anyInt());
+        verify(jmsProducerService, never()).sendTrainingUpdates(any());
+    }
+
+    @Test
+    public void testRelay_EmptyOutbox() {
+        when(outbox.tryLockRelay()).thenReturn(true);
+        when(outbox.lockBatch(2)).thenReturn(List.of());
+
+        assertEquals(0, relay.relay());
+        verify(jmsProducerService, never()).sendTrainingUpdates(any());
+        verify(jmsProducerService, never()).sendTrainingUpdate(any());
+    }
+
+    private static OutboxEvent event(Long id, String payload, int attempts) {
+        return new OutboxEvent(id, "john.doe", payload, attempts, LocalDateTime.now().minusSeconds(5));
+    }
+
+    private static TrainerWorkloadRequestDto event(String username) {
+        TrainerWorkloadRequestDto event = new TrainerWorkloadRequestDto();
+        event.setTrainerUsername(username);
+        return event;
+    }
+}
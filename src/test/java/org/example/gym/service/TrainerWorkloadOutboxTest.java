@@ -0,0 +1,134 @@
+package org.example.gym.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.example.gym.dto.request.TrainerWorkloadRequestDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+@ExtendWith(MockitoExtension.class)
+public class TrainerWorkloadOutboxTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private TrainerWorkloadOutbox outbox;
+
+    @BeforeEach
+    public void setUp() {
+        outbox = new TrainerWorkloadOutbox(jdbcTemplate, new ObjectMapper().registerModule(new JavaTimeModule()));
+    }
+
+    @Test
+    public void testEnqueue_StoresEventAsJson() {
+        TrainerWorkloadRequestDto event = new TrainerWorkloadRequestDto("john.doe", "John", "Doe", true,
+                LocalDateTime.parse("2024-05-01T10:00:00"), 60, "ADD");
+        when(jdbcTemplate.queryForObject(contains("trainer_workload_sequence"), eq(Long.class), eq("john.doe")))
+                .thenReturn(4L);
+
+        outbox.enqueue(event);
+
+        ArgumentCaptor<String> payload = ArgumentCaptor.forClass(String.class);
+        verify(jdbcTemplate).update(contains("INSERT INTO trainer_workload_outbox"), eq("john.doe"),
+                payload.capture());
+        TrainerWorkloadRequestDto stored = outbox.decode(payload.getValue());
+        assertEquals(event, stored);
+        assertNotNull(stored.getEventId());
+        assertEquals(4L, stored.getSequence());
+    }
+
+    @Test
+    public void testEnqueue_AssignsNewEventIdToEachEvent() {
+        TrainerWorkloadRequestDto first = new TrainerWorkloadRequestDto();
+        first.setTrainerUsername("john.doe");
+        TrainerWorkloadRequestDto second = new TrainerWorkloadRequestDto();
+        second.setTrainerUsername("john.doe");
+        when(jdbcTemplate.queryForObject(contains("trainer_workload_sequence"), eq(Long.class), eq("john.doe")))
+                .thenReturn(1L, 2L);
+
+        outbox.enqueue(first);
+        outbox.enqueue(second);
+
+        assertNotEquals(first.getEventId(), second.getEventId());
+        assertEquals(1L, first.getSequence());
+        assertEquals(2L, second.getSequence());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testDelete_DeletesIdsAsOneBatch() {
+        outbox.delete(List.of(1L, 2L));
+
+        ArgumentCaptor<List<Object[]>> ids = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(contains("DELETE FROM trainer_workload_outbox"), ids.capture());
+        assertEquals(2, ids.getValue().size());
+        assertEquals(2L, ids.getValue().get(1)[0]);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testPark_MovesRowsToParkedTable() {
+        outbox.park(List.of(7L));
+
+        ArgumentCaptor<List<Object[]>> ids = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(contains("INSERT INTO trainer_workload_outbox_parked"), ids.capture());
+        assertEquals(7L, ids.getValue().get(0)[0]);
+    }
+
+    @Test
+    public void testDelete_NothingToDelete() {
+        outbox.delete(List.of());
+
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+    }
+
+    @Test
+    public void testDecode_UnreadablePayload() {
+        assertThrows(IllegalStateException.class, () -> outbox.decode("not json"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testLockBatch_SkipsLockedRows() {
+        outbox.lockBatch(10);
+
+        verify(jdbcTemplate).query(contains("FOR UPDATE OF o SKIP LOCKED"), any(RowMapper.class), eq(10));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testLockBatch_HoldsBackOnlyLaterEventsOfSameTrainer() {
+        outbox.lockBatch(10);
+
+        verify(jdbcTemplate).query(contains("w.trainer_username = o.trainer_username AND w.id < o.id"),
+                any(RowMapper.class), eq(10));
+    }
+
+    @Test
+    public void testScheduleRetry_CountsAttemptAndDelaysEvent() {
+        outbox.scheduleRetry(7L, 2000L);
+
+        verify(jdbcTemplate).update(contains("attempts = attempts + 1"), eq(2000L), eq(7L));
+    }
+}
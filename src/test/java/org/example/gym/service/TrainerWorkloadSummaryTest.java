@@ -0,0 +1,93 @@
+package org.example.gym.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.ResultSet;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import org.example.gym.service.TrainerWorkloadSummary.MonthlyWorkload;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+
+@ExtendWith(MockitoExtension.class)
+public class TrainerWorkloadSummaryTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private ResultSet resultSet;
+
+    private TrainerWorkloadSummary summary;
+
+    @BeforeEach
+    public void setUp() {
+        summary = new TrainerWorkloadSummary(jdbcTemplate);
+    }
+
+    @Test
+    public void testAddTraining_UpsertsMonthOfTraining() {
+        summary.addTraining(1L, LocalDateTime.parse("2024-05-31T23:30:00"), 60);
+
+        verify(jdbcTemplate).update(contains("ON CONFLICT (trainer_id, year, month)"), eq(1L), eq(2024), eq(5),
+                eq(60L), eq(1));
+    }
+
+    @Test
+    public void testAddTrainings_UpsertsTotalsOfMonth() {
+        summary.addTrainings(1L, YearMonth.of(2024, 5), 600, 9);
+
+        verify(jdbcTemplate).update(contains("ON CONFLICT (trainer_id, year, month)"), eq(1L), eq(2024), eq(5),
+                eq(600L), eq(9));
+    }
+
+    @Test
+    public void testRemoveTraining_SubtractsFromMonthOfTraining() {
+        summary.removeTraining(1L, LocalDateTime.parse("2024-06-01T00:00:00"), 45);
+
+        verify(jdbcTemplate).update(contains("UPDATE trainer_monthly_workload"), eq(45), eq(1L), eq(2024), eq(6));
+    }
+
+    @Test
+    public void testRemoveTraineeTrainings_SubtractsTrainingsGroupedByTrainerAndMonth() {
+        summary.removeTraineeTrainings(3L);
+
+        verify(jdbcTemplate).update(contains("FROM training WHERE trainee_id = ? GROUP BY trainer_id"), eq(3L));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testGetMonthlyWorkload_ReadsRowOfMonth() throws Exception {
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getLong("total_duration")).thenReturn(150L);
+        when(resultSet.getInt("training_count")).thenReturn(3);
+
+        when(jdbcTemplate.query(contains("FROM trainer_monthly_workload"), any(ResultSetExtractor.class), eq(1L),
+                eq(2024), eq(5)))
+                .thenAnswer(invocation -> ((ResultSetExtractor<MonthlyWorkload>) invocation.getArgument(1))
+                        .extractData(resultSet));
+
+        assertEquals(new MonthlyWorkload(150, 3), summary.getMonthlyWorkload(1L, YearMonth.of(2024, 5)));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testGetMonthlyWorkload_ZeroWithoutRow() throws Exception {
+        when(resultSet.next()).thenReturn(false);
+        when(jdbcTemplate.query(any(String.class), any(ResultSetExtractor.class), eq(1L), eq(2024), eq(5)))
+                .thenAnswer(invocation -> ((ResultSetExtractor<MonthlyWorkload>) invocation.getArgument(1))
+                        .extractData(resultSet));
+
+        assertEquals(new MonthlyWorkload(0, 0), summary.getMonthlyWorkload(1L, YearMonth.of(2024, 5)));
+    }
+}
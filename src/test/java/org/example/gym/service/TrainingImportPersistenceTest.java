@@ -0,0 +1,81 @@
+package org.example.gym.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import org.example.gym.mapper.TrainingMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * Imports a training of a past month into PostgreSQL, migrated by Flyway, and checks that the stored training
+ * keeps its date and that the workload summary of that month is updated. The test is skipped when Docker is
+ * not available.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Import({TrainingImportService.class, TrainingMapper.class, TrainerWorkloadOutbox.class,
+        TrainerWorkloadSummary.class})
+public class TrainingImportPersistenceTest {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine");
+
+    @Autowired
+    private TrainingImportService importService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long trainerId;
+
+    @BeforeEach
+    public void setUp() {
+        Long traineeUserId = insertUser("anna.kim", "ROLE_TRAINEE");
+        jdbcTemplate.update("INSERT INTO trainee (user_id, date_of_birth) VALUES (?, ?)", traineeUserId,
+                LocalDateTime.parse("1990-01-01T00:00:00"));
+        Long trainerUserId = insertUser("bob.lee", "ROLE_TRAINER");
+        trainerId = jdbcTemplate.queryForObject("INSERT INTO trainer (user_id, specialization_id) "
+                + "VALUES (?, (SELECT MIN(id) FROM training_types)) RETURNING id", Long.class, trainerUserId);
+    }
+
+    @Test
+    public void importJson_KeepsDateOfPastTrainingAndUpdatesItsMonth() {
+        int imported = importService.importJson(new ByteArrayInputStream(("[{\"traineeUsername\":\"anna.kim\","
+                + "\"trainerUsername\":\"bob.lee\",\"trainingName\":\"Morning\","
+                + "\"trainingDate\":\"2024-03-15T10:00:00\",\"trainingDuration\":60}]")
+                .getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals(1, imported);
+        assertEquals(List.of(LocalDateTime.parse("2024-03-15T10:00:00")), jdbcTemplate.queryForList(
+                "SELECT training_date FROM training WHERE trainer_id = ?", LocalDateTime.class, trainerId));
+        assertEquals(List.of(Map.of("total_duration", 60L, "training_count", 1L)), jdbcTemplate.queryForList(
+                "SELECT total_duration::bigint AS total_duration, training_count::bigint AS training_count "
+                        + "FROM trainer_monthly_workload WHERE trainer_id = ? AND year = 2024 AND month = 3",
+                trainerId));
+    }
+
+    private Long insertUser(String username, String role) {
+        return jdbcTemplate.queryForObject("INSERT INTO users (first_name, last_name, username, password, "
+                + "is_active, role) VALUES ('First', 'Last', ?, 'hash', TRUE, ?) RETURNING id", Long.class,
+                username, role);
+    }
+}
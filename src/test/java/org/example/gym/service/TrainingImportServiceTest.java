@@ -0,0 +1,199 @@
+package org.example.gym.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import jakarta.persistence.EntityManager;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import org.example.gym.dto.request.TrainerWorkloadRequestDto;
+import org.example.gym.entity.TraineeEntity;
+import org.example.gym.entity.TrainerEntity;
+import org.example.gym.entity.UserEntity;
+import org.example.gym.exeption.TrainerNotFoundException;
+import org.example.gym.exeption.ValidationException;
+import org.example.gym.mapper.TrainingMapper;
+import org.example.gym.repository.TraineeRepository;
+import org.example.gym.repository.TrainerRepository;
+import org.example.gym.repository.TrainingRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class TrainingImportServiceTest {
+
+    @Mock
+    private TrainingRepository trainingRepository;
+
+    @Mock
+    private TraineeRepository traineeRepository;
+
+    @Mock
+    private TrainerRepository trainerRepository;
+
+    @Mock
+    private TrainerWorkloadOutbox trainerWorkloadOutbox;
+
+    @Mock
+    private TrainerWorkloadSummary trainerWorkloadSummary;
+
+    @Mock
+    private EntityManager entityManager;
+
+    private TrainingImportService importService;
+
+    @BeforeEach
+    public void setUp() {
+        importService = new TrainingImportService(trainingRepository, traineeRepository, trainerRepository,
+                new TrainingMapper(), trainerWorkloadOutbox, trainerWorkloadSummary, entityManager,
+                new ObjectMapper().registerModule(new JavaTimeModule()), 2);
+    }
+
+    @Test
+    public void testImportJson_StoresChunksAndAggregatesWorkloadPerTrainerAndMonth() {
+        mockPeople();
+        InputStream json = stream("["
+                + row("bob.lee", "2024-06-03T09:00:00", 45) + ","
+                + row("anna.kim", "2024-05-01T10:00:00", 60) + ","
+                + row("anna.kim", "2024-05-20T18:00:00", 30) + "]");
+
+        int imported = importService.importJson(json);
+
+        assertEquals(3, imported);
+        verify(traineeRepository, times(2)).findByUser_UsernameIn(any());
+        verify(trainerRepository, times(2)).findByUser_UsernameIn(any());
+        verify(trainingRepository, times(2)).saveAll(anyList());
+        verify(trainingRepository, times(2)).flush();
+        verify(entityManager, times(2)).clear();
+        verify(trainerWorkloadSummary).addTrainings(1L, YearMonth.of(2024, 5), 90, 2);
+        verify(trainerWorkloadSummary).addTrainings(2L, YearMonth.of(2024, 6), 45, 1);
+
+        ArgumentCaptor<TrainerWorkloadRequestDto> events = ArgumentCaptor.forClass(TrainerWorkloadRequestDto.class);
+        verify(trainerWorkloadOutbox, times(2)).enqueue(events.capture());
+        assertEquals(new TrainerWorkloadRequestDto("anna.kim", "Anna", "Kim", true,
+                LocalDateTime.parse("2024-05-01T00:00:00"), 90, "ADD"), events.getAllValues().get(0));
+        assertEquals(new TrainerWorkloadRequestDto("bob.lee", "Bob", "Lee", true,
+                LocalDateTime.parse("2024-06-01T00:00:00"), 45, "ADD"), events.getAllValues().get(1));
+    }
+
+    @Test
+    public void testImportJson_UpdatesAllSummaryRowsBeforeQueueingEvents() {
+        mockPeople();
+        InputStream json = stream("["
+                + row("anna.kim", "2024-05-01T10:00:00", 60) + ","
+                + row("anna.kim", "2024-06-01T10:00:00", 30) + "]");
+
+        importService.importJson(json);
+
+        InOrder order = inOrder(trainerWorkloadSummary, trainerWorkloadOutbox);
+        order.verify(trainerWorkloadSummary).addTrainings(1L, YearMonth.of(2024, 5), 60, 1);
+        order.verify(trainerWorkloadSummary).addTrainings(1L, YearMonth.of(2024, 6), 30, 1);
+        order.verify(trainerWorkloadOutbox, times(2)).enqueue(any());
+    }
+
+    @Test
+    public void testImportCsv_ReadsRowsByHeader() {
+        mockPeople();
+        InputStream csv = stream("trainingName,trainerUsername,traineeUsername,trainingDate,trainingDuration\n"
+                + "Morning run,anna.kim,john.doe,2024-05-01T10:00:00,60\n");
+
+        int imported = importService.importCsv(csv);
+
+        assertEquals(1, imported);
+        verify(trainerWorkloadSummary).addTrainings(1L, YearMonth.of(2024, 5), 60, 1);
+    }
+
+    @Test
+    public void testImportJson_UnknownTrainerRejectsImport() {
+        mockPeople();
+        InputStream json = stream("[" + row("nobody", "2024-05-01T10:00:00", 60) + "]");
+
+        assertThrows(TrainerNotFoundException.class, () -> importService.importJson(json));
+
+        verify(trainingRepository, never()).saveAll(anyList());
+        verify(trainerWorkloadOutbox, never()).enqueue(any());
+    }
+
+    @Test
+    public void testImportJson_IncompleteRowRejectsImport() {
+        InputStream json = stream("[{\"traineeUsername\":\"john.doe\",\"trainerUsername\":\"anna.kim\"}]");
+
+        assertThrows(ValidationException.class, () -> importService.importJson(json));
+
+        verify(trainingRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    public void testImportJson_RowWithoutDateRejectsImport() {
+        InputStream json = stream("[" + row("anna.kim", "2024-05-01T10:00:00", 60) + ","
+                + "{\"traineeUsername\":\"john.doe\",\"trainerUsername\":\"anna.kim\","
+                + "\"trainingName\":\"Workout\",\"trainingDuration\":60}]");
+
+        ValidationException exception = assertThrows(ValidationException.class,
+                () -> importService.importJson(json));
+
+        assertTrue(exception.getMessage().startsWith("Row 2 "), exception.getMessage());
+        verify(trainingRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    public void testImportJson_MalformedRowRejectsImport() {
+        InputStream json = stream("[{\"traineeUsername\":\"john.doe\",\"trainingDuration\":\"long\"}]");
+
+        assertThrows(ValidationException.class, () -> importService.importJson(json));
+    }
+
+    private void mockPeople() {
+        TraineeEntity trainee = new TraineeEntity();
+        trainee.setUser(user("john.doe", "John", "Doe"));
+        when(traineeRepository.findByUser_UsernameIn(any())).thenReturn(List.of(trainee));
+        when(trainerRepository.findByUser_UsernameIn(any()))
+                .thenReturn(List.of(trainer(1L, user("anna.kim", "Anna", "Kim")),
+                        trainer(2L, user("bob.lee", "Bob", "Lee"))));
+    }
+
+    private static TrainerEntity trainer(Long id, UserEntity user) {
+        TrainerEntity trainer = new TrainerEntity();
+        trainer.setId(id);
+        trainer.setUser(user);
+        return trainer;
+    }
+
+    private static UserEntity user(String username, String firstName, String lastName) {
+        UserEntity user = new UserEntity();
+        user.setUsername(username);
+        user.setFirstName(firstName);
+        user.setLastName(lastName);
+        user.setIsActive(true);
+        return user;
+    }
+
+    private static String row(String trainerUsername, String trainingDate, int trainingDuration) {
+        return "{\"traineeUsername\":\"john.doe\",\"trainerUsername\":\"" + trainerUsername + "\","
+                + "\"trainingName\":\"Workout\",\"trainingDate\":\"" + trainingDate + "\","
+                + "\"trainingDuration\":" + trainingDuration + "}";
+    }
+
+    private static InputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
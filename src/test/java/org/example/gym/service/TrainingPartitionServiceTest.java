@@ -0,0 +1,42 @@
+package org.example.gym.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@ExtendWith(MockitoExtension.class)
+public class TrainingPartitionServiceTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private TrainingPartitionService trainingPartitionService;
+
+    @BeforeEach
+    public void setUp() {
+        trainingPartitionService = new TrainingPartitionService(jdbcTemplate, 3);
+    }
+
+    @Test
+    public void testCreateFuturePartitions_FromCurrentMonthToMonthsAhead() {
+        LocalDate firstMonth = LocalDate.now().withDayOfMonth(1);
+        when(jdbcTemplate.queryForObject(contains("create_training_partitions"), eq(Integer.class),
+                eq(firstMonth), eq(firstMonth.plusMonths(3)))).thenReturn(2);
+
+        int created = trainingPartitionService.createFuturePartitions();
+
+        assertEquals(2, created);
+        verify(jdbcTemplate).queryForObject(contains("create_training_partitions"), eq(Integer.class),
+                eq(firstMonth), eq(firstMonth.plusMonths(3)));
+    }
+}
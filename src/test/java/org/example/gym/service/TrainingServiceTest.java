@@ -2,14 +2,18 @@ package org.example.gym.service;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.time.LocalDateTime;
 import java.util.Collections;
-import java.util.List;
+import org.example.gym.dto.projection.TrainingView;
 import org.example.gym.dto.request.AddTrainingRequestDto;
 import org.example.gym.dto.request.TraineeTrainingsRequestDto;
 import org.example.gym.dto.request.TrainerTrainingRequestDto;
@@ -18,9 +22,12 @@ import org.example.gym.entity.TrainerEntity;
 import org.example.gym.entity.TrainingEntity;
 import org.example.gym.entity.TrainingTypeEntity;
 import org.example.gym.entity.UserEntity;
+import org.example.gym.exeption.TrainerNotFoundException;
 import org.example.gym.exeption.TrainingNotFoundException;
 import org.example.gym.mapper.TrainingMapper;
 import org.example.gym.repository.TrainingRepository;
+import org.example.gym.utils.Pagination;
+import org.example.gym.utils.TrainingPagination;
 import org.example.gym.utils.ValidationUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -28,6 +35,9 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 
 @ExtendWith(MockitoExtension.class)
 public class TrainingServiceTest {
@@ -36,10 +46,12 @@ public class TrainingServiceTest {
     @Mock private TrainerService trainerService;
     @Mock private TrainingMapper trainingMapper;
     @Mock private ValidationUtils validationUtils;
-    @Mock private JmsProducerService jmsProducerService;
+    @Mock private TrainerWorkloadOutbox trainerWorkloadOutbox;
+    @Mock private TrainerWorkloadSummary trainerWorkloadSummary;
     @InjectMocks private TrainingService trainingService;
 
     private TrainingEntity trainingEntity;
+    private TrainingView trainingView;
     private TraineeEntity traineeEntity;
     private TrainerEntity trainerEntity;
     private UserEntity trainerUser;
@@ -73,6 +85,10 @@ public class TrainingServiceTest {
         trainingEntity.setTrainee(traineeEntity);
         trainingEntity.setTrainer(trainerEntity);
         trainingEntity.setTrainingType(trainingType);
+        trainingEntity.setTrainingDate(LocalDateTime.parse("2024-05-01T10:00:00"));
+        trainingEntity.setTrainingDuration(60);
+
+        trainingView = new TrainingView(1L, "Morning", LocalDateTime.now(), 1L, "Yoga", 60, "trainerUsername");
     }
 
     @Test
@@ -89,7 +105,8 @@ public class TrainingServiceTest {
         trainingService.addTraining(requestDto);
 
         verify(trainingRepository, times(1)).save(trainingEntity);
-        verify(jmsProducerService, times(1)).sendTrainingUpdate(any());
+        verify(trainerWorkloadSummary).addTraining(1L, LocalDateTime.parse("2024-05-01T10:00:00"), 60);
+        verify(trainerWorkloadOutbox, times(1)).enqueue(any());
     }
 
     @Test
@@ -102,7 +119,8 @@ public class TrainingServiceTest {
         trainingService.deleteTraining(trainingId);
 
         verify(trainingRepository, times(1)).delete(trainingEntity);
-        verify(jmsProducerService, times(1)).sendTrainingUpdate(any());
+        verify(trainerWorkloadSummary).removeTraining(1L, LocalDateTime.parse("2024-05-01T10:00:00"), 60);
+        verify(trainerWorkloadOutbox, times(1)).enqueue(any());
     }
 
     @Test
@@ -117,12 +135,12 @@ public class TrainingServiceTest {
         TraineeTrainingsRequestDto requestDto = new TraineeTrainingsRequestDto();
         requestDto.setTraineeName("traineeUsername");
 
-        when(trainingRepository.findTrainingsForTrainee(any(), any(), any(), any(), any()))
-                .thenReturn(Collections.singletonList(trainingEntity));
+        when(trainingRepository.findTrainingsForTrainee(any(), any(), any(), any(), any(), any(), any(), any()))
+                .thenReturn(new SliceImpl<>(Collections.singletonList(trainingView)));
 
-        List<TrainingEntity> result = trainingService.getTrainingsForTrainee(requestDto);
+        Slice<TrainingView> result = trainingService.getTrainingsForTrainee(requestDto);
 
-        assertEquals(1, result.size());
+        assertEquals(1, result.getNumberOfElements());
     }
 
     @Test
@@ -130,8 +148,8 @@ public class TrainingServiceTest {
         TraineeTrainingsRequestDto requestDto = new TraineeTrainingsRequestDto();
         requestDto.setTraineeName("traineeUsername");
 
-        when(trainingRepository.findTrainingsForTrainee(any(), any(), any(), any(), any()))
-                .thenReturn(Collections.emptyList());
+        when(trainingRepository.findTrainingsForTrainee(any(), any(), any(), any(), any(), any(), any(), any()))
+                .thenReturn(new SliceImpl<>(Collections.emptyList()));
 
         assertThrows(TrainingNotFoundException.class, () -> trainingService.getTrainingsForTrainee(requestDto));
     }
@@ -141,13 +159,13 @@ public class TrainingServiceTest {
         TrainerTrainingRequestDto requestDto = new TrainerTrainingRequestDto();
         requestDto.setTrainerUsername("trainerUsername");
 
-        when(trainerService.getTrainer(any())).thenReturn(trainerEntity);
-        when(trainingRepository.findTrainingsForTrainer(any(), any(), any(), any()))
-                .thenReturn(Collections.singletonList(trainingEntity));
+        when(trainingRepository.findTrainingsForTrainer(eq("trainerUsername"), any(), any(), any(), any(), any(),
+                any())).thenReturn(new SliceImpl<>(Collections.singletonList(trainingView)));
 
-        List<TrainingEntity> result = trainingService.getTrainingsForTrainer(requestDto);
+        Slice<TrainingView> result = trainingService.getTrainingsForTrainer(requestDto);
 
-        assertEquals(1, result.size());
+        assertEquals(1, result.getNumberOfElements());
+        verify(trainerService, never()).getTrainer(any());
     }
 
     @Test
@@ -156,9 +174,40 @@ public class TrainingServiceTest {
         requestDto.setTrainerUsername("trainerUsername");
 
         when(trainerService.getTrainer(any())).thenReturn(trainerEntity);
-        when(trainingRepository.findTrainingsForTrainer(any(), any(), any(), any()))
-                .thenReturn(Collections.emptyList());
+        when(trainingRepository.findTrainingsForTrainer(any(), any(), any(), any(), any(), any(), any()))
+                .thenReturn(new SliceImpl<>(Collections.emptyList()));
 
         assertThrows(TrainingNotFoundException.class, () -> trainingService.getTrainingsForTrainer(requestDto));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testGetTrainingsForTrainer_UnknownTrainer() {
+        TrainerTrainingRequestDto requestDto = new TrainerTrainingRequestDto();
+        requestDto.setTrainerUsername("unknown");
+
+        when(trainingRepository.findTrainingsForTrainer(any(), any(), any(), any(), any(), any(), any()))
+                .thenReturn(new SliceImpl<>(Collections.emptyList()));
+        when(trainerService.getTrainer("unknown")).thenThrow(new TrainerNotFoundException("Trainer not found"));
+
+        assertThrows(TrainerNotFoundException.class, () -> trainingService.getTrainingsForTrainer(requestDto));
+    }
+
+    @Test
+    public void testGetTrainingsForTrainee_ContinuesAfterCursor() {
+        LocalDateTime lastDate = LocalDateTime.parse("2024-05-01T10:00:00");
+        TraineeTrainingsRequestDto requestDto = new TraineeTrainingsRequestDto();
+        requestDto.setTraineeName("traineeUsername");
+        requestDto.setCursor(TrainingPagination.encodeCursor(lastDate, 42L));
+        requestDto.setSize(500);
+
+        when(trainingRepository.findTrainingsForTrainee(any(), any(), any(), any(), any(), any(), any(), any()))
+                .thenReturn(new SliceImpl<>(Collections.emptyList()));
+
+        Slice<TrainingView> result = trainingService.getTrainingsForTrainee(requestDto);
+
+        assertTrue(result.isEmpty());
+        verify(trainingRepository).findTrainingsForTrainee(eq("traineeUsername"),
+                eq(TrainingPagination.EARLIEST_TRAINING_DATE), eq(lastDate), any(), any(),
+                eq(lastDate), eq(42L), eq(PageRequest.ofSize(Pagination.MAX_PAGE_SIZE)));
+    }
+}
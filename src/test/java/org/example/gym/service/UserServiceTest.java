@@ -1,5 +1,6 @@
 package org.example.gym.service;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.never;
@@ -18,6 +19,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.userdetails.UserCache;
 
 @ExtendWith(MockitoExtension.class)
 public class UserServiceTest {
@@ -27,6 +29,9 @@ public class UserServiceTest {
     @Mock
     private MetricsService metricsService;
 
+    @Mock
+    private UserCache userCache;
+
     @InjectMocks
     private UserService userService;
 
@@ -53,6 +58,27 @@ public class UserServiceTest {
         verify(userRepository).findByUsername("testUser");
     }
 
+    @Test
+    public void testUpdatePasswordHash_StoresEncodedPasswordAsIs() {
+        when(userRepository.findByUsername("testUser")).thenReturn(Optional.of(mockUser));
+
+        userService.updatePasswordHash("testUser", "$2a$12$upgradedHash");
+
+        assertEquals("$2a$12$upgradedHash", mockUser.getPassword());
+        verify(userRepository).save(mockUser);
+        verify(userCache).removeUserFromCache("testUser");
+    }
+
+    @Test
+    public void testSave_EvictsCachedUserDetails() {
+        when(userRepository.save(mockUser)).thenReturn(mockUser);
+
+        UserEntity saved = userService.save(mockUser);
+
+        assertEquals(mockUser, saved);
+        verify(userCache).removeUserFromCache("testUser");
+    }
+
     @Test
     public void testFindByUsername_UserNotFound() {
         when(userRepository.findByUsername("nonExistentUser")).thenReturn(Optional.empty());
@@ -0,0 +1,209 @@
+package org.example.gym.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import javax.jms.Connection;
+import javax.jms.ConnectionFactory;
+import javax.jms.JMSException;
+import javax.jms.MessageConsumer;
+import javax.jms.MessageProducer;
+import javax.jms.Queue;
+import javax.jms.Session;
+import javax.jms.TextMessage;
+import org.example.gym.dto.request.TrainerWorkloadRequestDto;
+import org.example.gym.service.WorkloadDeadLetterReplayService.ReplayResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class WorkloadDeadLetterReplayServiceTest {
+
+    private static final String DEAD_LETTER = "{\"originalMessage\":{\"trainerUsername\":\"john.doe\","
+            + "\"actionType\":\"ADD\",\"trainingDuration\":60,\"eventId\":\"event-1\",\"sequence\":3},"
+            + "\"error\":\"UncategorizedJmsException: broker down\",\"timestamp\":1,\"retryCount\":5}";
+
+    @Mock
+    private ConnectionFactory connectionFactory;
+
+    @Mock
+    private JmsProducerService jmsProducerService;
+
+    @Mock
+    private MetricsService metricsService;
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private Session session;
+
+    @Mock
+    private MessageConsumer consumer;
+
+    @Mock
+    private MessageProducer producer;
+
+    @Mock
+    private Queue updateQueue;
+
+    @Mock
+    private Queue parkedQueue;
+
+    @Mock
+    private TextMessage republished;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    private WorkloadDeadLetterReplayService replayService;
+
+    @BeforeEach
+    public void setUp() {
+        replayService = service(1000, false);
+    }
+
+    @Test
+    public void testReplay_RepublishesUntilQueueIsEmpty() throws Exception {
+        mockSession();
+        TextMessage first = deadLetter(DEAD_LETTER);
+        TextMessage second = deadLetter(DEAD_LETTER);
+        when(consumer.receive(anyLong())).thenReturn(first, second, null);
+        when(jmsProducerService.createMessage(any(), any())).thenReturn(republished);
+
+        ReplayResult result = replayService.replay(10);
+
+        assertEquals(new ReplayResult(2, 0), result);
+        assertEquals(result, replayService.getLastResult());
+        verify(producer, times(2)).send(updateQueue, republished);
+        verify(session, times(2)).commit();
+        verify(metricsService).recordDeadLetterReplay(2, 0);
+    }
+
+    @Test
+    public void testReplay_KeepsEventIdAndSequence() throws Exception {
+        mockSession();
+        TextMessage message = deadLetter(DEAD_LETTER);
+        when(consumer.receive(anyLong())).thenReturn(message, (TextMessage) null);
+        TrainerWorkloadRequestDto expected = new TrainerWorkloadRequestDto();
+        expected.setTrainerUsername("john.doe");
+        expected.setActionType("ADD");
+        expected.setTrainingDuration(60);
+        expected.setEventId("event-1");
+        expected.setSequence(3L);
+        when(jmsProducerService.createMessage(session, expected)).thenReturn(republished);
+
+        replayService.replay(10);
+
+        verify(producer).send(updateQueue, republished);
+    }
+
+    @Test
+    public void testReplay_StopsAtLimit() throws Exception {
+        mockSession();
+        TextMessage message = deadLetter(DEAD_LETTER);
+        when(consumer.receive(anyLong())).thenReturn(message);
+        when(jmsProducerService.createMessage(any(), any())).thenReturn(republished);
+
+        ReplayResult result = replayService.replay(3);
+
+        assertEquals(new ReplayResult(3, 0), result);
+        verify(consumer, times(3)).receive(anyLong());
+    }
+
+    @Test
+    public void testConstructor_RejectsNonPositiveRate() {
+        assertThrows(IllegalArgumentException.class, () -> service(0, false));
+        assertThrows(IllegalArgumentException.class, () -> service(-1, false));
+        assertThrows(IllegalArgumentException.class, () -> service(Double.NaN, false));
+    }
+
+    @Test
+    public void testReplay_ParksUnreadableMessage() throws Exception {
+        mockSession();
+        TextMessage unreadable = deadLetter("not json");
+        when(consumer.receive(anyLong())).thenReturn(unreadable, (TextMessage) null);
+
+        ReplayResult result = replayService.replay(10);
+
+        assertEquals(new ReplayResult(0, 1), result);
+        verify(producer).send(parkedQueue, unreadable);
+        verify(session).commit();
+        verify(producer, never()).send(updateQueue, republished);
+    }
+
+    @Test
+    public void testReplay_RollsBackAndStopsWhenRepublishFails() throws Exception {
+        mockSession();
+        TextMessage message = deadLetter(DEAD_LETTER);
+        when(consumer.receive(anyLong())).thenReturn(message);
+        when(jmsProducerService.createMessage(any(), any())).thenReturn(republished);
+        doThrow(new JMSException("broker down")).when(producer).send(updateQueue, republished);
+
+        ReplayResult result = replayService.replay(10);
+
+        assertEquals(new ReplayResult(0, 1), result);
+        verify(session).rollback();
+        verify(session, never()).commit();
+        verify(consumer, times(1)).receive(anyLong());
+        verify(session).close();
+    }
+
+    @Test
+    public void testReplay_ThrottlesRepublishing() throws Exception {
+        replayService = service(20, false);
+        mockSession();
+        TextMessage message = deadLetter(DEAD_LETTER);
+        when(consumer.receive(anyLong())).thenReturn(message);
+        when(jmsProducerService.createMessage(any(), any())).thenReturn(republished);
+
+        long start = System.nanoTime();
+        replayService.replay(3);
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        assertTrue(elapsedMillis >= 90, "3 messages at 20 per second took " + elapsedMillis + " ms");
+    }
+
+    @Test
+    public void testReplayScheduled_DisabledByDefault() {
+        replayService.replayScheduled();
+
+        verifyNoInteractions(connectionFactory);
+    }
+
+    private WorkloadDeadLetterReplayService service(double ratePerSecond, boolean scheduled) {
+        return new WorkloadDeadLetterReplayService(connectionFactory, jmsProducerService, objectMapper,
+                metricsService, 100, ratePerSecond, scheduled);
+    }
+
+    private void mockSession() throws JMSException {
+        Queue deadLetterQueue = mock(Queue.class);
+        when(connectionFactory.createConnection()).thenReturn(connection);
+        when(connection.createSession(true, Session.SESSION_TRANSACTED)).thenReturn(session);
+        when(session.createQueue("trainer.training.dlq")).thenReturn(deadLetterQueue);
+        when(session.createQueue("trainer.training.update")).thenReturn(updateQueue);
+        when(session.createQueue("trainer.training.dlq.parked")).thenReturn(parkedQueue);
+        when(session.createConsumer(deadLetterQueue)).thenReturn(consumer);
+        when(session.createProducer(null)).thenReturn(producer);
+    }
+
+    private static TextMessage deadLetter(String text) throws JMSException {
+        TextMessage message = mock(TextMessage.class);
+        when(message.getText()).thenReturn(text);
+        return message;
+    }
+}
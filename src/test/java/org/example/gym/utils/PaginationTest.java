@@ -0,0 +1,22 @@
+package org.example.gym.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.example.gym.exeption.ValidationException;
+import org.junit.jupiter.api.Test;
+
+public class PaginationTest {
+
+    @Test
+    public void testPageRequest_DefaultAndCap() {
+        assertEquals(Pagination.DEFAULT_PAGE_SIZE, Pagination.pageRequest(null).getPageSize());
+        assertEquals(Pagination.MAX_PAGE_SIZE, Pagination.pageRequest(10_000).getPageSize());
+        assertEquals(5, Pagination.pageRequest(5).getPageSize());
+    }
+
+    @Test
+    public void testPageRequest_NonPositive() {
+        assertThrows(ValidationException.class, () -> Pagination.pageRequest(0));
+    }
+}
@@ -0,0 +1,52 @@
+package org.example.gym.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.LocalDateTime;
+import org.example.gym.exeption.ValidationException;
+import org.junit.jupiter.api.Test;
+
+public class TrainingPaginationTest {
+
+    @Test
+    public void testCursor_RoundTrip() {
+        LocalDateTime trainingDate = LocalDateTime.parse("2024-05-01T10:15:30.123");
+
+        String cursor = TrainingPagination.encodeCursor(trainingDate, 42L);
+        TrainingPagination.Cursor decoded = TrainingPagination.decodeCursor(cursor);
+
+        assertEquals(trainingDate, decoded.trainingDate());
+        assertEquals(42L, decoded.id());
+    }
+
+    @Test
+    public void testDecodeCursor_FirstPage() {
+        assertNull(TrainingPagination.decodeCursor(null));
+        assertNull(TrainingPagination.decodeCursor(""));
+    }
+
+    @Test
+    public void testDecodeCursor_Malformed() {
+        assertThrows(ValidationException.class, () -> TrainingPagination.decodeCursor("not-a-cursor"));
+    }
+
+    @Test
+    public void testBounds_OpenRange() {
+        assertEquals(TrainingPagination.EARLIEST_TRAINING_DATE, TrainingPagination.lowerBound(null));
+        assertEquals(TrainingPagination.LATEST_TRAINING_DATE, TrainingPagination.upperBound(null, null));
+    }
+
+    @Test
+    public void testUpperBound_NarrowedToCursor() {
+        LocalDateTime periodTo = LocalDateTime.parse("2024-06-01T00:00:00");
+        LocalDateTime cursorDate = LocalDateTime.parse("2024-05-01T10:15:30");
+
+        assertEquals(cursorDate,
+                TrainingPagination.upperBound(periodTo, new TrainingPagination.Cursor(cursorDate, 42L)));
+        assertEquals(periodTo, TrainingPagination.upperBound(periodTo,
+                new TrainingPagination.Cursor(LocalDateTime.parse("2024-07-01T00:00:00"), 42L)));
+        assertEquals(cursorDate, TrainingPagination.upperBound(null, new TrainingPagination.Cursor(cursorDate, 1L)));
+    }
+}